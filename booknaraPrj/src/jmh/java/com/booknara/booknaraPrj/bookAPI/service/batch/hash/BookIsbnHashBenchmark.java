@@ -0,0 +1,53 @@
+package com.booknara.booknaraPrj.bookAPI.service.batch.hash;
+
+import com.booknara.booknaraPrj.bookAPI.domain.BookIsbnTempDTO;
+import com.booknara.booknaraPrj.jmh.BenchCorpus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * [BookIsbnHashBenchmark]
+ * 도서 메타 변경 감지 해시 (BookIsbnHash.compute) — 동기화 배치에서 도서마다 호출
+ * - 1 op = 코퍼스 도서명으로 만든 DTO 전체 1회 해시
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BookIsbnHashBenchmark {
+
+    private List<BookIsbnTempDTO> books;
+
+    @Setup
+    public void setup() {
+        List<String> titles = BenchCorpus.koreanTitles();
+        books = new ArrayList<>(titles.size());
+        for (int i = 0; i < titles.size(); i++) {
+            BookIsbnTempDTO dto = new BookIsbnTempDTO();
+            dto.setIsbn13(String.valueOf(9788900000000L + i));
+            dto.setBookTitle(titles.get(i));
+            dto.setAuthors("홍길동 (지은이),  김철수 (옮긴이)");
+            dto.setPublisher("창비");
+            dto.setDescription("  " + titles.get(i) + " — 출판사 제공 책 소개.\t여러 줄에 걸친   설명과 공백이 섞여 있는 본문입니다. ".repeat(4));
+            dto.setPubdate("2024" + String.format("%02d%02d", i % 12 + 1, i % 28 + 1));
+            dto.setNaverImage("https://shopping-phinf.pstatic.net/main_" + (30000000 + i) + "/" + (30000000 + i) + ".20240101.jpg");
+            dto.setAladinImageBig("https://image.aladin.co.kr/product/" + i + "/cover500/" + dto.getIsbn13() + "_1.jpg");
+            dto.setGenreId(50993 + (i % 7));
+            books.add(dto);
+        }
+    }
+
+    @Benchmark
+    public void compute(Blackhole bh) {
+        for (BookIsbnTempDTO dto : books) bh.consume(BookIsbnHash.compute(dto));
+    }
+}
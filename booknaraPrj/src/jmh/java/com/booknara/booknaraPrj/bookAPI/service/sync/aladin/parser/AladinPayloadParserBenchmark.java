@@ -0,0 +1,51 @@
+package com.booknara.booknaraPrj.bookAPI.service.sync.aladin.parser;
+
+import com.booknara.booknaraPrj.jmh.BenchCorpus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * [AladinPayloadParserBenchmark]
+ * 알라딘 원문 응답 정규화 + JSON 파싱 (AladinPayloadParser) — 응답 형식별
+ * - item_*      : 정상 응답 (순수 JSON / callback(...) / callback('ItemLookUp', ...) 래퍼)
+ * - no_item     : 결과 없음
+ * - error_*     : JSON 에러 본문 / JSON 이 아닌 JS 객체 에러 (regex 추출 경로)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AladinPayloadParserBenchmark {
+
+    @Param({"item_plain.json", "item_callback.js", "item_callback_args.js", "no_item.json", "error_json.json", "error_js.js"})
+    public String payloadFile;
+
+    private AladinPayloadParser parser;
+    private String raw;
+
+    @Setup
+    public void setup() {
+        parser = new AladinPayloadParser();
+        raw = BenchCorpus.aladinPayload(payloadFile);
+    }
+
+    @Benchmark
+    public Object normalizeAladinRaw() {
+        return parser.normalizeAladinRaw(raw);
+    }
+
+    @Benchmark
+    public Object parseJsonToResult() {
+        Object result = parser.parseJsonToResult("9788936434120", raw);
+        // 실패 예산(ISBN당 3회)이 결과를 바꾸지 않도록 매번 초기화
+        parser.clearParseFail("9788936434120");
+        return result;
+    }
+}
@@ -0,0 +1,56 @@
+package com.booknara.booknaraPrj.bookSearch.service;
+
+import com.booknara.booknaraPrj.jmh.BenchCorpus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * [SearchNormalizeBenchmark]
+ * 검색어 정규화 (BookSearchService) — 검색 요청마다 두 번씩 호출되는 regex 경로
+ * - 1 op = 코퍼스 전체(도서명 수십 개) 1회 처리 → 결과는 "코퍼스 1회당" 시간/할당량
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SearchNormalizeBenchmark {
+
+    private List<String> titles;
+
+    @Setup
+    public void setup() {
+        titles = BenchCorpus.koreanTitles();
+    }
+
+    @Benchmark
+    public void normalizeFulltextKeyword(Blackhole bh) {
+        for (String t : titles) bh.consume(BookSearchService.normalizeFulltextKeyword(t));
+    }
+
+    @Benchmark
+    public void normalizeFulltextJoined(Blackhole bh) {
+        for (String t : titles) bh.consume(BookSearchService.normalizeFulltextJoined(t));
+    }
+
+    @Benchmark
+    public void sanitizeToken(Blackhole bh) {
+        for (String t : titles) bh.consume(BookSearchService.sanitizeToken(t));
+    }
+
+    /** 실제 검색 1회와 같은 조합 (keyword + joined) */
+    @Benchmark
+    public void searchRequest(Blackhole bh) {
+        for (String t : titles) {
+            bh.consume(BookSearchService.normalizeFulltextKeyword(t));
+            bh.consume(BookSearchService.normalizeFulltextJoined(t));
+        }
+    }
+}
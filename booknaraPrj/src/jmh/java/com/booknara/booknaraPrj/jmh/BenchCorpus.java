@@ -0,0 +1,39 @@
+package com.booknara.booknaraPrj.jmh;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * [BenchCorpus]
+ * 벤치마크 입력 코퍼스(src/jmh/resources/corpus) 로더입니다.
+ * - korean_titles.txt : 도서명/검색어 (띄어쓰기 오류, 특수문자, BOOLEAN 연산자 포함)
+ * - aladin/*          : 알라딘 ItemLookUp 원문 응답 (JSON / JS callback / 에러 본문)
+ */
+public final class BenchCorpus {
+
+    private BenchCorpus() {}
+
+    /** 도서명 목록 ('#' 주석, 빈 줄 제외) */
+    public static List<String> koreanTitles() {
+        return read("corpus/korean_titles.txt").lines()
+                .filter(l -> !l.isBlank() && !l.startsWith("#"))
+                .toList();
+    }
+
+    /** 알라딘 원문 응답 */
+    public static String aladinPayload(String fileName) {
+        return read("corpus/aladin/" + fileName);
+    }
+
+    private static String read(String path) {
+        try (InputStream in = BenchCorpus.class.getClassLoader().getResourceAsStream(path)) {
+            if (in == null) throw new IllegalStateException("코퍼스 파일이 없습니다: " + path);
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
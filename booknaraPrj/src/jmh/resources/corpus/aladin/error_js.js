@@ -0,0 +1 @@
+{ errorCode : 8, errorMessage : '일일 쿼리 한도를 초과하였습니다.' };
\ No newline at end of file
@@ -0,0 +1 @@
+callback({"version": "20131101", "logo": "http://image.aladin.co.kr/img/header/2011/aladin_logo_new.gif", "title": "알라딘 상품정보 - 채식주의자", "link": "http://www.aladin.co.kr/shop/wproduct.aspx", "pubDate": "Mon, 20 Oct 2025 10:00:00 GMT", "totalResults": 1, "startIndex": 1, "itemsPerPage": 1, "query": "isbn13=9788936434120", "searchCategoryId": 0, "searchCategoryName": "", "item": [{"title": "채식주의자", "link": "http://www.aladin.co.kr/shop/wproduct.aspx?ItemId=4000000", "author": "한강 (지은이)", "pubDate": "2016-05-10", "description": "2016년 맨부커 인터내셔널 수상작. 깊은 상처를 간직한 인물들의 이야기를 섬세한 문장으로 그려낸 장편소설로, 폭력과 인간의 존엄에 대해 질문한다. 2016년 맨부커 인터내셔널 수상작. 깊은 상처를 간직한 인물들의 이야기를 섬세한 문장으로 그려낸 장편소설로, 폭력과 인간의 존엄에 대해 질문한다. 2016년 맨부커 인터내셔널 수상작. 깊은 상처를 간직한 인물들의 이야기를 섬세한 문장으로 그려낸 장편소설로, 폭력과 인간의 존엄에 대해 질문한다. ", "isbn": "8900000000", "isbn13": "9788900000000", "itemId": 4000000, "priceSales": 13500, "priceStandard": 15000, "mallType": "BOOK", "stockStatus": "", "mileage": 750, "cover": "https://image.aladin.co.kr/product/0/cover500/8900000000_1.jpg", "categoryId": 50993, "categoryName": "국내도서>소설/시/희곡>한국소설>2000년대 이후 한국소설", "publisher": "창비", "salesPoint": 123456, "adult": false, "fixedPrice": true, "customerReviewRank": 9, "subInfo": {"subTitle": "", "originalTitle": "", "itemPage": 247}}]});
\ No newline at end of file
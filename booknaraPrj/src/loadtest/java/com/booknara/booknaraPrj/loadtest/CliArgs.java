@@ -0,0 +1,51 @@
+package com.booknara.booknaraPrj.loadtest;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * [CliArgs]
+ * --key=value 형식 인자 파서 (값이 없으면 "true")
+ */
+final class CliArgs {
+
+    private final Map<String, String> values = new HashMap<>();
+
+    CliArgs(String[] args) {
+        for (String arg : args) {
+            if (!arg.startsWith("--")) throw new IllegalArgumentException("알 수 없는 인자: " + arg);
+            int eq = arg.indexOf('=');
+            if (eq < 0) values.put(arg.substring(2), "true");
+            else values.put(arg.substring(2, eq), arg.substring(eq + 1));
+        }
+    }
+
+    String get(String key, String defaultValue) {
+        return values.getOrDefault(key, defaultValue);
+    }
+
+    int getInt(String key, int defaultValue) {
+        String v = values.get(key);
+        return v == null ? defaultValue : Integer.parseInt(v.replace("_", ""));
+    }
+
+    long getLong(String key, long defaultValue) {
+        String v = values.get(key);
+        return v == null ? defaultValue : Long.parseLong(v.replace("_", ""));
+    }
+
+    boolean has(String key) {
+        return values.containsKey(key);
+    }
+
+    /** 30s / 2m / 500ms */
+    Duration getDuration(String key, Duration defaultValue) {
+        String v = values.get(key);
+        if (v == null) return defaultValue;
+        if (v.endsWith("ms")) return Duration.ofMillis(Long.parseLong(v.substring(0, v.length() - 2)));
+        if (v.endsWith("s")) return Duration.ofSeconds(Long.parseLong(v.substring(0, v.length() - 1)));
+        if (v.endsWith("m")) return Duration.ofMinutes(Long.parseLong(v.substring(0, v.length() - 1)));
+        return Duration.ofSeconds(Long.parseLong(v));
+    }
+}
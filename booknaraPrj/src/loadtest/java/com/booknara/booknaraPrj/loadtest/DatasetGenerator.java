@@ -0,0 +1,483 @@
+package com.booknara.booknaraPrj.loadtest;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * [DatasetGenerator]
+ * 부하 테스트용 합성 데이터셋을 로컬 MySQL 스키마에 채웁니다.
+ * - 대상: GENRE, BOOK_ISBN, BOOKS, USERS, LENDS, RESERVATIONS, FEEDS/REVIEW_DETAIL, NOTIFICATION
+ * - 분포: 도서 인기·사용자 활동량은 Zipf, 대출일은 최근일수록 많게, 활성 대출/연체/예약은 인기 도서에 집중
+ * - 같은 --seed 면 같은 데이터 → 측정 간 비교 가능
+ * - 사용자: lt000001 ~ (비밀번호 공통 --password), 경합 시나리오용 전자책: ISBN 979000000000x (사본 --race-copies 권)
+ * - 경합 전용 사용자: lr000001 ~ (--race-users 명) — 대출/예약/연체가 전혀 없어 confirm-free 가 대여 한도·연체로 거절되지 않음
+ *
+ * 사용 예 (./gradlew loadtestData -PloadtestArgs="...")
+ *   --jdbc-url=jdbc:mysql://localhost:3306/booknara_load --db-user=root --db-password=...
+ *   --preset=prod (= --titles=200000 --copies=800000 --users=100000 --lends=5000000)  --truncate
+ */
+public class DatasetGenerator {
+
+    private static final int BATCH = 2_000;
+    private static final DateTimeFormatter DAY = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    private final Connection conn;
+    private final Random random;
+    private final LocalDateTime now = LocalDateTime.now().withNano(0);
+
+    private final int titles;
+    private final int copies;
+    private final int users;
+    private final long lends;
+    private final int reservations;
+    private final int reviews;
+    private final long notifications;
+    private final int raceTitles;
+    private final int raceCopies;
+    private final int raceUsers;
+    private final String password;
+
+    // 생성 중 참조하는 인덱스 (title 순번 → 첫 BOOK_ID / 사본 수)
+    private long[] firstCopyId;
+    private int[] copyCount;
+    private String[] isbn;
+    private int[] childGenreIds;
+
+    DatasetGenerator(Connection conn, CliArgs args) {
+        this.conn = conn;
+        boolean prod = "prod".equals(args.get("preset", ""));
+        this.random = new Random(args.getLong("seed", 42));
+        this.titles = args.getInt("titles", prod ? 200_000 : 20_000);
+        this.copies = Math.max(titles, args.getInt("copies", prod ? 800_000 : 80_000));
+        this.users = args.getInt("users", prod ? 100_000 : 10_000);
+        this.lends = args.getLong("lends", prod ? 5_000_000 : 500_000);
+        this.reservations = args.getInt("reservations", prod ? 200_000 : 20_000);
+        this.reviews = args.getInt("reviews", prod ? 500_000 : 50_000);
+        this.notifications = args.getLong("notifications", prod ? 2_000_000 : 200_000);
+        this.raceTitles = args.getInt("race-titles", 50);
+        this.raceCopies = args.getInt("race-copies", 3);
+        this.raceUsers = args.getInt("race-users", 2_000);
+        this.password = args.get("password", "loadtest1!");
+    }
+
+    public static void main(String[] argv) throws Exception {
+        CliArgs args = new CliArgs(argv);
+        String url = args.get("jdbc-url", "jdbc:mysql://localhost:3306/booknara_load");
+        if (!url.contains("rewriteBatchedStatements")) {
+            url += (url.contains("?") ? "&" : "?") + "rewriteBatchedStatements=true";
+        }
+
+        try (Connection conn = DriverManager.getConnection(url, args.get("db-user", "root"), args.get("db-password", ""))) {
+            DatasetGenerator generator = new DatasetGenerator(conn, args);
+            generator.run(args.has("truncate"));
+        }
+    }
+
+    void run(boolean truncate) throws SQLException {
+        long started = System.currentTimeMillis();
+        conn.setAutoCommit(false);
+        try (Statement st = conn.createStatement()) {
+            st.execute("SET foreign_key_checks = 0");
+            st.execute("SET unique_checks = 0");
+        }
+
+        // 0) 빈 스키마 확인 (운영/개발 DB 를 덮어쓰지 않도록)
+        if (truncate) {
+            truncateAll();
+        } else if (count("BOOK_ISBN") > 0 || count("USERS") > 0) {
+            throw new IllegalStateException("대상 스키마가 비어 있지 않습니다. 전용 스키마를 쓰거나 --truncate 를 지정하세요.");
+        }
+
+        step("GENRE", this::genres);
+        step("BOOK_ISBN", this::bookIsbn);
+        step("BOOKS", this::books);
+        step("USERS", this::users);
+        step("LENDS", this::lends);
+        step("RESERVATIONS", this::reservations);
+        step("FEEDS/REVIEW_DETAIL", this::reviews);
+        step("NOTIFICATION", this::notifications);
+
+        try (Statement st = conn.createStatement()) {
+            st.execute("SET unique_checks = 1");
+            st.execute("SET foreign_key_checks = 1");
+        }
+        System.out.printf("dataset ready in %ds (users lt000001..lt%06d, race users lr000001..lr%06d, password=%s)%n",
+                (System.currentTimeMillis() - started) / 1000, users, raceUsers, password);
+    }
+
+    // =========================
+    // 테이블별 생성
+    // =========================
+
+    /** 국내도서 부모 장르 10개 × 자식 8개 (자식 ID = 부모*100 + n) */
+    private void genres() throws SQLException {
+        int parents = 10, perParent = 8;
+        childGenreIds = new int[parents * perParent];
+        try (PreparedStatement ps = conn.prepareStatement(
+                "INSERT INTO GENRE (GENRE_ID, GENRE_NM, MALL, PARENT_ID, CREATED_AT) VALUES (?, ?, '국내도서', ?, ?)")) {
+            int c = 0;
+            for (int p = 1; p <= parents; p++) {
+                ps.setInt(1, p);
+                ps.setString(2, SyntheticText.NOUNS.get(p) + " 분야");
+                ps.setObject(3, null);
+                ps.setTimestamp(4, Timestamp.valueOf(now));
+                ps.addBatch();
+                for (int k = 1; k <= perParent; k++) {
+                    int id = p * 100 + k;
+                    childGenreIds[c++] = id;
+                    ps.setInt(1, id);
+                    ps.setString(2, SyntheticText.NOUNS.get((p * perParent + k) % SyntheticText.NOUNS.size()));
+                    ps.setInt(3, p);
+                    ps.setTimestamp(4, Timestamp.valueOf(now));
+                    ps.addBatch();
+                }
+            }
+            ps.executeBatch();
+        }
+        conn.commit();
+    }
+
+    /** 일반 도서 + 경합용 전자책 (앞쪽 raceTitles 개) */
+    private void bookIsbn() throws SQLException {
+        int total = titles + raceTitles;
+        isbn = new String[total];
+        Zipf genreZipf = new Zipf(childGenreIds.length, 0.8);
+
+        try (PreparedStatement ps = conn.prepareStatement(
+                "INSERT INTO BOOK_ISBN (ISBN13, BOOK_TITLE, AUTHORS, DESCRIPTION, PUBLISHER, PUBDATE,"
+                        + " NAVER_IMAGE, ALADIN_IMAGE_BIG, EBOOK_YN, EPUB, GENRE_ID, DATA_HASH)"
+                        + " VALUES (?, ?, ?, ?, ?, ?, NULL, ?, ?, NULL, ?, ?)")) {
+            for (int t = 0; t < total; t++) {
+                boolean race = t < raceTitles;
+                isbn[t] = race ? String.valueOf(9790000000000L + t + 1) : String.valueOf(9788900000000L + t);
+                boolean ebook = race || random.nextInt(100) < 10;
+
+                String title = SyntheticText.title(random);
+                ps.setString(1, isbn[t]);
+                ps.setString(2, race ? "[경합] " + title : title);
+                ps.setString(3, SyntheticText.person(random) + " (지은이)");
+                ps.setString(4, title + " — " + SyntheticText.noun(random) + "과 " + SyntheticText.noun(random) + "에 관한 이야기입니다.");
+                ps.setString(5, SyntheticText.publisher(random));
+                ps.setString(6, LocalDate.of(1990, 1, 1).plusDays(skewRecent(12_000)).format(DAY));
+                ps.setString(7, "https://image.aladin.co.kr/product/" + t + "/cover500/" + isbn[t] + "_1.jpg");
+                ps.setString(8, ebook ? "Y" : "N");
+                ps.setInt(9, childGenreIds[genreZipf.next(random)]);
+                ps.setString(10, Long.toHexString(random.nextLong()));
+                ps.addBatch();
+                flush(ps, t);
+            }
+            ps.executeBatch();
+        }
+        conn.commit();
+    }
+
+    /** 도서당 1권 + 나머지는 인기순(Zipf) 배분, 경합용은 raceCopies 권 고정 */
+    private void books() throws SQLException {
+        int total = titles + raceTitles;
+        copyCount = new int[total];
+        firstCopyId = new long[total];
+        for (int t = 0; t < raceTitles; t++) copyCount[t] = raceCopies;
+        for (int t = raceTitles; t < total; t++) copyCount[t] = 1;
+
+        Zipf popularity = new Zipf(titles, 1.0);
+        for (int i = titles; i < copies; i++) copyCount[raceTitles + popularity.next(random)]++;
+
+        try (PreparedStatement ps = conn.prepareStatement(
+                "INSERT INTO BOOKS (BOOK_ID, ISBN13, BOOK_STATE, CREATED_AT) VALUES (?, ?, ?, ?)")) {
+            long id = 1;
+            int n = 0;
+            for (int t = 0; t < total; t++) {
+                firstCopyId[t] = id;
+                for (int c = 0; c < copyCount[t]; c++) {
+                    ps.setLong(1, id++);
+                    ps.setString(2, isbn[t]);
+                    ps.setString(3, t >= raceTitles && random.nextInt(1000) == 0 ? "L" : "N"); // 분실 0.1%
+                    ps.setTimestamp(4, Timestamp.valueOf(now.minusDays(random.nextInt(1000))));
+                    ps.addBatch();
+                    flush(ps, n++);
+                }
+            }
+            ps.executeBatch();
+        }
+        conn.commit();
+    }
+
+    /**
+     * 일반 사용자 lt000001~ (Zipf 로 대출/예약/리뷰/알림이 몰림) + 경합 전용 사용자 lr000001~
+     * 경합 전용 사용자는 이후 단계의 Zipf 대상(1..users)에 포함되지 않으므로 이력이 없는 정상 상태로 남습니다.
+     */
+    private void users() throws SQLException {
+        String hash = new BCryptPasswordEncoder().encode(password); // 전원 같은 비밀번호 (해시 1회)
+
+        try (PreparedStatement ps = conn.prepareStatement(
+                "INSERT INTO USERS (USER_ID, USER_NM, PROFILE_NM, PASSWORD, GENDER, BIRTHDAY, ADDR, DETAIL_ADDR, ZIPCODE,"
+                        + " PHONE_NO, EMAIL, SMS_YN, USER_ROLE, USER_STATE, USE_IMG, CREATED_AT)"
+                        + " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 1, ?, 0, ?)")) {
+            for (int u = 1; u <= users; u++) {
+                ps.setString(1, userId(u));
+                ps.setString(2, SyntheticText.person(random));
+                ps.setString(3, "부하" + String.format("%06d", u));
+                ps.setString(4, hash);
+                ps.setString(5, random.nextBoolean() ? "M" : "F");
+                ps.setObject(6, birthday());
+                ps.setString(7, "서울특별시 " + SyntheticText.NOUNS.get(random.nextInt(SyntheticText.NOUNS.size())) + "로 " + (1 + random.nextInt(300)));
+                ps.setString(8, (101 + random.nextInt(20)) + "동 " + (101 + random.nextInt(1500)) + "호");
+                ps.setString(9, String.format("%05d", random.nextInt(100_000)));
+                ps.setString(10, String.format("010-%04d-%04d", random.nextInt(10_000), random.nextInt(10_000)));
+                ps.setString(11, userId(u) + "@loadtest.local");
+                ps.setString(12, random.nextInt(3) == 0 ? "Y" : "N");
+                ps.setString(13, random.nextInt(200) == 0 ? "3" : "1"); // 차단 0.5%
+                ps.setTimestamp(14, Timestamp.valueOf(now.minusDays(skewRecent(1_000))));
+                ps.addBatch();
+                flush(ps, u);
+            }
+            for (int u = 1; u <= raceUsers; u++) {
+                ps.setString(1, raceUserId(u));
+                ps.setString(2, SyntheticText.person(random));
+                ps.setString(3, "경합" + String.format("%06d", u));
+                ps.setString(4, hash);
+                ps.setString(5, random.nextBoolean() ? "M" : "F");
+                ps.setObject(6, birthday());
+                ps.setString(7, "서울특별시 경합로 " + u);
+                ps.setString(8, "101동 101호");
+                ps.setString(9, "00000");
+                ps.setString(10, String.format("010-9%03d-%04d", u / 10_000, u % 10_000));
+                ps.setString(11, raceUserId(u) + "@loadtest.local");
+                ps.setString(12, "N");
+                ps.setString(13, "1"); // 차단 없음
+                ps.setTimestamp(14, Timestamp.valueOf(now.minusDays(30)));
+                ps.addBatch();
+                flush(ps, users + u);
+            }
+            ps.executeBatch();
+        }
+        conn.commit();
+    }
+
+    /**
+     * 대출 이력
+     * - 사용자·도서 모두 Zipf, 대출일은 최근 3년(최근일수록 많음)
+     * - 최근 14일 대출 일부는 미반납(활성) — 사본당 활성 대출 1건, 그중 1% 는 반납 기한 경과(연체)
+     */
+    private void lends() throws SQLException {
+        Zipf userZipf = new Zipf(users, 0.8);
+        Zipf titleZipf = new Zipf(titles, 1.0);
+        BitSet activeCopy = new BitSet();
+
+        try (PreparedStatement ps = conn.prepareStatement(
+                "INSERT INTO LENDS (LEND_ID, BOOK_ID, USER_ID, ISBN13, OVER_DUE, LEND_DATE, RETURN_DUE_DATE,"
+                        + " RETURN_DONE_AT, EXTEND_CNT, DELIVERY_STATUS, CREATED_AT)"
+                        + " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, 'NONE', ?)")) {
+            for (long i = 0; i < lends; i++) {
+                int t = raceTitles + titleZipf.next(random);
+                long bookId = firstCopyId[t] + random.nextInt(copyCount[t]);
+                LocalDateTime lendDate = now.minusMinutes(skewRecent(3 * 365 * 24 * 60));
+                LocalDateTime due = lendDate.plusDays(14);
+
+                boolean recent = lendDate.isAfter(now.minusDays(14));
+                boolean active = (recent && random.nextInt(3) > 0 || random.nextInt(2000) == 0)
+                        && !activeCopy.get((int) bookId);
+                if (active) activeCopy.set((int) bookId);
+                boolean overdue = active && due.isBefore(now);
+
+                ps.setString(1, "LEND_" + lendDate.format(DAY) + "_" + String.format("%09d", i));
+                ps.setLong(2, bookId);
+                ps.setString(3, userId(1 + userZipf.next(random)));
+                ps.setString(4, isbn[t]);
+                ps.setString(5, overdue ? "Y" : "N");
+                ps.setTimestamp(6, Timestamp.valueOf(lendDate));
+                ps.setTimestamp(7, Timestamp.valueOf(due));
+                ps.setTimestamp(8, active ? null : Timestamp.valueOf(lendDate.plusDays(1 + random.nextInt(14))));
+                ps.setInt(9, random.nextInt(10) == 0 ? 1 : 0);
+                ps.setTimestamp(10, Timestamp.valueOf(lendDate));
+                ps.addBatch();
+                flush(ps, i);
+            }
+            ps.executeBatch();
+        }
+        conn.commit();
+    }
+
+    /** 인기 도서에 몰린 예약 (ACTIVE 는 도서당 최대 10건 — 서비스 제한과 동일) */
+    private void reservations() throws SQLException {
+        Zipf userZipf = new Zipf(users, 0.8);
+        Zipf titleZipf = new Zipf(titles, 1.2);
+        int[] activePerTitle = new int[titles + raceTitles];
+        Set<Long> activePairs = new HashSet<>();
+
+        try (PreparedStatement ps = conn.prepareStatement(
+                "INSERT INTO RESERVATIONS (RSV_ID, USER_ID, ISBN13, RSV_DATE, RSV_STATUS, CREATED_AT) VALUES (?, ?, ?, ?, ?, ?)")) {
+            for (int i = 0; i < reservations; i++) {
+                int t = raceTitles + titleZipf.next(random);
+                int u = 1 + userZipf.next(random);
+                LocalDateTime at = now.minusMinutes(skewRecent(365 * 24 * 60));
+
+                String status;
+                long pair = (long) t * (users + 1) + u;
+                if (at.isAfter(now.minusDays(30)) && activePerTitle[t] < 10 && activePairs.add(pair)) {
+                    status = "ACTIVE";
+                    activePerTitle[t]++;
+                } else {
+                    int roll = random.nextInt(10);
+                    status = roll < 6 ? "FULFILLED" : roll < 9 ? "CANCELLED" : "EXPIRED";
+                }
+
+                ps.setString(1, "RSV_" + at.format(DAY) + "_" + String.format("%08d", i));
+                ps.setString(2, userId(u));
+                ps.setString(3, isbn[t]);
+                ps.setTimestamp(4, Timestamp.valueOf(at));
+                ps.setString(5, status);
+                ps.setTimestamp(6, Timestamp.valueOf(at));
+                ps.addBatch();
+                flush(ps, i);
+            }
+            ps.executeBatch();
+        }
+        conn.commit();
+    }
+
+    /** 리뷰: 사용자·도서 쌍은 중복 없이, 평점은 4~5 에 치우침 */
+    private void reviews() throws SQLException {
+        Zipf userZipf = new Zipf(users, 0.8);
+        Zipf titleZipf = new Zipf(titles, 1.0);
+        Set<Long> pairs = new HashSet<>();
+
+        try (PreparedStatement feed = conn.prepareStatement(
+                "INSERT INTO FEEDS (FEED_ID, USER_ID, ISBN13, FEED_CATEGORY, FEED_TITLE, CONTENT, FEED_STATUS, IS_BLIND, IS_DELETED, CREATED_AT)"
+                        + " VALUES (?, ?, ?, 'REVIEW', ?, ?, 0, 'N', ?, ?)");
+             PreparedStatement detail = conn.prepareStatement(
+                     "INSERT INTO REVIEW_DETAIL (FEED_ID, RATE) VALUES (?, ?)")) {
+            int n = 0;
+            for (int attempt = 0; n < reviews && attempt < reviews * 3; attempt++) {
+                int t = raceTitles + titleZipf.next(random);
+                int u = 1 + userZipf.next(random);
+                if (!pairs.add((long) t * (users + 1) + u)) continue;
+
+                LocalDateTime at = now.minusMinutes(skewRecent(2 * 365 * 24 * 60));
+                String feedId = "F_" + at.format(DAY) + "_" + String.format("%08d", n);
+                int[] rates = {5, 5, 5, 4, 4, 4, 3, 2, 1};
+
+                feed.setString(1, feedId);
+                feed.setString(2, userId(u));
+                feed.setString(3, isbn[t]);
+                feed.setString(4, SyntheticText.ADJECTIVES.get(random.nextInt(SyntheticText.ADJECTIVES.size())) + " 책이었어요");
+                feed.setString(5, SyntheticText.noun(random) + "에 대한 생각이 달라졌습니다. ".repeat(1 + random.nextInt(5)));
+                feed.setString(6, random.nextInt(50) == 0 ? "Y" : "N");
+                feed.setTimestamp(7, Timestamp.valueOf(at));
+                feed.addBatch();
+
+                detail.setString(1, feedId);
+                detail.setInt(2, rates[random.nextInt(rates.length)]);
+                detail.addBatch();
+
+                if (++n % BATCH == 0) {
+                    feed.executeBatch();
+                    detail.executeBatch();
+                    conn.commit();
+                }
+            }
+            feed.executeBatch();
+            detail.executeBatch();
+        }
+        conn.commit();
+    }
+
+    /** 알림: 최근 것일수록 미확인(CHECK_YN='N') 비율이 높음 */
+    private void notifications() throws SQLException {
+        Zipf userZipf = new Zipf(users, 0.8);
+        String[] types = {"RETURN_DUE", "DELIVERY_START", "DELIVERY_ARRIVE", "RESERVATION_AVAILABLE", "INQUIRY_ANSWERED"};
+
+        try (PreparedStatement ps = conn.prepareStatement(
+                "INSERT INTO NOTIFICATION (USER_ID, TARGET_TYPE, TARGET_ID, NOTI_CONTENT, CHECK_YN, CREATED_AT) VALUES (?, ?, ?, ?, ?, ?)")) {
+            for (long i = 0; i < notifications; i++) {
+                LocalDateTime at = now.minusMinutes(skewRecent(180 * 24 * 60));
+                boolean fresh = at.isAfter(now.minusDays(7));
+
+                ps.setString(1, userId(1 + userZipf.next(random)));
+                ps.setString(2, types[random.nextInt(types.length)]);
+                ps.setString(3, "LT_" + i);
+                ps.setString(4, "부하 테스트 알림입니다.");
+                ps.setString(5, fresh && random.nextInt(3) > 0 ? "N" : "Y");
+                ps.setTimestamp(6, Timestamp.valueOf(at));
+                ps.addBatch();
+                flush(ps, i);
+            }
+            ps.executeBatch();
+        }
+        conn.commit();
+    }
+
+    // =========================
+    // 내부 유틸
+    // =========================
+
+    private interface SqlStep {
+        void run() throws SQLException;
+    }
+
+    private void step(String name, SqlStep step) throws SQLException {
+        long start = System.currentTimeMillis();
+        step.run();
+        System.out.printf("  %-20s %6.1fs%n", name, (System.currentTimeMillis() - start) / 1000.0);
+    }
+
+    private void flush(PreparedStatement ps, long n) throws SQLException {
+        if ((n + 1) % BATCH == 0) {
+            ps.executeBatch();
+            conn.commit();
+        }
+    }
+
+    private void truncateAll() throws SQLException {
+        try (Statement st = conn.createStatement()) {
+            for (String table : new String[]{"NOTIFICATION", "REVIEW_DETAIL", "FEEDS", "RESERVATIONS", "LENDS",
+                    "BOOKS", "BOOK_ISBN", "GENRE", "USERS"}) {
+                st.execute("TRUNCATE TABLE " + table);
+            }
+        }
+        conn.commit();
+    }
+
+    private long count(String table) throws SQLException {
+        try (Statement st = conn.createStatement(); ResultSet rs = st.executeQuery("SELECT COUNT(*) FROM " + table)) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    /** 0..range 중 작은 값(=최근)에 치우친 값 */
+    private long skewRecent(long range) {
+        double u = random.nextDouble();
+        return (long) (range * u * u);
+    }
+
+    /** 1985~2000년생 중심, 1950~2015 범위 */
+    private LocalDate birthday() {
+        int year = (int) Math.round(1992 + random.nextGaussian() * 12);
+        year = Math.max(1950, Math.min(2015, year));
+        return LocalDate.of(year, 1 + random.nextInt(12), 1 + random.nextInt(28));
+    }
+
+    static String userId(int n) {
+        return String.format("lt%06d", n);
+    }
+
+    /** 경합 시나리오 전용 사용자 (이력 없음) */
+    static String raceUserId(int n) {
+        return String.format("lr%06d", n);
+    }
+}
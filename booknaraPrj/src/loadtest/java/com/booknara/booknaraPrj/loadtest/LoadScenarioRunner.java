@@ -0,0 +1,347 @@
+package com.booknara.booknaraPrj.loadtest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.Random;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * [LoadScenarioRunner]
+ * 실행 중인 애플리케이션(실제 Spring MVC 엔드포인트)에 시나리오별 부하를 걸고 처리량 / p50·p90·p99 를 보고합니다.
+ * - 시나리오는 하나씩 순서대로: warmup(미집계) → duration(집계)
+ * - 결과: 콘솔 표 + build/reports/loadtest/{시각}[-label].json (--label=platform / virtual 처럼 실행 조건을 붙여 비교)
+ * - 게이트: thresholds.properties 의 기준(p99, 오류율, 초과 대출)을 넘으면 종료 코드 1 → CI 회귀 차단
+ *
+ * 시나리오
+ * - anon-search : 비로그인 검색 (GET /book/search/list)
+ * - user-search : 로그인 검색 (북마크/장바구니 표시 포함)
+ * - detail      : 도서 상세 (GET /book/detail/{isbn13}, 인기 도서 쏠림)
+ * - noti-poll   : 미확인 알림 수 폴링 (GET /notifications/unread/count)
+ * - cart-race   : 사본 수가 적은 전자책 1권을 threads 명이 동시에 담고 무료 확정 → 초과 대출(oversell) 검사
+ *                 경합 전용 사용자(lr*)만 쓰고, 성공 수가 사본 수에 못 미치는 라운드는 실패로 집계(경합 자체가 일어나지 않은 것)
+ */
+public class LoadScenarioRunner {
+
+    private static final List<String> ALL = List.of("anon-search", "user-search", "detail", "noti-poll", "cart-race");
+
+    private final CliArgs args;
+    private final String baseUrl;
+    private final int threads;
+    private final Duration warmup;
+    private final Duration duration;
+    private final int users;
+    private final int titles;
+    private final int raceTitles;
+    private final int raceCopies;
+    private final int raceUsers;
+    private final String password;
+    private final String label;
+
+    private final AtomicInteger nextUser = new AtomicInteger();
+    private final AtomicInteger nextRaceUser = new AtomicInteger();
+    private final AtomicInteger oversold = new AtomicInteger();
+    private final AtomicInteger underfilledRounds = new AtomicInteger();
+
+    LoadScenarioRunner(CliArgs args) {
+        this.args = args;
+        this.baseUrl = args.get("base-url", "http://localhost:8080");
+        this.threads = args.getInt("threads", 16);
+        this.warmup = args.getDuration("warmup", Duration.ofSeconds(10));
+        this.duration = args.getDuration("duration", Duration.ofSeconds(30));
+        this.users = args.getInt("users", 10_000);
+        this.titles = args.getInt("titles", 20_000);
+        this.raceTitles = args.getInt("race-titles", 50);
+        this.raceCopies = args.getInt("race-copies", 3);
+        this.raceUsers = args.getInt("race-users", 2_000);
+        this.password = args.get("password", "loadtest1!");
+        this.label = args.get("label", "");
+    }
+
+    public static void main(String[] argv) throws Exception {
+        CliArgs args = new CliArgs(argv);
+        LoadScenarioRunner runner = new LoadScenarioRunner(args);
+
+        List<String> scenarios = args.has("scenarios") ? List.of(args.get("scenarios", "").split(",")) : ALL;
+        List<ScenarioStats.Summary> results = new ArrayList<>();
+        for (String scenario : scenarios) {
+            results.add(runner.run(scenario.trim()));
+        }
+
+        runner.report(results);
+        boolean passed = runner.gate(results);
+        System.exit(passed ? 0 : 1);
+    }
+
+    // =========================
+    // 시나리오 실행
+    // =========================
+
+    ScenarioStats.Summary run(String scenario) throws Exception {
+        if (!ALL.contains(scenario)) throw new IllegalArgumentException("알 수 없는 시나리오: " + scenario);
+        System.out.printf("▶ %s (threads=%d, warmup=%ds, duration=%ds)%n",
+                scenario, threads, warmup.toSeconds(), duration.toSeconds());
+
+        if ("cart-race".equals(scenario)) return runCartRace();
+
+        ScenarioStats warm = new ScenarioStats(scenario);
+        ScenarioStats stats = new ScenarioStats(scenario);
+        boolean login = !"anon-search".equals(scenario);
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            long warmEnd = System.nanoTime() + warmup.toNanos();
+            long end = warmEnd + duration.toNanos();
+            CyclicBarrier measureStart = new CyclicBarrier(threads, stats::start);
+
+            for (int i = 0; i < threads; i++) {
+                int worker = i;
+                futures.add(pool.submit(() -> {
+                    Random random = new Random(scenario.hashCode() * 31L + worker);
+                    Session session = new Session();
+                    if (login) session.login(nextUserId());
+
+                    loop(scenario, session, random, warm, warmEnd);
+                    measureStart.await();
+                    loop(scenario, session, random, stats, end);
+                    return null;
+                }));
+            }
+            for (Future<?> f : futures) f.get();
+            stats.stop();
+        } finally {
+            pool.shutdownNow();
+        }
+        return stats.summary();
+    }
+
+    private void loop(String scenario, Session session, Random random, ScenarioStats stats, long until) {
+        Zipf titleZipf = new Zipf(titles, 1.0);
+        while (System.nanoTime() < until) {
+            String path = switch (scenario) {
+                case "anon-search", "user-search" -> "/book/search/list?keyword="
+                        + URLEncoder.encode(SyntheticText.keyword(random), StandardCharsets.UTF_8) + "&page=1&size=20";
+                case "detail" -> "/book/detail/" + (9788900000000L + raceTitles + titleZipf.next(random));
+                case "noti-poll" -> "/notifications/unread/count";
+                default -> throw new IllegalStateException(scenario);
+            };
+            session.timed(stats, "GET", path, null);
+        }
+    }
+
+    /**
+     * 경합 라운드: 경합용 전자책 1권(사본 raceCopies 권)을 threads 명이 동시에 확정
+     * - 로그인/장바구니 담기는 집계하지 않고, 동시에 출발한 confirm-free 만 측정
+     * - 성공(200) 수가 사본 수를 넘으면 oversell
+     * - 성공 수가 min(사본 수, threads) 보다 적으면 underfilled: 정상 사용자 거절(409)로 경합이 성립하지 않은 라운드
+     */
+    private ScenarioStats.Summary runCartRace() throws Exception {
+        ScenarioStats stats = new ScenarioStats("cart-race");
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        long end = System.nanoTime() + duration.toNanos();
+        int expected = Math.min(raceCopies, threads);
+        stats.start();
+        try {
+            for (int round = 0; System.nanoTime() < end && round < raceTitles; round++) {
+                String isbn13 = String.valueOf(9790000000000L + round + 1);
+                CyclicBarrier go = new CyclicBarrier(threads);
+                AtomicInteger success = new AtomicInteger();
+
+                List<Future<?>> futures = new ArrayList<>();
+                for (int i = 0; i < threads; i++) {
+                    futures.add(pool.submit(() -> {
+                        Session session = new Session();
+                        session.login(nextRaceUserId());
+                        session.send("POST", "/book/cart/clear", "");
+                        session.send("POST", "/book/cart/add", "isbn13=" + isbn13);
+
+                        go.await();
+                        int status = session.timed(stats, "POST", "/book/order/confirm-free", "");
+                        if (status == 200) success.incrementAndGet();
+                        return null;
+                    }));
+                }
+                for (Future<?> f : futures) f.get();
+
+                if (success.get() > raceCopies) {
+                    oversold.addAndGet(success.get() - raceCopies);
+                    System.out.printf("  ✗ oversell isbn13=%s success=%d copies=%d%n", isbn13, success.get(), raceCopies);
+                } else if (success.get() < expected) {
+                    underfilledRounds.incrementAndGet();
+                    System.out.printf("  ✗ underfilled isbn13=%s success=%d expected=%d (데이터셋/--race-users 확인)%n",
+                            isbn13, success.get(), expected);
+                }
+            }
+        } finally {
+            stats.stop();
+            pool.shutdownNow();
+        }
+        return stats.summary();
+    }
+
+    /** 시나리오/라운드마다 다른 사용자 (lt000001 부터 순서대로, 끝나면 처음으로) */
+    private String nextUserId() {
+        return DatasetGenerator.userId(1 + Math.floorMod(nextUser.getAndIncrement(), users));
+    }
+
+    /** 경합 전용 사용자 (lr000001 부터 순서대로) — 대출 이력이 없어 한도/연체 거절이 섞이지 않음 */
+    private String nextRaceUserId() {
+        return DatasetGenerator.raceUserId(1 + Math.floorMod(nextRaceUser.getAndIncrement(), raceUsers));
+    }
+
+    // =========================
+    // 보고 / 게이트
+    // =========================
+
+    private void report(List<ScenarioStats.Summary> results) throws IOException {
+        System.out.println();
+        System.out.printf("%-12s %9s %8s %8s %8s %8s %8s %8s %8s%n",
+                "scenario", "requests", "rps", "p50(ms)", "p90(ms)", "p99(ms)", "max(ms)", "errors", "409");
+        results.forEach(r -> System.out.println(r.row()));
+        if (oversold.get() > 0) System.out.println("oversell: " + oversold.get());
+        if (underfilledRounds.get() > 0) System.out.println("underfilled rounds: " + underfilledRounds.get());
+
+        Path dir = Path.of(args.get("report-dir", "build/reports/loadtest"));
+        Files.createDirectories(dir);
+        Path file = dir.resolve(LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"))
+                + (label.isEmpty() ? "" : "-" + label) + ".json");
+        StringBuilder json = new StringBuilder("{\"label\":\"").append(label)
+                .append("\",\"baseUrl\":\"").append(baseUrl)
+                .append("\",\"threads\":").append(threads)
+                .append(",\"durationSec\":").append(duration.toSeconds())
+                .append(",\"oversold\":").append(oversold.get())
+                .append(",\"underfilledRounds\":").append(underfilledRounds.get())
+                .append(",\"scenarios\":[");
+        for (int i = 0; i < results.size(); i++) {
+            if (i > 0) json.append(',');
+            json.append(results.get(i).json());
+        }
+        Files.writeString(file, json.append("]}").toString());
+        System.out.println("report: " + file.toAbsolutePath());
+    }
+
+    /** 기준: <시나리오>.p99-ms / <시나리오>.max-error-rate / cart-race.max-oversell / cart-race.max-underfilled-rounds */
+    private boolean gate(List<ScenarioStats.Summary> results) throws IOException {
+        Properties limits = loadThresholds();
+        boolean passed = true;
+
+        for (ScenarioStats.Summary r : results) {
+            String p99 = limits.getProperty(r.name() + ".p99-ms");
+            if (p99 != null && r.p99Ms() > Double.parseDouble(p99)) {
+                System.out.printf("GATE FAIL %s p99 %.1fms > %sms%n", r.name(), r.p99Ms(), p99);
+                passed = false;
+            }
+            String errorRate = limits.getProperty(r.name() + ".max-error-rate", limits.getProperty("default.max-error-rate"));
+            if (errorRate != null && r.errorRate() > Double.parseDouble(errorRate)) {
+                System.out.printf("GATE FAIL %s error rate %.4f > %s%n", r.name(), r.errorRate(), errorRate);
+                passed = false;
+            }
+        }
+        int maxOversell = Integer.parseInt(limits.getProperty("cart-race.max-oversell", "0"));
+        if (oversold.get() > maxOversell) {
+            System.out.printf("GATE FAIL cart-race oversell %d > %d%n", oversold.get(), maxOversell);
+            passed = false;
+        }
+        int maxUnderfilled = Integer.parseInt(limits.getProperty("cart-race.max-underfilled-rounds", "0"));
+        if (underfilledRounds.get() > maxUnderfilled) {
+            System.out.printf("GATE FAIL cart-race underfilled rounds %d > %d%n", underfilledRounds.get(), maxUnderfilled);
+            passed = false;
+        }
+
+        System.out.println(passed ? "GATE PASS" : "GATE FAIL");
+        return passed;
+    }
+
+    private Properties loadThresholds() throws IOException {
+        Properties p = new Properties();
+        if (args.has("thresholds")) {
+            try (InputStream in = Files.newInputStream(Path.of(args.get("thresholds", "")))) {
+                p.load(in);
+            }
+            return p;
+        }
+        try (InputStream in = LoadScenarioRunner.class.getClassLoader().getResourceAsStream("thresholds.properties")) {
+            if (in != null) p.load(in);
+        }
+        return p;
+    }
+
+    // =========================
+    // HTTP 세션 (사용자 1명 = 쿠키 저장소 1개)
+    // =========================
+
+    private final class Session {
+
+        private final HttpClient client = HttpClient.newBuilder()
+                .cookieHandler(new CookieManager())
+                .connectTimeout(Duration.ofSeconds(5))
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .build();
+
+        /** 폼 로그인 (성공 시 302 → 오류 페이지가 아닌 곳) */
+        void login(String userId) {
+            HttpResponse<Void> res = send("POST", "/users/login",
+                    "userId=" + userId + "&password=" + URLEncoder.encode(password, StandardCharsets.UTF_8));
+            String location = res.headers().firstValue("Location").orElse("");
+            if (res.statusCode() != 302 || location.contains("error")) {
+                throw new IllegalStateException("로그인 실패: " + userId + " status=" + res.statusCode() + " location=" + location);
+            }
+        }
+
+        /** 측정 요청: 2xx 정상, 409 는 정상 거절, 그 외 오류 */
+        int timed(ScenarioStats stats, String method, String path, String form) {
+            long start = System.nanoTime();
+            int status;
+            try {
+                status = send(method, path, form).statusCode();
+            } catch (RuntimeException e) {
+                status = -1;
+            }
+            long micros = (System.nanoTime() - start) / 1000;
+            boolean error = status < 200 || (status >= 300 && status != 409);
+            stats.record(micros, error);
+            if (status == 409) stats.conflict();
+            return status;
+        }
+
+        HttpResponse<Void> send(String method, String path, String form) {
+            HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                    .timeout(Duration.ofSeconds(30))
+                    .header("Accept", "application/json, text/html");
+            if (form == null) {
+                builder.GET();
+            } else {
+                builder.header("Content-Type", "application/x-www-form-urlencoded")
+                        .method(method, HttpRequest.BodyPublishers.ofString(form));
+            }
+            try {
+                return client.send(builder.build(), HttpResponse.BodyHandlers.discarding());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
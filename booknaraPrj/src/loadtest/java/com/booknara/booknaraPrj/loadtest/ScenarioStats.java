@@ -0,0 +1,77 @@
+package com.booknara.booknaraPrj.loadtest;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * [ScenarioStats]
+ * 시나리오 1개의 응답 시간/결과 집계 (스레드 안전)
+ * - 지연 시간은 µs 단위로 전부 보관 후 정렬해 백분위를 계산합니다. (측정 구간 수십만 건 규모 가정)
+ */
+final class ScenarioStats {
+
+    final String name;
+    private long[] latencies = new long[1 << 14];
+    private int size;
+    private long errors;
+    private long conflicts;
+    private long startedNanos;
+    private long endedNanos;
+
+    ScenarioStats(String name) {
+        this.name = name;
+    }
+
+    synchronized void start() {
+        startedNanos = System.nanoTime();
+    }
+
+    synchronized void stop() {
+        endedNanos = System.nanoTime();
+    }
+
+    synchronized void record(long micros, boolean error) {
+        if (size == latencies.length) latencies = Arrays.copyOf(latencies, size * 2);
+        latencies[size++] = micros;
+        if (error) errors++;
+    }
+
+    /** 정상적인 거절(재고 소진 409 등) — 오류율에 포함하지 않음 */
+    synchronized void conflict() {
+        conflicts++;
+    }
+
+    synchronized Summary summary() {
+        long[] sorted = Arrays.copyOf(latencies, size);
+        Arrays.sort(sorted);
+        double seconds = Math.max(1e-9, (endedNanos - startedNanos) / 1e9);
+        return new Summary(name, size, errors, conflicts, size / seconds,
+                pct(sorted, 0.50), pct(sorted, 0.90), pct(sorted, 0.99),
+                sorted.length == 0 ? 0 : sorted[sorted.length - 1] / 1000.0);
+    }
+
+    private static double pct(long[] sorted, double p) {
+        if (sorted.length == 0) return 0;
+        int idx = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(0, idx)] / 1000.0;
+    }
+
+    record Summary(String name, long requests, long errors, long conflicts, double rps,
+                   double p50Ms, double p90Ms, double p99Ms, double maxMs) {
+
+        double errorRate() {
+            return requests == 0 ? 0 : (double) errors / requests;
+        }
+
+        String row() {
+            return String.format(Locale.ROOT, "%-12s %9d %8.1f %8.1f %8.1f %8.1f %8.1f %7.2f%% %8d",
+                    name, requests, rps, p50Ms, p90Ms, p99Ms, maxMs, errorRate() * 100, conflicts);
+        }
+
+        String json() {
+            return String.format(Locale.ROOT,
+                    "{\"name\":\"%s\",\"requests\":%d,\"errors\":%d,\"conflicts\":%d,\"rps\":%.2f,\"p50Ms\":%.2f,\"p90Ms\":%.2f,\"p99Ms\":%.2f,\"maxMs\":%.2f}",
+                    name, requests, errors, conflicts, rps, p50Ms, p90Ms, p99Ms, maxMs);
+        }
+    }
+}
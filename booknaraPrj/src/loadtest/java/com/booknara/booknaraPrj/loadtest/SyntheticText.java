@@ -0,0 +1,69 @@
+package com.booknara.booknaraPrj.loadtest;
+
+import java.util.List;
+import java.util.Random;
+
+/**
+ * [SyntheticText]
+ * 합성 도서명/저자/검색어를 만드는 어휘 사전입니다.
+ * - 생성기(DatasetGenerator)와 시나리오(LoadScenarioRunner)가 같은 어휘를 쓰므로 검색 적중률이 실제와 비슷하게 유지됩니다.
+ * - 어휘도 Zipf 로 뽑아 "자주 검색되는 단어 = 자주 등장하는 단어"가 되도록 합니다.
+ */
+final class SyntheticText {
+
+    static final List<String> NOUNS = List.of(
+            "바다", "마법사", "편의점", "정원", "고양이", "도서관", "여름", "겨울", "기억", "우주",
+            "자바", "스프링", "파이썬", "데이터", "알고리즘", "경제", "역사", "철학", "심리학", "습관",
+            "여행", "요리", "엄마", "아버지", "친구", "소년", "소녀", "왕자", "별", "달",
+            "시간", "돈", "부자", "마음", "용기", "행복", "사랑", "전쟁", "평화", "세계",
+            "서울", "제주", "골목", "기차", "비밀", "열쇠", "그림자", "거울", "편지", "꿈"
+    );
+
+    static final List<String> ADJECTIVES = List.of(
+            "작은", "위대한", "불편한", "아름다운", "이기적인", "조용한", "오래된", "새로운", "슬픈", "즐거운",
+            "완벽한", "이상한", "따뜻한", "차가운", "사라진", "잃어버린", "마지막", "처음의", "푸른", "하얀"
+    );
+
+    static final List<String> SURNAMES = List.of("김", "이", "박", "최", "정", "강", "조", "윤", "장", "임");
+    static final List<String> GIVEN = List.of("민준", "서연", "도윤", "하은", "지훈", "수빈", "현우", "지민", "유진", "태양");
+    static final List<String> PUBLISHERS = List.of("창비", "민음사", "문학동네", "한빛미디어", "위키북스", "길벗", "김영사", "은행나무", "열린책들", "비룡소");
+
+    private static final Zipf NOUN_ZIPF = new Zipf(NOUNS.size(), 0.9);
+    private static final Zipf ADJ_ZIPF = new Zipf(ADJECTIVES.size(), 0.9);
+
+    private SyntheticText() {}
+
+    static String noun(Random r) {
+        return NOUNS.get(NOUN_ZIPF.next(r));
+    }
+
+    static String title(Random r) {
+        String base = switch (r.nextInt(5)) {
+            case 0 -> ADJECTIVES.get(ADJ_ZIPF.next(r)) + " " + noun(r);
+            case 1 -> noun(r) + "의 " + noun(r);
+            case 2 -> ADJECTIVES.get(ADJ_ZIPF.next(r)) + " " + noun(r) + "의 " + noun(r);
+            case 3 -> noun(r) + "와 " + noun(r);
+            default -> noun(r) + " 이야기";
+        };
+        int roll = r.nextInt(100);
+        if (roll < 8) return base + " " + (2 + r.nextInt(4));            // 시리즈
+        if (roll < 14) return base + " : " + noun(r) + "에 대하여";      // 부제
+        return base;
+    }
+
+    static String person(Random r) {
+        return SURNAMES.get(r.nextInt(SURNAMES.size())) + GIVEN.get(r.nextInt(GIVEN.size()));
+    }
+
+    static String publisher(Random r) {
+        return PUBLISHERS.get(r.nextInt(PUBLISHERS.size()));
+    }
+
+    /** 검색어: 단어 하나(70%) / 두 단어(20%) / 띄어쓰기 없는 두 단어(10%) */
+    static String keyword(Random r) {
+        int roll = r.nextInt(10);
+        if (roll < 7) return noun(r);
+        if (roll < 9) return ADJECTIVES.get(ADJ_ZIPF.next(r)) + " " + noun(r);
+        return noun(r) + noun(r);
+    }
+}
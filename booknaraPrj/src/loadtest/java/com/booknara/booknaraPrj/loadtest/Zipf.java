@@ -0,0 +1,32 @@
+package com.booknara.booknaraPrj.loadtest;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * [Zipf]
+ * 0..n-1 을 Zipf 분포(순위 k 의 확률 ∝ 1/(k+1)^s)로 뽑는 샘플러입니다.
+ * - 인기 도서/헤비 유저처럼 소수에 몰리는 분포를 재현합니다. (s=1.0 이면 상위 1% 가 대략 절반 가까이 차지)
+ * - 누적 분포를 미리 계산해 두고 이진 탐색 (n 은 수십만까지 가정)
+ */
+final class Zipf {
+
+    private final double[] cdf;
+
+    Zipf(int n, double s) {
+        if (n <= 0) throw new IllegalArgumentException("n must be positive");
+        cdf = new double[n];
+        double sum = 0;
+        for (int k = 0; k < n; k++) {
+            sum += 1.0 / Math.pow(k + 1, s);
+            cdf[k] = sum;
+        }
+        for (int k = 0; k < n; k++) cdf[k] /= sum;
+    }
+
+    int next(Random random) {
+        int idx = Arrays.binarySearch(cdf, random.nextDouble());
+        if (idx < 0) idx = -idx - 1;
+        return Math.min(idx, cdf.length - 1);
+    }
+}
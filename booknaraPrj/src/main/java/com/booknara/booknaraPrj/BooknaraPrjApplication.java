@@ -2,6 +2,7 @@ package com.booknara.booknaraPrj;
 
 import com.booknara.booknaraPrj.bookAPI.client.aladin.AladinProperties;
 import com.booknara.booknaraPrj.bookAPI.client.naver.NaverProperties;
+import com.booknara.booknaraPrj.common.perf.PerfBudgetProperties;
 import org.mybatis.spring.annotation.MapperScan;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
@@ -15,7 +16,7 @@ import org.springframework.scheduling.annotation.EnableScheduling;
 @SpringBootApplication
 @EnableScheduling
 @EnableJpaRepositories(basePackages = "com.booknara.booknaraPrj")
-@EnableConfigurationProperties({NaverProperties.class, AladinProperties.class})
+@EnableConfigurationProperties({NaverProperties.class, AladinProperties.class, PerfBudgetProperties.class})
 //@MapperScan({"com.booknara.booknaraPrj.**.mapper",
 //        "com.booknara.booknaraPrj.mypage"})
 //@MapperScan(basePackages = {
@@ -58,7 +59,16 @@ import org.springframework.scheduling.annotation.EnableScheduling;
         "com.booknara.booknaraPrj.mypage.withdraw",
         "com.booknara.booknaraPrj.feed.review.mapper",
         "com.booknara.booknaraPrj.report.mapper",
-        "com.booknara.booknaraPrj.recommend.mapper"
+        "com.booknara.booknaraPrj.recommend.mapper",
+        "com.booknara.booknaraPrj.common.userstatus",
+        "com.booknara.booknaraPrj.bookcover.mapper",
+        "com.booknara.booknaraPrj.common.membership",
+        "com.booknara.booknaraPrj.common.mail",
+        "com.booknara.booknaraPrj.admin.statistics.rollup",
+        "com.booknara.booknaraPrj.admin.statistics.demographics",
+        "com.booknara.booknaraPrj.admin.bookManagement.catalog",
+        "com.booknara.booknaraPrj.common.sampling",
+        "com.booknara.booknaraPrj.common.supportinbox"
 
 })
 public class BooknaraPrjApplication {
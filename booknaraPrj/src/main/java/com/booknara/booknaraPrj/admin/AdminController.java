@@ -17,6 +17,8 @@ import com.booknara.booknaraPrj.admin.settings.AdminSettingsService;
 import com.booknara.booknaraPrj.admin.statistics.StatisticsService;
 import com.booknara.booknaraPrj.admin.users.UserService;
 import com.booknara.booknaraPrj.admin.users.Users;
+import com.booknara.booknaraPrj.common.perf.RequestTraceBuffer;
+import com.booknara.booknaraPrj.common.perf.RequestTraceRecord;
 import com.booknara.booknaraPrj.notification.dto.NotificationEntity;
 import com.booknara.booknaraPrj.notification.service.NotificationService;
 import lombok.RequiredArgsConstructor;
@@ -25,6 +27,8 @@ import org.springframework.core.io.FileSystemResource;
 import org.springframework.core.io.Resource;
 import org.springframework.data.domain.*;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -35,11 +39,13 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 import org.springframework.web.util.UriUtils;
 
-import java.io.File;
 import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
@@ -62,6 +68,7 @@ public class AdminController {
     private final StatisticsService statisticsService;
     private final AdminNotificationService adminNotificationService;
     private final NotificationService notificationService;
+    private final RequestTraceBuffer requestTraceBuffer;
 
 
     @Value("${uploads.path}")
@@ -70,26 +77,32 @@ public class AdminController {
     @GetMapping("/BookManageMent")
     public String bookManagement(
             @RequestParam(name = "page", defaultValue = "0") int page,
+            @RequestParam(name = "after", required = false) String after,
+            @RequestParam(name = "before", required = false) String before,
+            @RequestParam(name = "field", required = false) String field,
             @RequestParam(name = "keyword", required = false) String keyword,
             @RequestParam(name = "bookState", required = false) String bookState,
             Model model) {
 
-        // [수정] PageRequest 생성 (한 페이지당 10개 혹은 100개 등 설정)
-        Pageable pageable = PageRequest.of(page, 100);
-
-        // [수정] 서비스 호출 시 인자 순서와 타입을 서비스 인터페이스와 맞춥니다.
-        Slice<AdminBookListResponseDto> bookSlice = adminBookManagementService.getBookList(bookState, keyword, pageable);
+        // [수정] 키셋 페이징 (page 는 화면 표시용 번호, 검색 구분별로 제목/저자/ISBN 중 하나만 조회)
+        AdminBookSearchField searchField = AdminBookSearchField.of(field);
+        AdminBookPage bookPage = adminBookManagementService.getBookList(bookState, searchField, keyword, after, before);
+        if (after == null && before == null) page = 0;
 
         model.addAttribute("genreList", adminGenreService.getAllGenres());
-        model.addAttribute("bookList", bookSlice.getContent());
+        model.addAttribute("bookList", bookPage.getContent());
 
         // 필터 및 검색어 유지
         model.addAttribute("filterState", (bookState != null) ? bookState : "");
+        model.addAttribute("bookState", (bookState != null) ? bookState : "");
         model.addAttribute("keyword", (keyword != null) ? keyword : "");
-        model.addAttribute("currentPage", page);
+        model.addAttribute("field", searchField.name());
+        model.addAttribute("currentPage", Math.max(page, 0));
 
-        model.addAttribute("hasPrev", bookSlice.hasPrevious());
-        model.addAttribute("hasNext", bookSlice.hasNext());
+        model.addAttribute("hasPrev", bookPage.isHasPrev());
+        model.addAttribute("hasNext", bookPage.isHasNext());
+        model.addAttribute("firstCursor", bookPage.getFirstCursor());
+        model.addAttribute("lastCursor", bookPage.getLastCursor());
 
         return "admin/BookManageMent";
     }
@@ -179,12 +192,22 @@ public class AdminController {
     }
 
     @GetMapping("/Statistics")
-    public String statisticsPage(Model model){
+    public String statisticsPage(
+            @RequestParam(name = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(name = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            Model model){
+
+        // 조회 기간 (기본: 3년 전 1월 1일 ~ 오늘)
+        if (to == null) to = LocalDate.now();
+        if (from == null) from = LocalDate.of(to.getYear() - 3, 1, 1);
+        if (from.isAfter(to)) from = to;
 
         // 서비스로부터 실시간 통계 데이터 확보
         Map<String, Object> stats = statisticsService.getRealTimeUserStatistics();
         Map<String, Object> genderAgeStats = statisticsService.getGenderAgeStatistics();
-        Map<String, Object> dashboardData = statisticsService.getDashboardData();
+        Map<String, Object> dashboardData = statisticsService.getDashboardData(from, to);
+        model.addAttribute("from", from);
+        model.addAttribute("to", to);
 
         // 1. 차트 관련 데이터
         model.addAttribute("ageStats", stats.get("ageStats"));
@@ -287,6 +310,19 @@ public class AdminController {
         }
     }
 
+    /**
+     * 최근 요청 성능 기록 (예산 초과 + 샘플)
+     * 예: /admin/perf/traces?breachedOnly=true&route=/book/search
+     */
+    @GetMapping("/perf/traces")
+    @ResponseBody
+    public List<RequestTraceRecord> perfTraces(
+            @RequestParam(defaultValue = "false") boolean breachedOnly,
+            @RequestParam(required = false) String route,
+            @RequestParam(defaultValue = "100") int limit) {
+        return requestTraceBuffer.recent(breachedOnly, route, Math.min(Math.max(limit, 1), 1000));
+    }
+
     @GetMapping("/Inquiries")
     public String inquiryList(
             @RequestParam(required = false) String keyword,
@@ -321,16 +357,13 @@ public class AdminController {
         model.addAttribute("currentStatus", status);
         model.addAttribute("keyword", keyword);
 
-        // 4. 상단 카드 데이터 조회 (Long 타입 null 체크 및 0 처리 핵심)
-        Long inquiryCount = adminInquiryService.getTotalCount();
-        Long reportCount = adminReportService.getTotalCount();
-        Long pendingCount = adminCombinedSupportService.getCountByState("N");
-        Long resolvedCount = adminCombinedSupportService.getCountByState("Y");
+        // 4. 상단 카드 데이터 조회 (SUPPORT_INBOX_COUNT 한 번 조회)
+        Map<String, Long> cardCounts = adminCombinedSupportService.getCardCounts();
 
-        model.addAttribute("totalInquiryCount", inquiryCount != null ? inquiryCount : 0L);
-        model.addAttribute("totalReportCount", reportCount != null ? reportCount : 0L);
-        model.addAttribute("totalPendingCount", pendingCount != null ? pendingCount : 0L);
-        model.addAttribute("totalResolvedCount", resolvedCount != null ? resolvedCount : 0L);
+        model.addAttribute("totalInquiryCount", cardCounts.get("inquiry"));
+        model.addAttribute("totalReportCount", cardCounts.get("report"));
+        model.addAttribute("totalPendingCount", cardCounts.get("pending"));
+        model.addAttribute("totalResolvedCount", cardCounts.get("resolved"));
 
         return "admin/Inquiries";
     }
@@ -372,26 +405,35 @@ public class AdminController {
         return "redirect:/admin/Inquiries";
     }
 
+    /**
+     * 문의 첨부파일 다운로드
+     * - ETag/Last-Modified를 함께 내려 재다운로드는 304, 이어받기(Range)는 206으로 응답 (HttpEntityMethodProcessor 처리)
+     * - 파일명은 고유하지 않으므로(원본명 저장) 장기 캐시 대신 매번 재검증
+     */
     @GetMapping("/download/{fileName}")
     public ResponseEntity<Resource> downloadFile(@PathVariable String fileName) {
         try {
             String decodedFileName = URLDecoder.decode(fileName, StandardCharsets.UTF_8);
-            Path path = Paths.get(uploadDir).resolve(decodedFileName).normalize();
-            File file = path.toFile();
+            Path root = Paths.get(uploadDir).toAbsolutePath().normalize();
+            Path path = root.resolve(decodedFileName).normalize();
 
-            if (!file.exists()) {
-                System.out.println("파일을 찾을 수 없습니다: " + file.getAbsolutePath());
+            // 업로드 폴더 밖으로 나가는 경로(../) 차단
+            if (!path.startsWith(root) || !Files.isRegularFile(path)) {
                 return ResponseEntity.notFound().build();
             }
 
-            Resource resource = new FileSystemResource(file);
-            String encodedFileName = UriUtils.encode(file.getName(), StandardCharsets.UTF_8);
+            BasicFileAttributes attrs = Files.readAttributes(path, BasicFileAttributes.class);
+            long lastModified = attrs.lastModifiedTime().toMillis();
+            String eTag = "\"" + Long.toHexString(attrs.size()) + "-" + Long.toHexString(lastModified) + "\"";
+            String encodedFileName = UriUtils.encode(path.getFileName().toString(), StandardCharsets.UTF_8);
 
             return ResponseEntity.ok()
                     .contentType(MediaType.APPLICATION_OCTET_STREAM)
-                    .contentLength(file.length()) // 파일 크기 명시 (중요)
+                    .eTag(eTag)
+                    .lastModified(lastModified)
+                    .cacheControl(CacheControl.noCache().cachePrivate())
                     .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + encodedFileName + "\"; filename*=UTF-8''" + encodedFileName)
-                    .body(resource);
+                    .body(new FileSystemResource(path));
         } catch (Exception e) {
             return ResponseEntity.internalServerError().build();
         }
@@ -10,19 +10,7 @@ import java.util.Optional;
 
 public interface AdminBookIsbnRepository extends JpaRepository<AdminBookIsbn, String> {
 
-    /**
-     * 1. 랜덤 추출용: 종이책(N) 전체 개수 조회
-     * 서비스에서 파라미터 없이 호출하므로 파라미터를 제거한 버전입니다.
-     */
-    @Query(value = "SELECT COUNT(*) FROM BOOK_ISBN WHERE EBOOK_YN = 'N'", nativeQuery = true)
-    long countByEBookYnNative();
-
-    /**
-     * 2. 랜덤 추출용: 직접 계산한 LIMIT와 OFFSET으로 데이터 조회
-     * 서비스의 findRandomBooksWithOffset 호출에 대응합니다.
-     */
-    @Query(value = "SELECT * FROM BOOK_ISBN WHERE EBOOK_YN = 'N' LIMIT :limit OFFSET :offset", nativeQuery = true)
-    List<AdminBookIsbn> findRandomBooksWithOffset(@Param("limit") int limit, @Param("offset") int offset);
+    // 랜덤 추출은 BookSampler(메모리 표본) + findAllById 로 처리합니다.
 
     /**
      * 3. 저장 로직용: ISBN으로 도서 상세 정보 한 건 조회
@@ -4,8 +4,10 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
 
 @Getter
+@Setter // MyBatis(AdminBookCatalogMapper) 매핑용
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
@@ -1,18 +1,15 @@
 package com.booknara.booknaraPrj.admin.bookManagement;
 
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Slice;
-import org.springframework.data.domain.Page;
-
 public interface AdminBookManageMentService {
 
     /**
-     * [최적화] 대용량 조회를 위해 Slice 사용
-     * keyword가 없을 때는 Slice로 빠르게 넘기고,
-     * 특정 조건 검색 시에만 Page를 반환하도록 분리할 수도 있습니다.
-     * 여기서는 일관성을 위해 Slice로 제안드립니다. (Page로 유지도 가능)
+     * [최적화] 대용량 조회를 위해 키셋 페이징 사용
+     * OFFSET 없이 after(다음 페이지) / before(이전 페이지) 커서로 어느 페이지든 같은 비용으로 조회합니다.
+     * @param field  검색 대상 (keyword 가 있을 때만 사용)
+     * @param after  이 커서 다음부터 (null 이면 첫 페이지)
+     * @param before 이 커서 이전까지 (이전 페이지 이동 시, after 보다 우선)
      */
-    Slice<AdminBookListResponseDto> getBookList(String bookState, String keyword, Pageable pageable);
+    AdminBookPage getBookList(String bookState, AdminBookSearchField field, String keyword, String after, String before);
 
     void updateStatus(Long bookId, String bookState);
 
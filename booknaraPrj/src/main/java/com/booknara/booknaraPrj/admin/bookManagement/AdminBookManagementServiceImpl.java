@@ -1,13 +1,17 @@
 package com.booknara.booknaraPrj.admin.bookManagement;
 
+import com.booknara.booknaraPrj.admin.bookManagement.catalog.AdminBookCatalogMapper;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Slice;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
@@ -16,26 +20,124 @@ public class AdminBookManagementServiceImpl implements AdminBookManageMentServic
     private final AdminBookManagementRepository adminBookManagementRepository;
     private final AdminBookIsbnRepository isbnRepository;
     private final AdminGenreRepository genreRepository;
+    private final AdminBookCatalogMapper catalogMapper;
+
+    public static final int PAGE_SIZE = 100;
 
     /**
-     * [최적화 완료] 80만 건 대용량 데이터 조회
-     * 인터페이스의 리턴 타입 변경(Page -> Slice)에 맞춰 수정되었습니다.
+     * [최적화 완료] 80만 건 대용량 데이터 조회 (OFFSET 없는 키셋 페이징)
+     * - 상태만 / ISBN 검색: BOOK_ID 키셋으로 최대 101건만 인덱스에서 조회 → 해당 BOOK_ID 만 PK IN 으로 화면 컬럼 조회
+     * - 제목 / 저자 검색(검색 구분 선택): BOOK_ISBN 의 (BOOK_TITLE, ISBN13) / (AUTHORS, ISBN13) 키셋으로
+     *   ISBN 최대 101종만 조회 → 해당 ISBN 의 복본을 함께 표시 (페이지 = 도서 100종)
+     * - 어느 경우든 인덱스 순서대로 읽다가 LIMIT 에서 멈추므로 페이지 위치나 일치 건수와 무관한 비용입니다.
      */
-
     @Override
     @Transactional(readOnly = true)
-    public Slice<AdminBookListResponseDto> getBookList(String bookState, String keyword, Pageable pageable) {
-
-        // 1. 키워드 가공 (Repository 쿼리에서 LIKE %:keyword%를 썼다면 여기서 안 해도 되지만, 안전하게 처리)
-        String searchKeyword = (keyword != null && !keyword.isEmpty()) ? keyword : null;
-
-        // 2. 리포지토리 호출 (이미 DTO로 결과가 나옴)
-        // 쿼리에서 'new DTO(...)'를 사용했으므로 booksSlice의 내용물은 이미 DTO입니다.
-        return adminBookManagementRepository.findByFiltersDto(
-                searchKeyword,
-                bookState,
-                pageable
-        );
+    public AdminBookPage getBookList(String bookState, AdminBookSearchField field, String keyword, String after, String before) {
+
+        // 1. 조건 정리 ('' / '전체' 는 상태 조건 없음)
+        String state = (bookState == null || bookState.isBlank() || "전체".equals(bookState)) ? null : bookState;
+        String searchKeyword = (keyword != null && !keyword.isBlank()) ? keyword.trim() : null;
+
+        if (searchKeyword != null && field != AdminBookSearchField.ISBN) {
+            return getBookListByPrefix(state, field, searchKeyword, after, before);
+        }
+        return getBookListById(state, searchKeyword, parseId(after), parseId(before));
+    }
+
+    /** 상태만 / ISBN 완전일치: BOOK_ID 키셋 */
+    private AdminBookPage getBookListById(String state, String isbn13, Long after, Long before) {
+        boolean backward = before != null;
+        Long afterCursor = backward ? null : after;
+        int limit = PAGE_SIZE + 1; // 1건 더 읽어 다음(이전) 페이지 존재 여부 판단
+
+        List<Long> ids = (isbn13 == null)
+                ? catalogMapper.selectIdsByState(state, afterCursor, before, limit)
+                : catalogMapper.selectIdsByIsbn(isbn13, state, afterCursor, before, limit);
+
+        // 페이지 경계 판단
+        boolean more = ids.size() > PAGE_SIZE;
+        if (more) ids = new ArrayList<>(ids.subList(0, PAGE_SIZE));
+        if (backward) Collections.reverse(ids);
+
+        boolean hasPrev = backward ? more : after != null;
+        boolean hasNext = backward || more;
+
+        if (ids.isEmpty()) {
+            return new AdminBookPage(List.of(), hasPrev, false, null, null);
+        }
+
+        // 화면 컬럼 채우기
+        List<AdminBookListResponseDto> rows = catalogMapper.selectRowsByIds(ids);
+        return new AdminBookPage(rows, hasPrev, hasNext,
+                String.valueOf(ids.get(0)), String.valueOf(ids.get(ids.size() - 1)));
+    }
+
+    /** 제목 / 저자 앞글자: (정렬 키, ISBN13) 키셋, 커서는 페이지 경계 ISBN13 */
+    private AdminBookPage getBookListByPrefix(String state, AdminBookSearchField field, String keyword,
+                                              String after, String before) {
+        boolean backward = before != null;
+        String cursorIsbn = backward ? before : after;
+
+        // 커서 ISBN 의 정렬 키 (PK 1건). 그 사이 도서가 삭제되었으면 첫 페이지부터
+        String cursorKey = null;
+        if (cursorIsbn != null) {
+            cursorKey = (field == AdminBookSearchField.AUTHOR)
+                    ? catalogMapper.selectAuthorsByIsbn(cursorIsbn)
+                    : catalogMapper.selectTitleByIsbn(cursorIsbn);
+            if (cursorKey == null) {
+                cursorIsbn = null;
+                backward = false;
+            }
+        }
+
+        String prefix = escapeLike(keyword);
+        String afterKey = backward ? null : cursorKey;
+        String afterIsbn = backward ? null : cursorIsbn;
+        String beforeKey = backward ? cursorKey : null;
+        String beforeIsbn = backward ? cursorIsbn : null;
+        int limit = PAGE_SIZE + 1;
+
+        List<String> isbns = (field == AdminBookSearchField.AUTHOR)
+                ? catalogMapper.selectIsbnsByAuthorPrefix(prefix, state, afterKey, afterIsbn, beforeKey, beforeIsbn, limit)
+                : catalogMapper.selectIsbnsByTitlePrefix(prefix, state, afterKey, afterIsbn, beforeKey, beforeIsbn, limit);
+
+        // 페이지 경계 판단
+        boolean more = isbns.size() > PAGE_SIZE;
+        if (more) isbns = new ArrayList<>(isbns.subList(0, PAGE_SIZE));
+        if (backward) Collections.reverse(isbns);
+
+        boolean hasPrev = backward ? more : cursorIsbn != null;
+        boolean hasNext = backward || more;
+
+        if (isbns.isEmpty()) {
+            return new AdminBookPage(List.of(), hasPrev, false, null, null);
+        }
+
+        // 복본 채우기 (ISBN 페이지 순서 → BOOK_ID 순)
+        Map<String, Integer> order = new HashMap<>(isbns.size() * 2);
+        for (int i = 0; i < isbns.size(); i++) order.put(isbns.get(i), i);
+
+        List<AdminBookListResponseDto> rows = new ArrayList<>(catalogMapper.selectRowsByIsbns(isbns, state));
+        rows.sort(Comparator.<AdminBookListResponseDto>comparingInt(r -> order.getOrDefault(r.getIsbn13(), Integer.MAX_VALUE))
+                .thenComparing(AdminBookListResponseDto::getBookId));
+
+        return new AdminBookPage(rows, hasPrev, hasNext, isbns.get(0), isbns.get(isbns.size() - 1));
+    }
+
+    /** BOOK_ID 커서 파라미터 (숫자가 아니면 첫 페이지) */
+    private static Long parseId(String cursor) {
+        if (cursor == null || cursor.isBlank()) return null;
+        try {
+            return Long.parseLong(cursor.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /** LIKE 와일드카드(%, _) 를 일반 문자로 검색 */
+    private static String escapeLike(String s) {
+        return s.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
     }
 
     @Override
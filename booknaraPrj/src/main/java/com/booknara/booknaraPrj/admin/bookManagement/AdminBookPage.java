@@ -0,0 +1,22 @@
+package com.booknara.booknaraPrj.admin.bookManagement;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * [AdminBookPage]
+ * 관리자 도서 목록 한 페이지 (키셋)
+ * - 다음 페이지: after = lastCursor / 이전 페이지: before = firstCursor
+ * - 커서 값은 상태/ISBN 검색이면 BOOK_ID, 제목/저자 검색이면 페이지 경계 ISBN13 입니다.
+ */
+@Getter
+@AllArgsConstructor
+public class AdminBookPage {
+    private List<AdminBookListResponseDto> content;
+    private boolean hasPrev;
+    private boolean hasNext;
+    private String firstCursor;
+    private String lastCursor;
+}
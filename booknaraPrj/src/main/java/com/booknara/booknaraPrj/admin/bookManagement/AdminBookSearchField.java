@@ -0,0 +1,19 @@
+package com.booknara.booknaraPrj.admin.bookManagement;
+
+/**
+ * [AdminBookSearchField]
+ * 관리자 도서 목록 검색 대상 (화면의 검색 구분 선택값)
+ * - TITLE / AUTHOR: 앞글자 일치, BOOK_ISBN (정렬 키, ISBN13) 키셋으로 ISBN 단위 페이지
+ * - ISBN: 완전일치, BOOK_ID 키셋
+ */
+public enum AdminBookSearchField {
+    TITLE, AUTHOR, ISBN;
+
+    /** 요청 파라미터 → 검색 대상 (없거나 알 수 없는 값이면 제목) */
+    public static AdminBookSearchField of(String name) {
+        for (AdminBookSearchField f : values()) {
+            if (f.name().equalsIgnoreCase(name)) return f;
+        }
+        return TITLE;
+    }
+}
@@ -0,0 +1,65 @@
+package com.booknara.booknaraPrj.admin.bookManagement.catalog;
+
+import com.booknara.booknaraPrj.admin.bookManagement.AdminBookListResponseDto;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+
+/**
+ * [AdminBookCatalogMapper]
+ * 관리자 도서 목록 키셋 페이징
+ * - selectIdsBy*: 상태 / ISBN 필터는 BOOK_ID 만 조회 (after 면 BOOK_ID 오름차순, before 면 내림차순)
+ * - selectIsbnsBy*Prefix: 제목 / 저자 검색은 BOOK_ISBN 의 (정렬 키, ISBN13) 키셋으로 ISBN 만 조회
+ * - selectRowsBy*: 화면에 필요한 컬럼만 PK IN / ISBN IN 으로 채움
+ */
+@Mapper
+public interface AdminBookCatalogMapper {
+
+    /** 필터 없음 / 상태만 */
+    List<Long> selectIdsByState(@Param("bookState") String bookState,
+                                @Param("after") Long after,
+                                @Param("before") Long before,
+                                @Param("limit") int limit);
+
+    /** ISBN 완전일치 */
+    List<Long> selectIdsByIsbn(@Param("isbn13") String isbn13,
+                               @Param("bookState") String bookState,
+                               @Param("after") Long after,
+                               @Param("before") Long before,
+                               @Param("limit") int limit);
+
+    /**
+     * 제목 앞글자 (prefix 는 LIKE 이스케이프 완료된 값)
+     * (BOOK_TITLE, ISBN13) 키셋으로 ISBN 만 조회 (after 면 오름차순, before 면 내림차순)
+     */
+    List<String> selectIsbnsByTitlePrefix(@Param("prefix") String prefix,
+                                          @Param("bookState") String bookState,
+                                          @Param("afterKey") String afterKey,
+                                          @Param("afterIsbn") String afterIsbn,
+                                          @Param("beforeKey") String beforeKey,
+                                          @Param("beforeIsbn") String beforeIsbn,
+                                          @Param("limit") int limit);
+
+    /** 저자 앞글자: (AUTHORS, ISBN13) 키셋 (제목과 같은 규칙) */
+    List<String> selectIsbnsByAuthorPrefix(@Param("prefix") String prefix,
+                                           @Param("bookState") String bookState,
+                                           @Param("afterKey") String afterKey,
+                                           @Param("afterIsbn") String afterIsbn,
+                                           @Param("beforeKey") String beforeKey,
+                                           @Param("beforeIsbn") String beforeIsbn,
+                                           @Param("limit") int limit);
+
+    /** 커서 ISBN 의 제목 (키셋 정렬 키) */
+    String selectTitleByIsbn(@Param("isbn13") String isbn13);
+
+    /** 커서 ISBN 의 저자 (키셋 정렬 키) */
+    String selectAuthorsByIsbn(@Param("isbn13") String isbn13);
+
+    /** 목록 행 채우기 (BOOK_ID 오름차순) */
+    List<AdminBookListResponseDto> selectRowsByIds(@Param("bookIds") List<Long> bookIds);
+
+    /** ISBN 페이지의 복본 행 채우기 (상태 조건 적용) */
+    List<AdminBookListResponseDto> selectRowsByIsbns(@Param("isbns") List<String> isbns,
+                                                     @Param("bookState") String bookState);
+}
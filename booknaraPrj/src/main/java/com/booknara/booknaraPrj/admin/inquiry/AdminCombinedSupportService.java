@@ -1,25 +1,83 @@
 package com.booknara.booknaraPrj.admin.inquiry;
 
+import com.booknara.booknaraPrj.common.supportinbox.SupportInboxCountDTO;
+import com.booknara.booknaraPrj.common.supportinbox.SupportInboxMapper;
+import com.booknara.booknaraPrj.common.supportinbox.SupportInboxService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * [AdminCombinedSupportService]
+ * 문의/신고 통합 목록과 상단 카드 건수를 SUPPORT_INBOX / SUPPORT_INBOX_COUNT 에서 조회합니다.
+ * - 목록: 필터 조합별로 인덱스 순서대로 읽고, 작성자 검색이 없으면 전체 건수도 건수 테이블에서 계산
+ * - 카드: 건수 테이블(최대 4행)만 읽음
+ */
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class AdminCombinedSupportService {
 
-    private final AdminCombinedSupportRepository adminCombinedSupportRepository;
+    private final SupportInboxMapper supportInboxMapper;
 
     public Page<AdminCombinedSupport> getFilteredList(String keyword, String type, String status,
                                                       String sortField, String sortDir, Pageable pageable) {
-        return adminCombinedSupportRepository.findFilteredList(keyword, type, status, sortField, sortDir, pageable);
+        // 1. 조건 정리 ('ALL' / 빈 값은 조건 없음, 정렬은 허용값만)
+        String typeCond = (type == null || "ALL".equals(type)) ? null : type;
+        String stateCond = (status == null || "ALL".equals(status)) ? null : status;
+        String keywordCond = (keyword == null || keyword.isBlank()) ? null : escapeLike(keyword.trim());
+        String field = "resolvedAt".equals(sortField) ? "resolvedAt" : "regDate";
+        String dir = "asc".equalsIgnoreCase(sortDir) ? "asc" : "desc";
+
+        // 2. 목록
+        List<AdminCombinedSupport> content = supportInboxMapper.selectPage(
+                typeCond, stateCond, keywordCond, field, dir, pageable.getPageSize(), pageable.getOffset());
+
+        // 3. 전체 건수 (작성자 검색이 없으면 건수 테이블로 계산)
+        long total;
+        if (keywordCond == null) {
+            total = 0;
+            for (SupportInboxCountDTO c : supportInboxMapper.selectCounts()) {
+                if (typeCond != null && !typeCond.equals(c.getType())) continue;
+                if (stateCond != null && !stateCond.equals(c.getState())) continue;
+                total += c.getCnt();
+            }
+        } else {
+            total = supportInboxMapper.countPage(typeCond, stateCond, keywordCond);
+        }
+
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    /**
+     * 상단 카드 건수
+     * @return inquiry / report / pending(N) / resolved(Y)
+     */
+    public Map<String, Long> getCardCounts() {
+        Map<String, Long> counts = new HashMap<>();
+        counts.put("inquiry", 0L);
+        counts.put("report", 0L);
+        counts.put("pending", 0L);
+        counts.put("resolved", 0L);
+
+        for (SupportInboxCountDTO c : supportInboxMapper.selectCounts()) {
+            if (SupportInboxService.TYPE_INQUIRY.equals(c.getType())) counts.merge("inquiry", c.getCnt(), Long::sum);
+            if (SupportInboxService.TYPE_REPORT.equals(c.getType())) counts.merge("report", c.getCnt(), Long::sum);
+            if ("N".equals(c.getState())) counts.merge("pending", c.getCnt(), Long::sum);
+            if ("Y".equals(c.getState())) counts.merge("resolved", c.getCnt(), Long::sum);
+        }
+        return counts;
     }
 
-    // 카드에 표시할 대기/완료 개수 조회
-    public long getCountByState(String state) {
-        return adminCombinedSupportRepository.countByState(state);
+    /** LIKE 와일드카드(%, _) 를 일반 문자로 검색 */
+    private static String escapeLike(String s) {
+        return s.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
     }
-}
\ No newline at end of file
+}
@@ -1,5 +1,6 @@
 package com.booknara.booknaraPrj.admin.inquiry;
 
+import com.booknara.booknaraPrj.common.supportinbox.SupportInboxService;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -10,6 +11,7 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class AdminInquiryService {
     private final AdminInquiryRepository adminInquiryRepository;
+    private final SupportInboxService supportInboxService;
 
 
     public AdminInquiry getInquiry(String inqId) {
@@ -19,7 +21,9 @@ public class AdminInquiryService {
 
     @Transactional
     public void save(AdminInquiry adminInquiry) {
-        adminInquiryRepository.save(adminInquiry);
+        // 통합 수신함은 INQUIRY 를 SQL 로 다시 읽으므로 먼저 flush
+        adminInquiryRepository.saveAndFlush(adminInquiry);
+        supportInboxService.syncInquiry(adminInquiry.getInqId());
     }
 
     public long getTotalCount() { return adminInquiryRepository.count(); }
@@ -1,15 +1,29 @@
 package com.booknara.booknaraPrj.admin.inquiry;
 
+import com.booknara.booknaraPrj.common.upload.UploadStorageService;
+import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import java.util.concurrent.TimeUnit;
+
 @Configuration
+@RequiredArgsConstructor
 public class WebConfig implements WebMvcConfigurer {
+
+    private final UploadStorageService uploadStorageService;
+
     @Override
     public void addResourceHandlers(ResourceHandlerRegistry registry) {
-        // 브라우저에서 /uploads/** 로 접근하면 실제 C:/data/uploads/ 폴더를 보여줌
+        // 브라우저에서 /uploads/** 로 접근하면 이벤트 업로드 폴더(uploads.event-dir)를 보여줌
+        // - 파일명이 내용 해시이므로 1년 immutable 캐시
+        // - ETag(파일명) / Last-Modified 조건부 요청(304), Range(206)는 ResourceHttpRequestHandler가 처리
         registry.addResourceHandler("/uploads/**")
-                .addResourceLocations("file:/C:/data/uploads/"); // 실제 파일이 저장된 절대 경로 (끝에 / 필수)
+                .addResourceLocations(uploadStorageService.getRoot().toUri().toString()) // file:/.../ (끝에 / 포함)
+                .setCacheControl(CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable())
+                .setUseLastModified(true)
+                .setEtagGenerator(resource -> resource.getFilename());
     }
 }
@@ -1,5 +1,6 @@
 package com.booknara.booknaraPrj.admin.report;
 
+import com.booknara.booknaraPrj.common.supportinbox.SupportInboxService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -12,6 +13,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class AdminReportService {
 
     private final AdminReportRepository adminReportRepository;
+    private final SupportInboxService supportInboxService;
 
     public long getTotalCount() { return adminReportRepository.count(); }
     public long getPendingCount() { return adminReportRepository.countByAdminReportState(AdminReportState.PENDING); }
@@ -46,6 +48,8 @@ public class AdminReportService {
     // 2. 저장 메서드
     @Transactional
     public void save(AdminReport adminReport) {
-        adminReportRepository.save(adminReport);
+        // 통합 수신함은 REPORT 를 SQL 로 다시 읽으므로 먼저 flush
+        adminReportRepository.saveAndFlush(adminReport);
+        supportInboxService.syncReport(adminReport.getReportId());
     }
 }
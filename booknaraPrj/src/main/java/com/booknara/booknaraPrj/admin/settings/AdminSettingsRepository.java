@@ -2,11 +2,17 @@ package com.booknara.booknaraPrj.admin.settings;
 
 import com.booknara.booknaraPrj.admin.recomBooks.AdminRecomBooks;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 public interface AdminSettingsRepository extends JpaRepository<AdminSettings, Long> {
     // 가장 최근(하나뿐인) 설정을 가져오기 위해 상단 1개를 찾는 메서드
     Optional<AdminSettings> findFirstByOrderBySettingsIdAsc();
+
+    // 설정 스냅샷 버전 확인용: 행 전체 대신 UPDATED_AT만 조회
+    @Query(value = "SELECT UPDATED_AT FROM SETTINGS ORDER BY SETTINGS_ID ASC LIMIT 1", nativeQuery = true)
+    LocalDateTime findLatestUpdatedAt();
 }
\ No newline at end of file
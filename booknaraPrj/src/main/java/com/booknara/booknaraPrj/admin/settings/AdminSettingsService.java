@@ -6,6 +6,7 @@ import com.booknara.booknaraPrj.admin.recomBooks.AdminBookSearchResponseDto;
 import com.booknara.booknaraPrj.admin.recomBooks.AdminRecomBooks;
 import com.booknara.booknaraPrj.admin.recomBooks.AdminRecomBooksRepository;
 import com.booknara.booknaraPrj.admin.recomBooks.AdminRecomState;
+import com.booknara.booknaraPrj.common.sampling.BookSampler;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -25,7 +26,10 @@ public class AdminSettingsService {
     private final AdminSettingsRepository adminSettingsRepository;
     private final AdminBookIsbnRepository adminBookIsbnRepository;
     private final AdminRecomBooksRepository adminRecomBooksRepository;
+    private final SettingsSnapshotHolder settingsSnapshotHolder;
+    private final BookSampler bookSampler;
 
+    // 관리자 설정 편집 화면용 (엔티티 원본)
     @Transactional(readOnly = true)
     public AdminSettings getSettings() {
         return adminSettingsRepository.findFirstByOrderBySettingsIdAsc()
@@ -68,6 +72,9 @@ public class AdminSettingsService {
 
         // 3. saveAndFlush로 즉시 DB 반영 강제
         adminSettingsRepository.saveAndFlush(existing);
+
+        // 4. 커밋 후 메모리 설정 스냅샷 교체
+        settingsSnapshotHolder.publishAfterCommit(existing);
     }
 
     // 1. 도서 검색 (검색어 기반)
@@ -83,13 +90,12 @@ public class AdminSettingsService {
 
     // 2. 랜덤 추출 로직 (Offset 방식)
     public List<AdminBookSearchResponseDto> getRandomBooks(int count) {
-        long total = adminBookIsbnRepository.countByEBookYnNative();
-        if (total == 0) return new ArrayList<>();
-
-        int maxOffset = (int) Math.max(0, total - count);
-        int randomOffset = (int) (Math.random() * (maxOffset + 1));
+        // 종이책 전체에서 서로 다른 count권을 메모리에서 추출 (COUNT + OFFSET 스캔 없음)
+        List<String> isbns = bookSampler.samplePaperBooks(count);
+        if (isbns.isEmpty()) return new ArrayList<>();
 
-        List<AdminBookIsbn> entities = adminBookIsbnRepository.findRandomBooksWithOffset(count, randomOffset);
+        // 뽑힌 도서만 PK 조회
+        List<AdminBookIsbn> entities = adminBookIsbnRepository.findAllById(isbns);
 
         return entities.stream()
                 .map(book -> new AdminBookSearchResponseDto(
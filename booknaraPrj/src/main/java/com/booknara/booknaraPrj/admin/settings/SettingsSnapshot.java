@@ -0,0 +1,54 @@
+package com.booknara.booknaraPrj.admin.settings;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * [SettingsSnapshot]
+ * SETTINGS 테이블 한 행을 복사한 불변(immutable) 스냅샷입니다.
+ * 대출/장바구니 정책 확인과 화면 공통 모델(footer 연락처 등)에서 DB 조회 없이 공유됩니다.
+ */
+@Getter
+@Builder
+public class SettingsSnapshot {
+
+    /** 설정 미등록 시 사용하는 1인당 최대 대출 권수 */
+    public static final int DEFAULT_MAX_LEND_COUNT = 5;
+
+    /** 메모리 내 스냅샷 교체 순번 (갱신될 때마다 1씩 증가) */
+    private final long version;
+
+    /** 원본 행의 UPDATED_AT (노드 간 변경 감지용) */
+    private final LocalDateTime sourceUpdatedAt;
+
+    private final int defaultLendDays;
+    private final int defaultExtendDays;
+    private final int lateFeePerDay;
+    private final int latePenaltyDays;
+    private final int maxLendCount;
+    private final int dbUpdateCycleDays;
+    private final String adminEmail;
+    private final String adminPhone;
+
+    /** 정책 검증용 최대 대출 권수 (0 이하 또는 미설정이면 기본값 5) */
+    public int getEffectiveMaxLendCount() {
+        return maxLendCount > 0 ? maxLendCount : DEFAULT_MAX_LEND_COUNT;
+    }
+
+    static SettingsSnapshot of(AdminSettings s, long version) {
+        return SettingsSnapshot.builder()
+                .version(version)
+                .sourceUpdatedAt(s.getUpdatedAt())
+                .defaultLendDays(s.getDefaultLendDays())
+                .defaultExtendDays(s.getDefaultExtendDays())
+                .lateFeePerDay(s.getLateFeePerDay())
+                .latePenaltyDays(s.getLatePenaltyDays())
+                .maxLendCount(s.getMaxLendCount())
+                .dbUpdateCycleDays(s.getDbUpdateCycleDays())
+                .adminEmail(s.getAdminEmail())
+                .adminPhone(s.getAdminPhone())
+                .build();
+    }
+}
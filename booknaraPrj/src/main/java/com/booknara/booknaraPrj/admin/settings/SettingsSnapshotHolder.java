@@ -0,0 +1,84 @@
+package com.booknara.booknaraPrj.admin.settings;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * [SettingsSnapshotHolder]
+ * 시스템 설정(SETTINGS)의 불변 스냅샷을 메모리에 보관하고 원자적으로 교체하는 컴포넌트입니다.
+ * - 최초 접근 시 1회 DB에서 적재하고, 이후 모든 조회는 메모리 참조만 합니다.
+ * - 관리자 설정 저장(updateSettings)이 커밋되면 저장된 값으로 스냅샷을 즉시 교체합니다.
+ * - 다중 서버 환경에서는 settings.snapshot.poll-enabled=true 로 UPDATED_AT 변경을 주기적으로 감지합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SettingsSnapshotHolder {
+
+    private final AdminSettingsRepository adminSettingsRepository;
+
+    private final AtomicReference<SettingsSnapshot> current = new AtomicReference<>();
+    private final AtomicLong versionSeq = new AtomicLong();
+
+    @Value("${settings.snapshot.poll-enabled:false}")
+    private boolean pollEnabled;
+
+    /** 현재 설정 스냅샷 (없으면 DB에서 1회 적재) */
+    public SettingsSnapshot get() {
+        SettingsSnapshot snapshot = current.get();
+        return snapshot != null ? snapshot : reload();
+    }
+
+    /** DB에서 설정을 다시 읽어 스냅샷 교체 */
+    public SettingsSnapshot reload() {
+        AdminSettings settings = adminSettingsRepository.findFirstByOrderBySettingsIdAsc()
+                .orElse(new AdminSettings());
+        return publish(settings);
+    }
+
+    /** 설정 저장 트랜잭션이 커밋된 뒤 저장된 값으로 스냅샷 교체 (롤백 시 반영 안 됨) */
+    public void publishAfterCommit(AdminSettings saved) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publish(saved);
+                }
+            });
+            return;
+        }
+        publish(saved);
+    }
+
+    /** 다른 서버에서 변경된 설정 감지: UPDATED_AT(버전 컬럼)만 조회해서 달라졌을 때만 재적재 */
+    @Scheduled(fixedDelayString = "${settings.snapshot.poll-interval-ms:30000}")
+    public void pollVersion() {
+        if (!pollEnabled) return;
+
+        SettingsSnapshot snapshot = current.get();
+        if (snapshot == null) return; // 아직 아무도 읽지 않음 -> 최초 접근 시 적재
+
+        LocalDateTime dbUpdatedAt = adminSettingsRepository.findLatestUpdatedAt();
+        if (!Objects.equals(dbUpdatedAt, snapshot.getSourceUpdatedAt())) {
+            SettingsSnapshot reloaded = reload();
+            log.info("settings snapshot reloaded by version poll. version={} updatedAt={}",
+                    reloaded.getVersion(), reloaded.getSourceUpdatedAt());
+        }
+    }
+
+    private SettingsSnapshot publish(AdminSettings settings) {
+        SettingsSnapshot snapshot = SettingsSnapshot.of(settings, versionSeq.incrementAndGet());
+        current.set(snapshot);
+        return snapshot;
+    }
+}
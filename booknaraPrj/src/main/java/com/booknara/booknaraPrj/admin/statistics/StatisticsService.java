@@ -1,10 +1,14 @@
 package com.booknara.booknaraPrj.admin.statistics;
 
+import com.booknara.booknaraPrj.admin.statistics.demographics.UserDemographicCounter;
+import com.booknara.booknaraPrj.admin.statistics.rollup.LendStatsMapper;
+import com.booknara.booknaraPrj.admin.statistics.rollup.LendStatsRowDTO;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -14,27 +18,26 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor // 생성자 주입
 public class StatisticsService {
 
-    private final StatisticsRepository statisticsRepository;
+    private final UserDemographicCounter demographicCounter;
     private final LendRepository lendRepository;
+    private final LendStatsMapper lendStatsMapper;
 
     /**
      * 실시간 통합 통계 데이터 조회
+     * - USERS 를 스캔하지 않고 UserDemographicCounter 스냅샷으로 계산합니다.
      */
     public Map<String, Object> getRealTimeUserStatistics() {
         Map<String, Object> stats = new HashMap<>();
+        UserDemographicCounter.Snapshot snapshot = demographicCounter.snapshot();
+        long total = snapshot.total();
 
-        // 1. 연령대 통계 조회 및 DTO 변환
-        List<UserAgeStatProjection> ageProjections = statisticsRepository.findAgeGroupStatistics();
-        List<StatDto> ageStats = ageProjections.stream()
-                .map(p -> new StatDto(p.getLabel(), p.getCount(), p.getPercentage()))
-                .collect(Collectors.toList());
+        // 1. 연령대 통계 (전체 회원 대비 비율)
+        List<StatDto> ageStats = toAgeStats(snapshot.ageCounts(null), total);
 
-        // 2. 성별 통계 조회 및 DTO 변환
-        List<UserAgeStatProjection> genderProjections = statisticsRepository.findGenderStatistics();
-        List<StatDto> genderStats = genderProjections.stream()
-                .map(p -> new StatDto(p.getLabel().equals("M") ? "남성" : "여성",
-                        p.getCount(), p.getPercentage()))
-                .collect(Collectors.toList());
+        // 2. 성별 통계
+        List<StatDto> genderStats = new ArrayList<>();
+        snapshot.genderCounts().forEach((gender, count) ->
+                genderStats.add(new StatDto(genderLabel(gender), count, ratio(count, total))));
 
         stats.put("ageStats", ageStats);
         stats.put("genderStats", genderStats);
@@ -44,18 +47,13 @@ public class StatisticsService {
 
     public Map<String, Object> getGenderAgeStatistics() {
         Map<String, Object> result = new HashMap<>();
+        UserDemographicCounter.Snapshot snapshot = demographicCounter.snapshot();
 
-        // 1. 남성 연령대 통계 조회
-        List<UserAgeStatProjection> maleProjections = statisticsRepository.findAgeGroupStatisticsByGender("M");
-        List<StatDto> maleAgeStats = maleProjections.stream()
-                .map(p -> new StatDto(p.getLabel(), p.getCount(), p.getPercentage()))
-                .collect(Collectors.toList());
+        // 1. 남성 연령대 통계 (남성 회원 대비 비율)
+        List<StatDto> maleAgeStats = toAgeStats(snapshot.ageCounts("M"), snapshot.countByGender("M"));
 
-        // 2. 여성 연령대 통계 조회
-        List<UserAgeStatProjection> femaleProjections = statisticsRepository.findAgeGroupStatisticsByGender("F");
-        List<StatDto> femaleAgeStats = femaleProjections.stream()
-                .map(p -> new StatDto(p.getLabel(), p.getCount(), p.getPercentage()))
-                .collect(Collectors.toList());
+        // 2. 여성 연령대 통계 (여성 회원 대비 비율)
+        List<StatDto> femaleAgeStats = toAgeStats(snapshot.ageCounts("F"), snapshot.countByGender("F"));
 
         result.put("maleAgeStats", maleAgeStats);
         result.put("femaleAgeStats", femaleAgeStats);
@@ -63,52 +61,87 @@ public class StatisticsService {
         return result;
     }
 
-    public Map<String, Object> getDashboardData() {
+    /** 인원이 있는 연령대만 라벨 순서대로 (기존 GROUP BY 결과와 동일) */
+    private static List<StatDto> toAgeStats(long[] counts, long total) {
+        List<StatDto> list = new ArrayList<>();
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] == 0) continue;
+            list.add(new StatDto(UserDemographicCounter.AGE_LABELS.get(i), counts[i], ratio(counts[i], total)));
+        }
+        return list;
+    }
+
+    /** 소셜 가입 등으로 성별이 비어 있는 회원은 '미입력' 으로 따로 표시 */
+    private static String genderLabel(String gender) {
+        if ("M".equals(gender)) return "남성";
+        if ("F".equals(gender)) return "여성";
+        return "미입력";
+    }
+
+    /** ROUND(count * 100.0 / total, 1) */
+    private static Double ratio(long count, long total) {
+        if (total <= 0) return 0.0;
+        return Math.round(count * 1000.0 / total) / 10.0;
+    }
+
+    /**
+     * 대출 대시보드 (월별 대출 건수 + 상단 카드 4종)
+     * - 누적 지표는 LEND_STATS_DAILY 일별 롤업(기간 내 수백 행)을 월 단위로 합쳐 계산합니다.
+     * - 실시간 값(현재 대출 중 / 현재 연체 중)만 LENDS 의 미반납 건을 인덱스로 조회합니다.
+     * @param from 시작일 (포함)
+     * @param to   종료일 (포함)
+     */
+    public Map<String, Object> getDashboardData(LocalDate from, LocalDate to) {
         Map<String, Object> data = new HashMap<>();
 
-        // [중요] 분석 기간을 2026년까지 확장 (추가한 데이터가 보이도록)
-        LocalDateTime start = LocalDateTime.of(2023, 1, 1, 0, 0, 0);
-        LocalDateTime end = LocalDateTime.of(2026, 12, 31, 23, 59, 59);
+        // 1. 월별 롤업 조회
+        List<LendStatsRowDTO> rows = lendStatsMapper.selectMonthly(from, to);
 
-        // 1. 월별 통계
-        List<Map<String, Object>> monthlyStats = lendRepository.findMonthlyLendStats(start, end);
+        List<Map<String, Object>> monthlyStats = rows.stream()
+                .map(r -> Map.<String, Object>of("label", r.getLabel(), "count", r.getLendCnt()))
+                .collect(Collectors.toList());
         data.put("monthlyStats", monthlyStats);
 
         // 2. 차트 최댓값 계산
-        int maxCount = monthlyStats.stream()
-                .mapToInt(m -> {
-                    Object val = m.getOrDefault("count", m.get("COUNT"));
-                    return (val instanceof Number) ? ((Number) val).intValue() : 0;
-                })
-                .max()
-                .orElse(100);
+        long maxCount = rows.stream().mapToLong(LendStatsRowDTO::getLendCnt).max().orElse(100);
         data.put("maxCount", maxCount);
 
-        // 3. 상단 카드 4종 지표 (getOverdueStatistics 로직 통합)
-        LocalDateTime now = LocalDateTime.of(2026, 12, 31, 23, 0);
-        long totalCount = lendRepository.count();
-
-        // 연체율
-        long overdueCountTotal = lendRepository.countAllOverdueItems(now);
-        double overdueRate = (totalCount > 0) ? (overdueCountTotal * 100.0 / totalCount) : 0.0;
-        data.put("overdueRate", String.format("%.1f", overdueRate));
+        // 3. 기간 합계
+        long lendCnt = 0, extendedCnt = 0, returnCnt = 0, lendDaysSum = 0, lateReturnCnt = 0, overdueDaysSum = 0;
+        for (LendStatsRowDTO r : rows) {
+            lendCnt += r.getLendCnt();
+            extendedCnt += r.getExtendedCnt();
+            returnCnt += r.getReturnCnt();
+            lendDaysSum += r.getLendDaysSum();
+            lateReturnCnt += r.getLateReturnCnt();
+            overdueDaysSum += r.getOverdueDaysSum();
+        }
+
+        // 연체율: (기간 내 연체 반납 + 현재 연체 중) / 기간 내 대출
+        long openOverdue = lendRepository.countOpenOverdue(LocalDateTime.now());
+        data.put("overdueRate", percent(lateReturnCnt + openOverdue, lendCnt));
 
         // 연장 비율
-        long extendedCount = lendRepository.countByExtendCntGreaterThan(0);
-        double extensionRate = (totalCount > 0) ? (extendedCount * 100.0 / totalCount) : 0.0;
-        data.put("extensionRate", String.format("%.1f", extensionRate));
-
-        // 평균 대여 일수
-        Double avgLendDays = lendRepository.getAvgLendDays();
-        data.put("avgLendDays", (avgLendDays != null) ? String.format("%.1f", avgLendDays) : "0.0");
+        data.put("extensionRate", percent(extendedCnt, lendCnt));
 
-        // 평균 연체 일수
-        Double avgOverdueDays = lendRepository.getAvgOverdueDays();
-        data.put("avgOverdueDays", (avgOverdueDays != null) ? String.format("%.1f", avgOverdueDays) : "0.0");
+        // 평균 대여 일수 / 평균 연체 일수
+        data.put("avgLendDays", average(lendDaysSum, returnCnt));
+        data.put("avgOverdueDays", average(overdueDaysSum, lateReturnCnt));
 
-        // 기존의 단순 카운트 (필요시 유지)
+        // 실시간 카운트
         data.put("currentLendCount", lendRepository.countByReturnDoneAtIsNull());
+        data.put("overdueCount", openOverdue);
 
         return data;
     }
-}
\ No newline at end of file
+
+    private static String percent(long part, long total) {
+        double rate = (total > 0) ? (part * 100.0 / total) : 0.0;
+        return String.format("%.1f", rate);
+    }
+
+    private static String average(long sum, long count) {
+        double avg = (count > 0) ? ((double) sum / count) : 0.0;
+        return String.format("%.1f", avg);
+    }
+}
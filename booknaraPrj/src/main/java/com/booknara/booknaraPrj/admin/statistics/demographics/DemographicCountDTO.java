@@ -0,0 +1,15 @@
+package com.booknara.booknaraPrj.admin.statistics.demographics;
+
+import lombok.Data;
+
+/**
+ * [DemographicCountDTO]
+ * USERS 를 (출생연도, 성별, 상태) 로 묶은 한 행 (단건 조회 시 cnt = 1)
+ */
+@Data
+public class DemographicCountDTO {
+    private Integer birthYear;  // BIRTHDAY 가 없으면 null
+    private String gender;      // M/F (없으면 null)
+    private String userState;
+    private long cnt;
+}
@@ -0,0 +1,16 @@
+package com.booknara.booknaraPrj.admin.statistics.demographics;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+
+@Mapper
+public interface DemographicMapper {
+
+    /** 전체 재집계 (기동 시 / 일일 재동기화 / 일괄 상태 변경 후) */
+    List<DemographicCountDTO> selectCounts();
+
+    /** 회원 1명의 현재 (출생연도, 성별, 상태) — 상태 변경 직전 조회용 */
+    DemographicCountDTO selectUserKey(@Param("userId") String userId);
+}
@@ -0,0 +1,290 @@
+package com.booknara.booknaraPrj.admin.statistics.demographics;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * [UserDemographicCounter]
+ * 회원 수를 (출생연도, 성별, 상태) 단위로 메모리에 들고 있는 카운터입니다.
+ * - 관리자 통계(연령대/성별) · 회원관리 상단 카드(상태별 인원)를 USERS 전체 스캔 없이 스냅샷으로 계산합니다.
+ * - 가입/탈퇴/상태 변경 시 커밋 후 해당 칸만 ±1 합니다.
+ * - 연령대는 스냅샷을 읽는 시점의 연도로 계산하므로(YEAR(CURDATE()) - YEAR(BIRTHDAY) 와 동일) 해가 바뀌면 자동으로 넘어갑니다.
+ * - 일괄 UPDATE(연체 제재 스케줄러 등)나 직접 SQL 변경은 reload()/매일 자정 재집계로 맞춥니다.
+ * - 재집계 도중 커밋된 ±1 이 유실/중복되지 않도록, 집계 전후로 변경 시퀀스와 커밋 진행 중 건수를 확인해 어긋나면 다시 집계합니다.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class UserDemographicCounter {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final int RESYNC_ATTEMPTS = 5;
+
+    /** 연령대 라벨 (기존 통계 쿼리의 CASE 순서 그대로) */
+    public static final List<String> AGE_LABELS = List.of("10대 이하", "20대", "30대", "40대", "50대 이상");
+
+    private final DemographicMapper mapper;
+
+    private final Map<Key, Long> counts = new HashMap<>();
+    private volatile boolean loaded;
+
+    // ±1 반영(또는 롤백) 완료마다 증가 → 집계 전후 값이 다르면 집계 결과를 버림
+    private final AtomicLong writeSeq = new AtomicLong();
+    // 커밋 직전~반영 전 트랜잭션 수 → 0이 아니면 "커밋은 보이지만 아직 반영 안 된" 변경이 있을 수 있음
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private record Key(Integer birthYear, String gender, String state) {
+    }
+
+    /** 읽기 전용 스냅샷 (조회 시점 연도 기준) */
+    public static final class Snapshot {
+        private final Map<Key, Long> counts;
+        private final int currentYear;
+
+        private Snapshot(Map<Key, Long> counts, int currentYear) {
+            this.counts = counts;
+            this.currentYear = currentYear;
+        }
+
+        /** 전체 회원 수 (모든 상태 포함) */
+        public long total() {
+            long sum = 0;
+            for (long c : counts.values()) sum += c;
+            return sum;
+        }
+
+        public long countByGender(String gender) {
+            long sum = 0;
+            for (Map.Entry<Key, Long> e : counts.entrySet()) {
+                if (Objects.equals(e.getKey().gender(), gender)) sum += e.getValue();
+            }
+            return sum;
+        }
+
+        public long countByState(String state) {
+            long sum = 0;
+            for (Map.Entry<Key, Long> e : counts.entrySet()) {
+                if (Objects.equals(e.getKey().state(), state)) sum += e.getValue();
+            }
+            return sum;
+        }
+
+        /** 성별별 인원 (M, F 순, 그 외 값은 뒤에) */
+        public Map<String, Long> genderCounts() {
+            Map<String, Long> result = new LinkedHashMap<>();
+            result.put("M", 0L);
+            result.put("F", 0L);
+            for (Map.Entry<Key, Long> e : counts.entrySet()) {
+                result.merge(e.getKey().gender(), e.getValue(), Long::sum);
+            }
+            result.values().removeIf(c -> c == 0);
+            return result;
+        }
+
+        /**
+         * 연령대별 인원 (AGE_LABELS 순서)
+         * @param gender null 이면 전체, 아니면 해당 성별만
+         */
+        public long[] ageCounts(String gender) {
+            long[] result = new long[AGE_LABELS.size()];
+            for (Map.Entry<Key, Long> e : counts.entrySet()) {
+                if (gender != null && !gender.equals(e.getKey().gender())) continue;
+                result[ageBucket(e.getKey().birthYear())] += e.getValue();
+            }
+            return result;
+        }
+
+        private int ageBucket(Integer birthYear) {
+            // 생일 미입력은 기존 쿼리의 ELSE 분기와 같이 '50대 이상'
+            if (birthYear == null) return AGE_LABELS.size() - 1;
+            int age = currentYear - birthYear;
+            if (age < 20) return 0;
+            if (age < 30) return 1;
+            if (age < 40) return 2;
+            if (age < 50) return 3;
+            return 4;
+        }
+    }
+
+    /** 현재 카운트 스냅샷 (최초 1회만 DB 집계) */
+    public Snapshot snapshot() {
+        if (!loaded) resync();
+        synchronized (counts) {
+            return new Snapshot(new HashMap<>(counts), LocalDate.now(ZONE).getYear());
+        }
+    }
+
+    // =========================
+    // 증분 반영 (커밋 후)
+    // =========================
+
+    /** 신규 가입 */
+    public void userAdded(LocalDate birthday, String gender, String state) {
+        Key key = new Key(birthday == null ? null : birthday.getYear(), gender, state);
+        applyAfterCommit(() -> add(key, 1));
+    }
+
+    /** 상태 변경 (변경 전 회원 정보를 이미 들고 있는 경우) */
+    public void stateChanged(LocalDate birthday, String gender, String fromState, String toState) {
+        if (Objects.equals(fromState, toState)) return;
+        Integer birthYear = birthday == null ? null : birthday.getYear();
+        applyAfterCommit(() -> move(new Key(birthYear, gender, fromState), new Key(birthYear, gender, toState)));
+    }
+
+    /** 상태 변경 (UPDATE 직전에 호출: 현재 행을 PK로 1건 조회해 둠) */
+    public void stateChanging(String userId, String toState) {
+        DemographicCountDTO row = mapper.selectUserKey(userId);
+        if (row == null || Objects.equals(row.getUserState(), toState)) return;
+        applyAfterCommit(() -> move(new Key(row.getBirthYear(), row.getGender(), row.getUserState()),
+                new Key(row.getBirthYear(), row.getGender(), toState)));
+    }
+
+    /** 여러 회원 상태가 한 번에 바뀐 경우: 커밋 후 전체 재집계 */
+    public void reload() {
+        afterCommit(this::resync);
+    }
+
+    // =========================
+    // 재집계
+    // =========================
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            resync();
+        } catch (Exception e) {
+            // 첫 조회 때 다시 시도
+            log.warn("user demographic warm-up failed. msg={}", e.getMessage());
+        }
+    }
+
+    /**
+     * 매일 00:05 (KST) 재집계: 반영 경로 밖의 변경을 보정하는 안전망
+     * 집계(SELECT)와 교체 사이에 ±1 이 반영되었거나, 집계 시점에 커밋 중인 변경이 있으면 결과를 버리고 다시 집계합니다.
+     */
+    @Scheduled(cron = "0 5 0 * * *", zone = "Asia/Seoul")
+    public void resync() {
+        for (int attempt = 1; attempt <= RESYNC_ATTEMPTS; attempt++) {
+            long before = writeSeq.get();
+            if (inFlight.get() == 0) {
+                Map<Key, Long> fresh = load();
+
+                synchronized (counts) {
+                    if (writeSeq.get() == before && inFlight.get() == 0) {
+                        counts.clear();
+                        counts.putAll(fresh);
+                        loaded = true;
+                        log.info("user demographic counters loaded. groups={} attempt={}", fresh.size(), attempt);
+                        return;
+                    }
+                }
+            }
+            if (!pause(attempt)) break;
+        }
+        // 기존 카운트 유지 (로딩 전이면 다음 snapshot()에서 다시 시도)
+        log.warn("user demographic resync skipped: member changes kept landing during aggregation. attempts={}", RESYNC_ATTEMPTS);
+    }
+
+    private Map<Key, Long> load() {
+        List<DemographicCountDTO> rows = mapper.selectCounts();
+
+        Map<Key, Long> fresh = new HashMap<>();
+        for (DemographicCountDTO r : rows) {
+            fresh.merge(new Key(r.getBirthYear(), r.getGender(), r.getUserState()), r.getCnt(), Long::sum);
+        }
+        return fresh;
+    }
+
+    private static boolean pause(int attempt) {
+        try {
+            Thread.sleep(20L * attempt);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    // =========================
+    // 내부 유틸
+    // =========================
+
+    private void add(Key key, long delta) {
+        synchronized (counts) {
+            // 아직 로딩 전이면 첫 집계에 포함되므로 건너뜀
+            if (!loaded) return;
+            long next = counts.getOrDefault(key, 0L) + delta;
+            if (next > 0) counts.put(key, next);
+            else counts.remove(key);
+        }
+    }
+
+    private void move(Key from, Key to) {
+        synchronized (counts) {
+            add(from, -1);
+            add(to, 1);
+        }
+    }
+
+    /**
+     * ±1 반영을 커밋 후로 미룸
+     * - beforeCommit ~ afterCompletion 사이는 inFlight 로 표시 (재집계가 이 구간의 커밋을 중복/누락하지 않도록)
+     * - 반영과 writeSeq 증가는 counts 락 안에서 함께 수행
+     */
+    private void applyAfterCommit(Runnable delta) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                private boolean counted;
+
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    inFlight.incrementAndGet();
+                    counted = true;
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    synchronized (counts) {
+                        if (status == STATUS_COMMITTED) delta.run();
+                        writeSeq.incrementAndGet();
+                        if (counted) inFlight.decrementAndGet();
+                    }
+                }
+            });
+            return;
+        }
+        synchronized (counts) {
+            delta.run();
+            writeSeq.incrementAndGet();
+        }
+    }
+
+    private void afterCommit(Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+            return;
+        }
+        task.run();
+    }
+}
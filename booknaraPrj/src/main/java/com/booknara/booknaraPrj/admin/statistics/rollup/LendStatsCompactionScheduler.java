@@ -0,0 +1,53 @@
+package com.booknara.booknaraPrj.admin.statistics.rollup;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+/**
+ * [LendStatsCompactionScheduler]
+ * LEND_STATS_DAILY 를 LENDS 원본 기준으로 다시 맞추는 야간 재집계입니다.
+ * - 최근 RECENT_DAYS 일만 다시 계산 (연장/반납은 대출 후 수 주 안에 일어나므로 그 이전 행은 바뀌지 않음)
+ * - 테이블이 비어 있으면(최초 배포) 전체 기간을 한 번 채웁니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LendStatsCompactionScheduler {
+
+    private static final int RECENT_DAYS = 90;
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final LocalDate EPOCH = LocalDate.of(2000, 1, 1);
+
+    private final LendStatsMapper mapper;
+
+    /** 최초 배포 시 비어 있는 롤업 채우기 */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void bootstrapIfEmpty() {
+        if (mapper.countRows() > 0) return;
+        int rows = rebuild(EPOCH, LocalDate.now(ZONE).plusDays(1));
+        log.info("lend stats bootstrapped. rows={}", rows);
+    }
+
+    // 매일 04:10 (Asia/Seoul)
+    @Scheduled(cron = "0 10 4 * * *", zone = "Asia/Seoul")
+    @Transactional
+    public void compact() {
+        LocalDate to = LocalDate.now(ZONE).plusDays(1);
+        int rows = rebuild(to.minusDays(RECENT_DAYS + 1L), to);
+        log.info("lend stats compacted. days={} rows={}", RECENT_DAYS, rows);
+    }
+
+    private int rebuild(LocalDate from, LocalDate to) {
+        mapper.deleteRange(from, to);
+        return mapper.rebuildRange(from, to);
+    }
+}
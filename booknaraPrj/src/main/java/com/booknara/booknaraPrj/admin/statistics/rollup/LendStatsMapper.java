@@ -0,0 +1,36 @@
+package com.booknara.booknaraPrj.admin.statistics.rollup;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Mapper
+public interface LendStatsMapper {
+
+    // ===== 증분 반영 (대출/연장/반납 이벤트) =====
+
+    /** 대출 1건: 대출일 행 LEND_CNT +1 */
+    int addLend(@Param("lendId") String lendId);
+
+    /** 연장 1건: 대출일 행 EXTENDED_CNT +1 */
+    int addExtend(@Param("lendId") String lendId);
+
+    /** 반납 1건: 반납일 행 RETURN_CNT / 대여일수 / 연체 반영 */
+    int addReturn(@Param("lendId") String lendId);
+
+    // ===== 재집계 (nightly compaction) =====
+
+    int countRows();
+
+    int deleteRange(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    /** [from, to) 기간을 LENDS 에서 다시 집계 */
+    int rebuildRange(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    // ===== 조회 =====
+
+    /** [from, to] 기간 월별 합계 */
+    List<LendStatsRowDTO> selectMonthly(@Param("from") LocalDate from, @Param("to") LocalDate to);
+}
@@ -0,0 +1,72 @@
+package com.booknara.booknaraPrj.admin.statistics.rollup;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * [LendStatsRecorder]
+ * 대출/연장/반납 이벤트를 LEND_STATS_DAILY 롤업에 증분 반영합니다.
+ * - 대출 트랜잭션이 커밋된 뒤 별도 트랜잭션(REQUIRES_NEW)으로 반영합니다.
+ *   · 하루 1행(hot row) 락을 업무 트랜잭션(BOOKS FOR UPDATE 등)과 섞지 않아 락 순서 역전/데드락이 생기지 않음
+ *   · 롤백된 대출은 커밋 콜백이 호출되지 않으므로 집계되지 않음
+ * - 반영 실패는 이미 커밋된 대출에 영향이 없으므로 로그만 남기고, 누락분은 야간 재집계(LendStatsCompactionScheduler)가 바로잡습니다.
+ */
+@Component
+@Slf4j
+public class LendStatsRecorder {
+
+    private final LendStatsMapper mapper;
+    private final TransactionTemplate requiresNew;
+
+    public LendStatsRecorder(LendStatsMapper mapper, PlatformTransactionManager txManager) {
+        this.mapper = mapper;
+        this.requiresNew = new TransactionTemplate(txManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /** LENDS INSERT 직후 호출 */
+    public void lent(String lendId) {
+        afterCommit("lend", lendId, () -> mapper.addLend(lendId));
+    }
+
+    /** 연장 UPDATE 성공(1건) 직후 호출 */
+    public void extended(String lendId) {
+        afterCommit("extend", lendId, () -> mapper.addExtend(lendId));
+    }
+
+    /** 반납 완료(RETURN_DONE_AT) UPDATE 성공(1건) 직후 호출 */
+    public void returned(String lendId) {
+        afterCommit("return", lendId, () -> mapper.addReturn(lendId));
+    }
+
+    private void afterCommit(String event, String lendId, Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(event, lendId, task);
+                }
+            });
+            return;
+        }
+        apply(event, lendId, task);
+    }
+
+    /**
+     * afterCommit 시점에는 기존 트랜잭션 자원이 아직 바인딩되어 있으므로
+     * 반드시 새 트랜잭션으로 실행해야 실제로 커밋됩니다.
+     */
+    private void apply(String event, String lendId, Runnable task) {
+        try {
+            requiresNew.executeWithoutResult(status -> task.run());
+        } catch (DataAccessException e) {
+            log.warn("lend stats {} skipped. lendId={} msg={}", event, lendId, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.booknara.booknaraPrj.admin.statistics.rollup;
+
+import lombok.Data;
+
+/**
+ * [LendStatsRowDTO]
+ * LEND_STATS_DAILY 를 기간 단위(월)로 합친 한 행
+ */
+@Data
+public class LendStatsRowDTO {
+    private String label;          // yyyy-MM
+    private long lendCnt;
+    private long extendedCnt;
+    private long returnCnt;
+    private long lendDaysSum;
+    private long lateReturnCnt;
+    private long overdueDaysSum;
+}
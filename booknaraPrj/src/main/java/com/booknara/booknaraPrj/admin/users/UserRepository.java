@@ -20,9 +20,6 @@ public interface UserRepository extends JpaRepository<Users, String> {
     // ✅ 추가: 상태값(1, 2, 3)으로만 검색할 때 사용
     Page<Users> findByUserState(String userState, Pageable pageable);
     Page<Users> findByUserStateNot(String userState, Pageable pageable);
-    // 상태별 인원수 카운트
-    long countByUserState(String userState);
-
     // 단일 조건 검색 (이미 Page로 잘 만드셨습니다)
     Page<Users> findByUserIdContaining(String keyword, Pageable pageable);
 }
@@ -1,5 +1,7 @@
 package com.booknara.booknaraPrj.admin.users;
 
+import com.booknara.booknaraPrj.admin.statistics.demographics.UserDemographicCounter;
+import com.booknara.booknaraPrj.common.userstatus.UserStatusCache;
 import com.booknara.booknaraPrj.notification.dto.NotificationEntity;
 import com.booknara.booknaraPrj.notification.service.NotificationService;
 import jakarta.transaction.Transactional;
@@ -20,6 +22,8 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final NotificationService notificationService;
+    private final UserStatusCache userStatusCache;
+    private final UserDemographicCounter demographicCounter;
 
     /**
      * 전체 유저 리스트 조회
@@ -61,11 +65,12 @@ public class UserService {
     public Map<String, Long> getUserStatistics() {
         Map<String, Long> stats = new HashMap<>();
 
-        // 각 상태별 인원 조회
-        long active = userRepository.countByUserState("1");
-        long dormant = userRepository.countByUserState("2");
-        long banned = userRepository.countByUserState("3");
-        long withdrawn = userRepository.countByUserState("4");
+        // 각 상태별 인원 조회 (USERS 스캔 없이 메모리 카운터 스냅샷)
+        UserDemographicCounter.Snapshot snapshot = demographicCounter.snapshot();
+        long active = snapshot.countByState("1");
+        long dormant = snapshot.countByState("2");
+        long banned = snapshot.countByState("3");
+        long withdrawn = snapshot.countByState("4");
 
         // ✅ 전체 회원수에서 탈퇴자(4) 제외 (1+2+3의 합)
         long totalExceptWithdrawn = active + dormant + banned;
@@ -84,7 +89,9 @@ public class UserService {
         Users user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("해당 유저가 존재하지 않습니다. ID: " + userId));
 
+        demographicCounter.stateChanged(user.getBirthday(), user.getGender(), user.getUserState(), newState);
         user.setUserState(newState); // 더티 체킹에 의해 자동 업데이트
+        userStatusCache.evict(userId);
 
         System.out.println(newState);
         if(newState.equals("3")) {
@@ -1,5 +1,6 @@
 package com.booknara.booknaraPrj.bookAPI.client.aladin;
 
+import com.booknara.booknaraPrj.common.perf.ExternalHttpTraceInterceptor;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
@@ -21,6 +22,7 @@ public class AladinClient {
     private final AladinProperties aladinProperties;
     private final RestClient restClient = RestClient.builder()
             .baseUrl("https://www.aladin.co.kr/ttb/api")
+            .requestInterceptor(ExternalHttpTraceInterceptor.INSTANCE)
             .build();
 
     private final AtomicInteger apiKeyIndex = new AtomicInteger(0);             // 키 순환 인덱스
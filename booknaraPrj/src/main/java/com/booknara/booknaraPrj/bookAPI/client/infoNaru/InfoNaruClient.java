@@ -1,6 +1,7 @@
 package com.booknara.booknaraPrj.bookAPI.client.infoNaru;
 
 import com.booknara.booknaraPrj.bookAPI.domain.BookIsbnTempDTO;
+import com.booknara.booknaraPrj.common.perf.ExternalHttpTraceInterceptor;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestClient;
 
@@ -21,6 +22,7 @@ public class InfoNaruClient {
     public InfoNaruClient() {
         this.restClient = RestClient.builder()
                 .baseUrl("http://data4library.kr") // 정보나루 API 베이스 URL
+                .requestInterceptor(ExternalHttpTraceInterceptor.INSTANCE)
                 .build();
     }
 
@@ -1,5 +1,6 @@
 package com.booknara.booknaraPrj.bookAPI.client.naver;
 
+import com.booknara.booknaraPrj.common.perf.ExternalHttpTraceInterceptor;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestClient;
@@ -20,6 +21,7 @@ public class NaverClient {
     private final NaverProperties naverProperties;
     private final RestClient restClient = RestClient.builder()
             .baseUrl("https://openapi.naver.com")
+            .requestInterceptor(ExternalHttpTraceInterceptor.INSTANCE)
             .build();
 
     private final AtomicInteger apiKeyIndex = new AtomicInteger(0);
@@ -1,5 +1,7 @@
 package com.booknara.booknaraPrj.bookAPI.scheduler;
 
+import com.booknara.booknaraPrj.admin.statistics.demographics.UserDemographicCounter;
+import com.booknara.booknaraPrj.common.userstatus.UserStatusCache;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.scheduling.annotation.EnableScheduling;
@@ -14,6 +16,12 @@ public class OverdueBanScheduler {
     @Autowired
     private JdbcTemplate jdbcTemplate;
 
+    @Autowired
+    private UserStatusCache userStatusCache;
+
+    @Autowired
+    private UserDemographicCounter demographicCounter;
+
     // ✅ 하루 3번: 09:00 / 13:00 / 18:00 (KST)
     @Scheduled(cron = "0 0 9,13,18 * * *", zone = "Asia/Seoul")
 //    @Scheduled(fixedDelay = 10000)
@@ -31,6 +39,12 @@ public class OverdueBanScheduler {
 
         // 3) END_AT 지난 유저: 제재 해제 (USER_STATE=1)
         unbanExpiredUsers();
+
+        // 4) 여러 사용자의 상태가 한 번에 바뀌므로 사용자 상태 캐시 전체 무효화 (커밋 후)
+        userStatusCache.evictAll();
+
+        // 5) 상태별 회원 수 카운터도 커밋 후 재집계
+        demographicCounter.reload();
     }
 
     // =========================
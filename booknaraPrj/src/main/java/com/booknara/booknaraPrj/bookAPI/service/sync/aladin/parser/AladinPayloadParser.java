@@ -141,7 +141,7 @@ public class AladinPayloadParser {
     /**
      * 알라딘 특유의 JavaScript Callback( 함수명({json}) ) 규격에서 순수 JSON 본문만 추출합니다.
      */
-    private String normalizeAladinRaw(String raw) {
+    String normalizeAladinRaw(String raw) {
         String s = raw.trim();
         if (s.isEmpty()) return s;
 
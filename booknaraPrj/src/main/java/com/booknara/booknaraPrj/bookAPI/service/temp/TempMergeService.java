@@ -1,6 +1,9 @@
 package com.booknara.booknaraPrj.bookAPI.service.temp;
 
 import com.booknara.booknaraPrj.bookAPI.mapper.BookBatchMapper;
+import com.booknara.booknaraPrj.bookDetail.service.BookDetailCache;
+import com.booknara.booknaraPrj.bookcover.service.BookCoverService;
+import com.booknara.booknaraPrj.common.sampling.BookSampler;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -20,6 +23,9 @@ import java.util.List;
 public class TempMergeService {
 
     private final BookBatchMapper batchMapper;
+    private final BookDetailCache bookDetailCache;
+    private final BookCoverService bookCoverService;
+    private final BookSampler bookSampler;
 
     /**
      * READY(상태 1)인 데이터를 지정된 건수(limit)만큼 가져와 운영 테이블에 반영합니다.
@@ -58,6 +64,9 @@ public class TempMergeService {
             if (processed == 0) break; // 더 이상 처리할 대상이 없으면 루프 종료
         }
         log.info("전체 데이터 이관 공정(MergeLoop)이 완료되었습니다.");
+
+        // 무작위 추천(말랑 pick / 관리자 랜덤 추천)용 표본 인덱스 재구성
+        bookSampler.rebuild();
     }
 
     /**
@@ -85,6 +94,12 @@ public class TempMergeService {
 
             // 3) 이관 성공 시 상태를 MERGED(2)로 변경하여 공정 완료 처리
             batchMapper.markTempMerged(isbn13);
+
+            // 4) 도서 상세 캐시 무효화 (메타/짝 도서 정보가 바뀌었을 수 있음)
+            bookDetailCache.evict(isbn13);
+
+            // 5) 표지 축소본 미리 생성 (비동기)
+            bookCoverService.warm(isbn13);
             return true;
 
         } catch (Exception e) {
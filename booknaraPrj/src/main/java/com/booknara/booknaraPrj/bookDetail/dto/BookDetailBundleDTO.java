@@ -0,0 +1,26 @@
+package com.booknara.booknaraPrj.bookDetail.dto;
+
+import lombok.Data;
+
+/**
+ * [BookDetailBundleDTO]
+ * 도서 상세의 사용자 무관 정보(메타, 장르 경로, 종이책/전자책 짝, 리뷰 통계)를
+ * 한 번의 쿼리로 받아오기 위한 조회 결과 객체입니다.
+ */
+@Data
+public class BookDetailBundleDTO {
+    /** 도서 메타 (BOOK_ISBN + GENRE) */
+    private BookDetailDTO detail;
+
+    // --- 장르 경로 ---
+    private String mall;
+    private Integer parentId;
+    private String parentNm;
+
+    /** 실제로 존재하는 짝 도서 ISBN (없으면 null) */
+    private String pairIsbn13;
+
+    // --- 리뷰 통계 (REVIEW_STAT) ---
+    private Integer reviewCnt;
+    private Double ratingAvg;
+}
@@ -0,0 +1,146 @@
+package com.booknara.booknaraPrj.bookDetail.service;
+
+import com.booknara.booknaraPrj.bookDetail.dto.BookDetailDTO;
+import com.booknara.booknaraPrj.bookDetail.dto.GenreCrumbDTO;
+import com.booknara.booknaraPrj.bookDetail.dto.GenrePathDTO;
+import com.booknara.booknaraPrj.feed.review.dto.ReviewItemDTO;
+import com.booknara.booknaraPrj.feed.review.dto.ReviewSummaryDTO;
+import org.springframework.beans.BeanUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * [BookDetailCache]
+ * 도서 상세 화면 중 사용자와 무관한 부분(메타, 장르 경로, 짝 도서, 리뷰 통계/미리보기)을 ISBN별로 보관합니다.
+ * - 도서 병합(TempMergeService), 리뷰 작성/수정/삭제 시 해당 ISBN(과 짝 ISBN)을 커밋 후 무효화합니다.
+ * - 재고/북마크 같은 실시간·개인화 정보는 캐시하지 않습니다.
+ * - DTO 가 가변(@Data)이므로 저장할 때와 꺼낼 때 모두 복사본을 씁니다 (호출 측 변경이 다른 요청에 새지 않음).
+ */
+@Component
+public class BookDetailCache {
+
+    private static final int MAX_ENTRIES = 2_000;
+    private static final long TTL_MS = 10 * 60 * 1000L; // 10분 (누락된 무효화 대비 안전망)
+
+    /** 캐시 값 (생성 시 방어 복사, 접근자는 매번 새 복사본을 반환) */
+    public record Entry(BookDetailDTO detail,
+                        GenrePathDTO genrePath,
+                        String pairIsbn13,
+                        ReviewSummaryDTO reviewSummary,
+                        List<ReviewItemDTO> reviewPreview,
+                        long loadedAt) {
+
+        public Entry {
+            detail = copy(detail, BookDetailDTO::new);
+            genrePath = copy(genrePath);
+            reviewSummary = copy(reviewSummary, ReviewSummaryDTO::new);
+            reviewPreview = copyList(reviewPreview);
+        }
+
+        @Override
+        public BookDetailDTO detail() {
+            return copy(detail, BookDetailDTO::new);
+        }
+
+        @Override
+        public GenrePathDTO genrePath() {
+            return copy(genrePath);
+        }
+
+        @Override
+        public ReviewSummaryDTO reviewSummary() {
+            return copy(reviewSummary, ReviewSummaryDTO::new);
+        }
+
+        @Override
+        public List<ReviewItemDTO> reviewPreview() {
+            return copyList(reviewPreview);
+        }
+    }
+
+    private final Map<String, Entry> cache = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    public Entry get(String isbn13) {
+        synchronized (cache) {
+            Entry entry = cache.get(isbn13);
+            if (entry == null) return null;
+            if (System.currentTimeMillis() - entry.loadedAt() > TTL_MS) {
+                cache.remove(isbn13);
+                return null;
+            }
+            return entry;
+        }
+    }
+
+    public void put(String isbn13, Entry entry) {
+        synchronized (cache) {
+            cache.put(isbn13, entry);
+        }
+    }
+
+    /** ISBN과 그 짝(종이책 ↔ 전자책) 항목 무효화 (트랜잭션 중이면 커밋 후) */
+    public void evict(String isbn13) {
+        if (isbn13 == null) return;
+
+        String pair = isbn13.endsWith("_e") ? isbn13.substring(0, isbn13.length() - 2) : isbn13 + "_e";
+        afterCommit(() -> {
+            synchronized (cache) {
+                cache.remove(isbn13);
+                cache.remove(pair);
+            }
+        });
+    }
+
+    // =========================
+    // 복사 (필드가 모두 값 타입/문자열인 DTO 는 얕은 복사로 충분)
+    // =========================
+
+    private static <T> T copy(T src, Supplier<T> factory) {
+        if (src == null) return null;
+        T dst = factory.get();
+        BeanUtils.copyProperties(src, dst);
+        return dst;
+    }
+
+    private static GenrePathDTO copy(GenrePathDTO src) {
+        if (src == null) return null;
+        GenrePathDTO dst = new GenrePathDTO();
+        dst.setMall(src.getMall());
+        for (GenreCrumbDTO c : src.getCrumbs()) {
+            dst.getCrumbs().add(new GenreCrumbDTO(c.getGenreId(), c.getGenreNm()));
+        }
+        return dst;
+    }
+
+    private static List<ReviewItemDTO> copyList(List<ReviewItemDTO> src) {
+        if (src == null) return List.of();
+        List<ReviewItemDTO> dst = new ArrayList<>(src.size());
+        for (ReviewItemDTO item : src) dst.add(copy(item, ReviewItemDTO::new));
+        return dst;
+    }
+
+    private void afterCommit(Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+            return;
+        }
+        task.run();
+    }
+}
@@ -2,33 +2,39 @@ package com.booknara.booknaraPrj.bookDetail.service;
 
 import com.booknara.booknaraPrj.bookDetail.dto.*;
 import com.booknara.booknaraPrj.bookDetail.mapper.BookDetailMapper;
-import com.booknara.booknaraPrj.bookMark.service.BookmarkService;
 import com.booknara.booknaraPrj.feed.review.dto.ReviewSummaryDTO;
 import com.booknara.booknaraPrj.feed.review.service.FeedReviewService;
-import com.booknara.booknaraPrj.reviewstatus.dto.ReviewStatusDTO;
-import com.booknara.booknaraPrj.reviewstatus.service.ReviewStatusService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Map;
+import java.util.List;
 
+/**
+ * [BookDetailService]
+ * 도서 상세 화면 조립 서비스입니다.
+ * 사용자와 무관한 정보는 BookDetailCache에서, 재고는 매 요청 DB에서 가져와 합칩니다.
+ */
 @Service
 @RequiredArgsConstructor
 public class BookDetailService {
 
     private final BookDetailMapper bookDetailMapper;
     private final FeedReviewService feedReviewService;
-    private final ReviewStatusService reviewStatusService;
+    private final BookDetailCache bookDetailCache;
 
     @Transactional(readOnly = true)
     public BookDetailViewDTO getBookDetailView(String isbn13, String userId) {
 
-        // 1) 도서 메타
-        BookDetailDTO detail = bookDetailMapper.selectBookDetail(isbn13);
-        if (detail == null) return null;
+        // 1) 사용자 무관 정보: 캐시 → (미스 시) 일괄 조회 1회 + 리뷰 미리보기 1회
+        BookDetailCache.Entry cached = bookDetailCache.get(isbn13);
+        if (cached == null) {
+            cached = loadStatic(isbn13);
+            if (cached == null) return null;
+            bookDetailCache.put(isbn13, cached);
+        }
 
-        // 2) 재고 집계
+        // 2) 재고 집계 (대출/반납으로 수시로 바뀌므로 매번 조회)
         BookInventoryDTO inventory = bookDetailMapper.selectInventory(isbn13);
         if (inventory == null) {
             inventory = new BookInventoryDTO();
@@ -37,91 +43,60 @@ public class BookDetailService {
             inventory.setLostCount(0);
         }
 
-        // 3) breadcrumb
-        GenrePathDTO genrePath = buildGenrePath(detail.getGenreId());
-
-        // 4) ViewDTO 조립
+        // 3) ViewDTO 조립 (캐시 접근자는 복사본을 주므로 화면/호출 측에서 바꿔도 캐시에 영향 없음)
         BookDetailViewDTO view = new BookDetailViewDTO();
-        view.setBookDetailDTO(detail);
+        view.setBookDetailDTO(cached.detail());
         view.setInventory(inventory);
-        view.setGenrePath(genrePath);
-
-        // 5) 전자책/종이책  링크
-        // 5) 전자책/종이책 링크 계산
-        String pairIsbn = calcPairIsbn(detail.getIsbn13(), detail.getEbookYn());
-
-        if (pairIsbn != null && !pairIsbn.equals(detail.getIsbn13())) {
-            int cnt = bookDetailMapper.existsByIsbn(pairIsbn);
-            if (cnt > 0) {
-                view.setPairYn("Y");
-                view.setPairIsbn13(pairIsbn);
-            } else {
-                view.setPairYn("N");
-            }
+        view.setGenrePath(cached.genrePath());
+
+        // 4) 전자책/종이책 링크
+        if (cached.pairIsbn13() != null) {
+            view.setPairYn("Y");
+            view.setPairIsbn13(cached.pairIsbn13());
         } else {
             view.setPairYn("N");
         }
 
-        // 6) 리뷰
-        ReviewStatusDTO rs = reviewStatusService.getByIsbn(isbn13);
-        ReviewSummaryDTO summary = new ReviewSummaryDTO();
-        summary.setReviewCnt(rs == null ? 0 : rs.getReviewCnt());
-        summary.setRatingAvg(rs == null ? 0.0 : rs.getRatingAvg());
-        view.setReviewSummary(summary);
-        view.setReviewPreview(feedReviewService.getTop(isbn13, 5));
+        // 5) 리뷰
+        view.setReviewSummary(cached.reviewSummary());
+        view.setReviewPreview(cached.reviewPreview());
 
         return view;
     }
 
+    /** 캐시 미스 시 사용자 무관 정보 적재 */
+    private BookDetailCache.Entry loadStatic(String isbn13) {
+        BookDetailBundleDTO bundle = bookDetailMapper.selectBookDetailBundle(isbn13);
+        if (bundle == null || bundle.getDetail() == null) return null;
 
-    //전자책 링크 조회 매서드
-    private String calcPairIsbn(String isbn13, String ebookYn){
-        if(isbn13 == null) return null;
-
-        boolean isEbook = "Y".equalsIgnoreCase(ebookYn);
-
-        if(isEbook){
-            // ebook -> paper
-            if(isbn13.endsWith("_e")) return isbn13.substring(0, isbn13.length()-2);
-            return isbn13;
-        }else{
-            // paper -> ebook
-            if(isbn13.endsWith("_e")) return isbn13;
-            return isbn13 + "_e";
-        }
+        ReviewSummaryDTO summary = new ReviewSummaryDTO();
+        summary.setIsbn13(isbn13);
+        summary.setReviewCnt(bundle.getReviewCnt() == null ? 0 : bundle.getReviewCnt());
+        summary.setRatingAvg(bundle.getRatingAvg() == null ? 0.0 : bundle.getRatingAvg());
+
+        return new BookDetailCache.Entry(
+                bundle.getDetail(),
+                buildGenrePath(bundle),
+                bundle.getPairIsbn13(),
+                summary,
+                feedReviewService.getTop(isbn13, 5),
+                System.currentTimeMillis()
+        );
     }
 
-
-    private GenrePathDTO buildGenrePath(Integer genreId) {
+    private GenrePathDTO buildGenrePath(BookDetailBundleDTO bundle) {
         GenrePathDTO path = new GenrePathDTO();
-        if (genreId == null) return path;
-
-        Map<String, Object> row = bookDetailMapper.selectGenreSelfAndParent(genreId);
-        if (row == null || row.isEmpty()) return path;
+        BookDetailDTO detail = bundle.getDetail();
+        if (detail.getGenreId() == null) return path;
 
-        String mall = (String) row.get("mall");
-        Integer selfId = toInteger(row.get("genreId"));
-        String selfNm = (String) row.get("genreNm");
-        Integer parentId = toInteger(row.get("parentId"));
-        String parentNm = (String) row.get("parentNm");
+        path.setMall(bundle.getMall());
 
-        path.setMall(mall);
-
-        if (parentId != null && parentNm != null) {
-            path.getCrumbs().add(new GenreCrumbDTO(parentId, parentNm));
+        if (bundle.getParentId() != null && bundle.getParentNm() != null) {
+            path.getCrumbs().add(new GenreCrumbDTO(bundle.getParentId(), bundle.getParentNm()));
         }
-        if (selfId != null && selfNm != null) {
-            path.getCrumbs().add(new GenreCrumbDTO(selfId, selfNm));
+        if (detail.getGenreNm() != null) {
+            path.getCrumbs().add(new GenreCrumbDTO(detail.getGenreId(), detail.getGenreNm()));
         }
         return path;
     }
-
-    private Integer toInteger(Object o) {
-        if (o == null) return null;
-        if (o instanceof Integer) return (Integer) o;
-        if (o instanceof Long) return ((Long) o).intValue();
-        if (o instanceof Short) return ((Short) o).intValue();
-        if (o instanceof String) return Integer.valueOf((String) o);
-        throw new IllegalArgumentException("Cannot convert to Integer: " + o.getClass());
-    }
 }
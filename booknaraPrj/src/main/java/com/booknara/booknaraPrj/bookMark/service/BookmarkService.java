@@ -1,6 +1,7 @@
 package com.booknara.booknaraPrj.bookMark.service;
 
 import com.booknara.booknaraPrj.bookMark.mapper.BookmarkMapper;
+import com.booknara.booknaraPrj.common.membership.UserMembershipCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -16,15 +17,16 @@ import org.springframework.transaction.annotation.Transactional;
 public class BookmarkService {
 
     private final BookmarkMapper bookmarkMapper;
+    private final UserMembershipCache userMembershipCache;
 
     /**
      * [북마크 여부 확인]
      * 특정 사용자가 해당 도서를 북마크했는지 확인합니다.
+     * 사용자별 북마크 집합(UserMembershipCache)에서 판정하므로 DB 조회가 없습니다.
      * @return 'Y'인 경우 true, 그 외(N 또는 데이터 없음) false
      */
     public boolean isBookmarked(String isbn13, String userId) {
-        String yn = bookmarkMapper.selectBookmarkYn(isbn13, userId);
-        return "Y".equalsIgnoreCase(yn);
+        return userMembershipCache.isBookmarked(userId, isbn13);
     }
 
     /**
@@ -40,12 +42,14 @@ public class BookmarkService {
         if ("Y".equalsIgnoreCase(yn)) {
             // 2-1. 이미 등록된 경우 -> 북마크 취소(N으로 변경 또는 삭제)
             bookmarkMapper.cancelBookmark(isbn13, userId);
+            userMembershipCache.bookmarkChanged(userId, isbn13, false);
             return false;
         }
 
         // 2-2. 등록되지 않았거나(N) 데이터가 없는(null) 경우 -> 북마크 등록(Y)
         // upsert 로직을 통해 기존 데이터가 있으면 Update, 없으면 Insert를 수행합니다.
         bookmarkMapper.upsertBookmark(isbn13, userId);
+        userMembershipCache.bookmarkChanged(userId, isbn13, true);
         return true;
     }
 
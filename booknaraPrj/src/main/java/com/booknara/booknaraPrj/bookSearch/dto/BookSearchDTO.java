@@ -34,8 +34,6 @@ public class BookSearchDTO {
 
     /** 내 장바구니 담김 여부 ('Y'/'N') */
     private String myCartYn;
-    /** 장바구니에 담긴 경우, 삭제 처리를 위한 고유 식별자 */
-    private Long myCartId;
 
     // --- [5] 도서 유동 현황 (Inventory & Circulation) ---
     /** 도서관 보유 총 권수 (정상 상태 도서 기준) */
@@ -5,6 +5,7 @@ import com.booknara.booknaraPrj.bookSearch.dto.BookSearchDTO;
 import com.booknara.booknaraPrj.bookSearch.dto.PageInsertDTO;
 import com.booknara.booknaraPrj.bookSearch.mapper.BookSearchMapper;
 import com.booknara.booknaraPrj.bookSearch.dto.PageResultDTO;
+import com.booknara.booknaraPrj.common.membership.UserMembershipCache;
 import com.booknara.booknaraPrj.security.uitil.LoginUserUtils;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -21,6 +22,7 @@ public class BookSearchService {
 
     private final BookSearchMapper mapper;
     private final GenreService genreService;
+    private final UserMembershipCache userMembershipCache;
 
 
     /**
@@ -98,6 +100,13 @@ public class BookSearchService {
         long total = mapper.countBooks(cond, userId);
         List<BookSearchDTO> items = (total == 0) ? List.of() : mapper.searchBooks(cond, page, userId);
 
+        // 북마크/장바구니 여부는 행마다 JOIN 하지 않고 사용자별 ISBN 집합으로 표시
+        UserMembershipCache.Membership membership = userMembershipCache.get(userId);
+        for (BookSearchDTO item : items) {
+            item.setBookmarkedYn(membership.isBookmarked(item.getIsbn13()) ? "Y" : "N");
+            item.setMyCartYn(membership.isInCart(item.getIsbn13()) ? "Y" : "N");
+        }
+
         // 최종 결과 포맷팅하여 반환
         return PageResultDTO.of(items, page.getPage(), page.getSize(), total);
     }
@@ -107,7 +116,7 @@ public class BookSearchService {
      * MySQL FULLTEXT(BOOLEAN MODE)를 위한 검색어 정규화
      * - 단어별로 +와 *를 붙여 AND 조건 및 접두어 매칭 수행 (예: "자바" -> "+자바*")
      */
-    private static String normalizeFulltextKeyword(String keyword) {
+    static String normalizeFulltextKeyword(String keyword) {
         if (keyword == null) return null;
 
         String k = keyword.trim();
@@ -158,7 +167,7 @@ public class BookSearchService {
     }
 
     /** 검색어 전체를 하나의 토큰으로 붙여 전문 검색 수행 (예: "해리 포터" -> "+해리포터*") */
-    private static String normalizeFulltextJoined(String keyword) {
+    static String normalizeFulltextJoined(String keyword) {
         if (keyword == null) return null;
         String k = keyword.trim();
         if (k.isEmpty()) return null;
@@ -182,7 +191,7 @@ public class BookSearchService {
 
 
     /** 전문 검색용 토큰 정제: 한글/영문/숫자/_를 제외한 특수문자 제거 */
-    private static String sanitizeToken(String token) {
+    static String sanitizeToken(String token) {
         if (token == null) return "";
         return token.replaceAll("[^0-9A-Za-z가-힣_]", "");
     }
@@ -39,21 +39,14 @@ public interface BookCartMapper {
     /** [STAT] 현재 대여중 수: 사용자가 반납하지 않은 도서 수를 집계합니다. (한도 계산용) */
     int countMyActiveLends(@Param("userId") String userId);
 
-    /** [SETTING] 시스템 정책 조회: 도서관 설정 테이블에서 최대 대여 가능 권수를 가져옵니다. */
-    Integer selectMaxLendCount();
-
-    /** [R] 존재 여부: 이미 장바구니에 담긴 책인지 확인하여 중복 담기를 방지합니다. */
-    int existsByIsbn(@Param("userId") String userId,
-                     @Param("isbn13") String isbn13);
-
     /** [R] 기본 주소 조회: 대여 시 배송/방문 정보를 위해 유저의 기본 주소를 가져옵니다. */
     UserAddressDTO selectMyDefaultAddress(@Param("userId") String userId);
 
     /** [U] 주소 업데이트: 대여 프로세스 중 주소를 변경할 경우 정보를 갱신합니다. */
     int updateMyDefaultAddress(UserAddressDTO dto);
 
-    /** [R] 실시간 재고 확인: 특정 ISBN의 책이 현재 관내에 대여 가능한 상태인지 최종 확인합니다. */
-    Boolean isLendableByIsbn(@Param("isbn13") String isbn13);
+    /** [R] 실시간 재고 확인: 특정 ISBN의 책이 현재 관내에 대여 가능한 상태인지 최종 확인합니다. (다른 사용자의 예약 홀드 도서 제외) */
+    Boolean isLendableByIsbn(@Param("isbn13") String isbn13, @Param("userId") String userId);
 
     /** [C] 배송 연동: 대여 완료 시 배송(Delivery) 테이블에 초기 데이터를 생성합니다. */
     void insertDelivery(String lendId);
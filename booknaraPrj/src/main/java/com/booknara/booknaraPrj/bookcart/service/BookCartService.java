@@ -1,10 +1,12 @@
 package com.booknara.booknaraPrj.bookcart.service;
 
+import com.booknara.booknaraPrj.admin.settings.SettingsSnapshotHolder;
 import com.booknara.booknaraPrj.bookcart.dto.BookCartDTO;
 import com.booknara.booknaraPrj.bookcart.dto.LendQuotaDTO;
 import com.booknara.booknaraPrj.bookcart.dto.UserAddressDTO;
 import com.booknara.booknaraPrj.bookcart.mapper.BookCartMapper;
 import com.booknara.booknaraPrj.bookcirculation.command.service.BookCommandService;
+import com.booknara.booknaraPrj.common.membership.UserMembershipCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -23,23 +25,29 @@ public class BookCartService {
 
     private final BookCartMapper mapper;
     private final BookCommandService circulationCommandService;
+    private final SettingsSnapshotHolder settingsSnapshotHolder;
+    private final UserMembershipCache userMembershipCache;
 
     /** 장바구니 추가 */
     @Transactional
     public void add(String userId, String isbn13) {
-        mapper.insert(userId, isbn13);
+        mapper.insert(userId, isbn13); // INSERT IGNORE: 이미 있어도 담긴 상태
+        userMembershipCache.cartChanged(userId, isbn13, true);
     }
 
     /** 장바구니 개별 항목 삭제 */
     @Transactional
     public void remove(String userId, Long cartId) {
-        mapper.delete(userId, cartId);
+        int deleted = mapper.delete(userId, cartId);
+        // cartId만으로는 ISBN을 모르므로 집합을 버리고 다음 조회 때 다시 로딩
+        if (deleted > 0) userMembershipCache.evict(userId);
     }
 
     /** 장바구니 전체 비우기 */
     @Transactional
     public void clear(String userId) {
         mapper.deleteAll(userId);
+        userMembershipCache.cartCleared(userId);
     }
 
     /**
@@ -50,10 +58,14 @@ public class BookCartService {
     public boolean toggle(String userId, String isbn13) {
         // 1) 존재 확인 후 삭제 시도
         int deleted = mapper.deleteByIsbn(userId, isbn13);
-        if (deleted > 0) return false; // 삭제되었으므로 현재 장바구니 상태 아님
+        if (deleted > 0) {
+            userMembershipCache.cartChanged(userId, isbn13, false);
+            return false; // 삭제되었으므로 현재 장바구니 상태 아님
+        }
 
         // 2) 없었으므로 새로 추가
         mapper.insert(userId, isbn13);
+        userMembershipCache.cartChanged(userId, isbn13, true);
         return true; // 추가되었으므로 현재 장바구니 상태임
     }
 
@@ -66,7 +78,7 @@ public class BookCartService {
         List<BookCartDTO> list = mapper.selectList(userId);
         for (BookCartDTO dto : list) {
             // 각 도서별 실시간 재고 상태 확인 (N+1 이슈 가능성이 있으나 정확한 상태 전달을 우선함)
-            dto.setLendableYn(isLendable(dto.getIsbn13()));
+            dto.setLendableYn(isLendable(dto.getIsbn13(), userId));
         }
         return list;
     }
@@ -78,10 +90,8 @@ public class BookCartService {
     public LendQuotaDTO getLendQuota(String userId) {
         LendQuotaDTO dto = new LendQuotaDTO();
 
-        // 1. 시스템 설정에서 인당 최대 대여 한도 조회 (기본값 5)
-        Integer maxObj = mapper.selectMaxLendCount();
-        int max = (maxObj == null ? 5 : maxObj);
-        if (max <= 0) max = 5;
+        // 1. 시스템 설정 스냅샷에서 인당 최대 대여 한도 조회 (기본값 5)
+        int max = settingsSnapshotHolder.get().getEffectiveMaxLendCount();
 
         // 2. 현재 대여 중인 도서 수와 장바구니에 담긴 수 집계
         int current = mapper.countMyActiveLends(userId);
@@ -98,9 +108,9 @@ public class BookCartService {
         return dto;
     }
 
-    /** 장바구니 담김 여부 확인 */
+    /** 장바구니 담김 여부 확인 (사용자별 장바구니 집합에서 판정) */
     public boolean isInCart(String userId, String isbn13) {
-        return mapper.existsByIsbn(userId, isbn13) > 0;
+        return userMembershipCache.isInCart(userId, isbn13);
     }
 
     /** 유저의 기본 배송/연락 주소 조회 */
@@ -114,9 +124,9 @@ public class BookCartService {
         mapper.updateMyDefaultAddress(dto);
     }
 
-    /** 특정 ISBN 도서의 현재 대여 가능 상태 여부 반환 */
-    public boolean isLendable(String isbn13) {
-        return Boolean.TRUE.equals(mapper.isLendableByIsbn(isbn13));
+    /** 특정 ISBN 도서의 현재 대여 가능 상태 여부 반환 (본인 예약 홀드 도서는 대여 가능으로 판정) */
+    public boolean isLendable(String isbn13, String userId) {
+        return Boolean.TRUE.equals(mapper.isLendableByIsbn(isbn13, userId));
     }
 
     /**
@@ -1,8 +1,13 @@
 package com.booknara.booknaraPrj.bookcart.service;
 
+import com.booknara.booknaraPrj.admin.settings.SettingsSnapshotHolder;
+import com.booknara.booknaraPrj.admin.statistics.rollup.LendStatsRecorder;
 import com.booknara.booknaraPrj.bookcart.dto.BookCartDTO;
 import com.booknara.booknaraPrj.bookcart.mapper.BookCartMapper;
 import com.booknara.booknaraPrj.bookcirculation.command.mapper.BookCommandMapper;
+import com.booknara.booknaraPrj.bookcirculation.command.service.BookCommandService;
+import com.booknara.booknaraPrj.common.membership.UserMembershipCache;
+import com.booknara.booknaraPrj.common.userstatus.UserStatusCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -17,6 +22,11 @@ public class OrderPaymentService {
     private final BookCartService cartService;
     private final BookCartMapper cartMapper;                  // quota + cart clear
     private final BookCommandMapper lendMapper;    // FOR UPDATE 선점 + LENDS insert
+    private final BookCommandService bookCommandService;         // 예약 완료 처리 (대기열 반영)
+    private final SettingsSnapshotHolder settingsSnapshotHolder; // 최대 대여 권수 정책
+    private final UserStatusCache userStatusCache;               // 대여 후 헤더/사이드바 상태 무효화
+    private final UserMembershipCache userMembershipCache;       // 목록 장바구니 표시 갱신
+    private final LendStatsRecorder lendStatsRecorder;           // 대출 통계 롤업 증분 반영
 
     /** 전자책-only: 무료 확정 */
     @Transactional
@@ -65,8 +75,7 @@ public class OrderPaymentService {
         }
 
         // ✅ 2) quota 체크 (최대 대여 가능 vs 현재 대여중 + 이번 카트)
-        Integer maxObj = cartMapper.selectMaxLendCount();
-        int max = (maxObj == null || maxObj <= 0) ? 5 : maxObj;
+        int max = settingsSnapshotHolder.get().getEffectiveMaxLendCount();
 
         int current = cartMapper.countMyActiveLends(userId);
         int cartCnt = items.size();
@@ -89,8 +98,9 @@ public class OrderPaymentService {
                 throw new IllegalStateException("이미 대여중인 도서가 포함되어 있습니다. ISBN=" + isbn13);
             }
 
-            // 4-2) BOOK_ID 선점 (동시성 핵심: FOR UPDATE)
-            Long bookId = lendMapper.selectAvailableBookIdForUpdate(isbn13);
+            // 4-2) BOOK_ID 선점 (동시성 핵심: FOR UPDATE) - 본인 예약 홀드 도서가 있으면 우선 배정
+            var hold = lendMapper.selectMyHoldForUpdate(userId, isbn13);
+            Long bookId = (hold != null) ? hold.getHoldBookId() : lendMapper.selectAvailableBookIdForUpdate(isbn13);
 
             //  전자책이 BOOKS 재고 row가 없다면 여기서 null로 떨어짐
             if (bookId == null) {
@@ -104,10 +114,16 @@ public class OrderPaymentService {
             if (inserted != 1) {
                 throw new IllegalStateException("대여 생성에 실패했습니다. ISBN=" + isbn13);
             }
+            lendStatsRecorder.lent(lendId);
+            bookCommandService.fulfillReservationOnLend(userId, isbn13, hold); // 홀드/대기 예약 완료 + 대기열 정리
         }
 
         // ✅ 5) 장바구니 비우기
         cartMapper.deleteAll(userId);
+        userMembershipCache.cartCleared(userId);
+
+        // ✅ 6) 반납 예정일이 바뀌었으므로 사용자 상태 캐시 무효화 (커밋 후)
+        userStatusCache.evict(userId);
 
     }
 }
@@ -0,0 +1,27 @@
+package com.booknara.booknaraPrj.bookcirculation.command.dto;
+
+import lombok.Data;
+
+/**
+ * [ReservationQueueDTO]
+ * 예약 대기열 관리에 필요한 최소 정보만 담는 DTO입니다.
+ * 서버 기동 시 대기열 재구성 및 예약 취소 시 대상 도서 확인에 사용됩니다.
+ */
+@Data
+public class ReservationQueueDTO {
+
+    /** 예약 고유 번호 (RSV_ID) */
+    private String rsvId;
+
+    /** 예약한 사용자 ID (홀드 알림 발송 대상) */
+    private String userId;
+
+    /** 예약 대상 도서 ISBN13 (대기열 키) */
+    private String isbn13;
+
+    /** 예약 상태 ('ACTIVE' 대기 / 'HOLD' 도서 확보) */
+    private String rsvStatus;
+
+    /** 홀드 상태일 때 해당 예약자에게 확보된 실물 도서 ID */
+    private Long holdBookId;
+}
@@ -1,8 +1,11 @@
 package com.booknara.booknaraPrj.bookcirculation.command.mapper;
 
+import com.booknara.booknaraPrj.bookcirculation.command.dto.ReservationQueueDTO;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import java.util.List;
+
 /**
  * [BookCommandMapper]
  * 도서의 대출, 예약, 반납 등 상태 변경(Command)을 수반하는 모든 DB 조작을 담당합니다.
@@ -22,9 +25,6 @@ public interface BookCommandMapper {
     /** 사용자가 현재 대출 중인 총 권수 조회 */
     int countMyActiveLends(String userId);
 
-    /** 시스템 설정에 정의된 1인당 최대 대출 가능 권수 조회 */
-    Integer selectMaxLendCount();
-
 
     // --- [2] 대여 정책 (Lending Policy) ---
 
@@ -64,8 +64,39 @@ public interface BookCommandMapper {
     int cancelReservation(@Param("rsvId") String rsvId,
                           @Param("userId") String userId);
 
+    /** 취소 대상 예약의 도서/상태를 잠금과 함께 조회 (대기열 정리 및 홀드 해제 판단용) */
+    ReservationQueueDTO selectMyReservationForUpdate(@Param("rsvId") String rsvId,
+                                                     @Param("userId") String userId);
+
+
+    // --- [4] 예약 대기열 (Reservation Queue) ---
+
+    /** 서버 기동 시 대기열 재구성을 위해 ACTIVE 예약 전체를 예약 순서대로 조회 */
+    List<ReservationQueueDTO> selectActiveReservationsForQueue();
+
+    /** 대기 중(ACTIVE)인 예약을 홀드로 전환하고 확보한 실물 도서를 배정합니다. (이미 취소된 경우 0) */
+    int holdReservation(@Param("rsvId") String rsvId,
+                        @Param("bookId") Long bookId);
+
+    /** 사용자에게 확보된 홀드 예약을 잠금과 함께 조회 (대출 시 홀드 도서 우선 배정) */
+    ReservationQueueDTO selectMyHoldForUpdate(@Param("userId") String userId,
+                                              @Param("isbn13") String isbn13);
 
-    // --- [4] 반납 공정 (Return Process) ---
+    /** 사용자의 대기 중(ACTIVE) 예약을 잠금과 함께 조회 (홀드 없이 일반 재고로 대출할 때) */
+    ReservationQueueDTO selectMyActiveReservationForUpdate(@Param("userId") String userId,
+                                                           @Param("isbn13") String isbn13);
+
+    /** 예약 도서가 대출되면(홀드 또는 대기 중) 예약을 완료 처리합니다. */
+    int fulfillReservation(@Param("rsvId") String rsvId);
+
+    /** 수령 기한이 지난 홀드 예약 목록 조회 */
+    List<ReservationQueueDTO> selectExpiredHolds();
+
+    /** 수령 기한이 지난 홀드 예약을 만료 처리합니다. */
+    int expireHold(@Param("rsvId") String rsvId);
+
+
+    // --- [5] 반납 공정 (Return Process) ---
 
     /** 도서가 무인 반납함에 투입되었음을 1차 기록합니다. */
     int markReturnBox(@Param("lendId") String lendId,
@@ -75,4 +106,7 @@ public interface BookCommandMapper {
     /** 사서가 실물을 확인하여 대출 상태를 최종 '종료' 처리하고 도서를 가용 상태로 돌립니다. */
     int confirmReturn(@Param("lendId") String lendId,
                       @Param("userId") String userId);
+
+    /** 반납된 대출 건의 도서 ISBN 조회 (예약 홀드 전환 대상 확인용) */
+    String selectIsbnByLendId(@Param("lendId") String lendId);
 }
\ No newline at end of file
@@ -0,0 +1,29 @@
+package com.booknara.booknaraPrj.bookcirculation.command.scheduler;
+
+import com.booknara.booknaraPrj.bookcirculation.command.service.BookCommandService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * [ReservationHoldScheduler]
+ * 수령 기한(3일)이 지난 홀드 예약을 주기적으로 만료시키고,
+ * 풀린 도서를 다음 예약 대기자에게 넘기는 스케줄러입니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ReservationHoldScheduler {
+
+    private final BookCommandService bookCommandService;
+
+    // 매시 10분 (Asia/Seoul)
+    @Scheduled(cron = "0 10 * * * *", zone = "Asia/Seoul")
+    public void expireHolds() {
+        int expired = bookCommandService.expireHolds();
+        if (expired > 0) {
+            log.info("reservation holds expired. count={}", expired);
+        }
+    }
+}
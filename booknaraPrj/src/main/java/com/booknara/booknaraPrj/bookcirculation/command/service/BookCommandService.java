@@ -1,8 +1,14 @@
 package com.booknara.booknaraPrj.bookcirculation.command.service;
 
+import com.booknara.booknaraPrj.admin.settings.SettingsSnapshotHolder;
+import com.booknara.booknaraPrj.admin.statistics.rollup.LendStatsRecorder;
 import com.booknara.booknaraPrj.bookcart.service.BookCartService;
 import com.booknara.booknaraPrj.bookcirculation.command.dto.*;
 import com.booknara.booknaraPrj.bookcirculation.command.mapper.BookCommandMapper;
+import com.booknara.booknaraPrj.common.userstatus.UserStatusCache;
+import com.booknara.booknaraPrj.common.userstatus.UserStatusDTO;
+import com.booknara.booknaraPrj.notification.dto.NotificationEntity;
+import com.booknara.booknaraPrj.notification.service.NotificationService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
@@ -10,7 +16,9 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * [BookCommandService]
@@ -22,6 +30,14 @@ import java.util.UUID;
 public class BookCommandService {
 
     private final BookCommandMapper mapper;
+    private final ReservationQueueManager queueManager;
+    private final NotificationService notificationService;
+    private final SettingsSnapshotHolder settingsSnapshotHolder;
+    private final UserStatusCache userStatusCache;
+    private final LendStatsRecorder lendStatsRecorder;
+
+    /** 홀드 전환 시 한 번에 확인할 대기열 선두 후보 수 */
+    private static final int HOLD_CANDIDATE_BATCH = 5;
 
     /** 공통: 로그인 여부 확인 */
     private void requireLogin(String userId) {
@@ -30,12 +46,11 @@ public class BookCommandService {
         }
     }
 
-    /** 공통: 사용자의 서비스 이용 가능 상태(차단/연체 여부) 확인 */
+    /** 공통: 사용자의 서비스 이용 가능 상태(차단/연체 여부) 확인 (사용자 상태 캐시) */
     private void requireNotBlockedOrOverdue(String userId) {
-        String blockedYn = mapper.selectUserBlockedYn(userId);
-        String overdueYn = mapper.selectUserOverdueYn(userId);
-        if ("Y".equals(blockedYn)) throw new IllegalStateException("차단된 사용자입니다.");
-        if ("Y".equals(overdueYn)) throw new IllegalStateException("연체 상태에서는 이용할 수 없습니다.");
+        UserStatusDTO status = userStatusCache.get(userId);
+        if (status.isBlocked()) throw new IllegalStateException("차단된 사용자입니다.");
+        if (status.isOverdue()) throw new IllegalStateException("연체 상태에서는 이용할 수 없습니다.");
     }
 
     /** 대출 고유 번호 생성 (LEND_YYYYMMDD_랜덤6자리) */
@@ -62,10 +77,8 @@ public class BookCommandService {
         requireLogin(userId);
         requireNotBlockedOrOverdue(userId);
 
-        // [정책] 최대 대출 권수 확인 (설정값 조회)
-        Integer maxObj = mapper.selectMaxLendCount();
-        int max = (maxObj == null ? 5 : maxObj);
-        if (max <= 0) max = 5;
+        // [정책] 최대 대출 권수 확인 (메모리 설정 스냅샷)
+        int max = settingsSnapshotHolder.get().getEffectiveMaxLendCount();
 
         int cur = mapper.countMyActiveLends(userId);
         if (cur >= max) {
@@ -77,8 +90,11 @@ public class BookCommandService {
             throw new IllegalStateException("이미 대여 중인 도서입니다.");
         }
 
+        // [예약 홀드] 본인에게 확보된 도서가 있으면 해당 도서를 우선 배정
+        ReservationQueueDTO hold = mapper.selectMyHoldForUpdate(userId, isbn13);
+
         // [핵심: 동시성 제어] 대여 가능한 실물 도서 1권을 찾고 해당 행을 잠금(FOR UPDATE)
-        Long bookId = mapper.selectAvailableBookIdForUpdate(isbn13);
+        Long bookId = (hold != null) ? hold.getHoldBookId() : mapper.selectAvailableBookIdForUpdate(isbn13);
         if (bookId == null) {
             throw new IllegalStateException("대여 가능한 도서가 없습니다.");
         }
@@ -94,6 +110,10 @@ public class BookCommandService {
         }
         if (inserted != 1) throw new IllegalStateException("대여 생성 실패");
 
+        fulfillReservationOnLend(userId, isbn13, hold);
+        lendStatsRecorder.lent(lendId);
+        userStatusCache.evict(userId);
+
         LendResultDTO out = new LendResultDTO();
         out.setLendId(lendId);
         out.setBookId(bookId);
@@ -112,6 +132,10 @@ public class BookCommandService {
 
         // SQL의 WHERE 절에서 모든 연장 정책을 한 번에 검증하여 원자성 확보
         int ok = mapper.extendIfAllowed(lendId, userId);
+        if (ok == 1) {
+            lendStatsRecorder.extended(lendId);
+            userStatusCache.evict(userId);
+        }
 
         ExtendResultDTO out = new ExtendResultDTO();
         out.setLendId(lendId);
@@ -143,6 +167,9 @@ public class BookCommandService {
             throw new IllegalStateException("이미 예약한 도서입니다.");
         }
 
+        // [대기열] 커밋 후 ISBN별 대기열 끝에 추가
+        queueManager.enqueue(isbn13, rsvId, userId);
+
         ReserveResultDTO out = new ReserveResultDTO();
         out.setRsvId(rsvId);
         out.setIsbn13(isbn13);
@@ -154,13 +181,44 @@ public class BookCommandService {
     public CancelReserveResultDTO cancelReserve(String rsvId, String userId) {
         requireLogin(userId);
 
+        ReservationQueueDTO rsv = mapper.selectMyReservationForUpdate(rsvId, userId);
         int updated = mapper.cancelReservation(rsvId, userId);
+
+        if (updated == 1 && rsv != null) {
+            if ("HOLD".equals(rsv.getRsvStatus())) {
+                // 확보해 둔 도서가 풀렸으므로 다음 대기자에게 홀드 전환
+                promoteNextReservation(rsv.getIsbn13());
+            } else {
+                queueManager.remove(rsv.getIsbn13(), rsvId);
+            }
+        }
+
         CancelReserveResultDTO out = new CancelReserveResultDTO();
         out.setRsvId(rsvId);
         out.setCancelledYn(updated == 1 ? "Y" : "N");
         return out;
     }
 
+    /**
+     * [대출 시 예약 완료 처리]
+     * - 홀드 도서로 대출했으면 해당 홀드 예약을 FULFILLED
+     * - 일반 재고로 대출했어도 같은 ISBN에 대기 중(ACTIVE) 예약이 있으면 FULFILLED + 대기열에서 제거
+     *   (이미 빌린 사용자에게 나중에 홀드가 배정되지 않도록)
+     * 대출 INSERT와 같은 트랜잭션 안에서 호출합니다. (장바구니 결제 확정 경로 공용)
+     */
+    @Transactional
+    public void fulfillReservationOnLend(String userId, String isbn13, ReservationQueueDTO hold) {
+        if (hold != null) {
+            mapper.fulfillReservation(hold.getRsvId());
+            return;
+        }
+
+        ReservationQueueDTO waiting = mapper.selectMyActiveReservationForUpdate(userId, isbn13);
+        if (waiting != null && mapper.fulfillReservation(waiting.getRsvId()) == 1) {
+            queueManager.remove(isbn13, waiting.getRsvId());
+        }
+    }
+
     /** [반납함 투입] 무인 반납함에 도서를 넣었음을 기록 (1차 단계) */
     @Transactional
     public ReturnBoxResultDTO returnToBox(String lendId, Long boxId, String userId) {
@@ -179,9 +237,81 @@ public class BookCommandService {
         requireLogin(userId);
 
         int updated = mapper.confirmReturn(lendId, userId);
+
+        // [예약 홀드] 반납으로 생긴 도서를 같은 트랜잭션 안에서 대기열 선두 예약자에게 배정
+        if (updated == 1) {
+            lendStatsRecorder.returned(lendId);
+            userStatusCache.evict(userId);
+            String isbn13 = mapper.selectIsbnByLendId(lendId);
+            if (isbn13 != null) promoteNextReservation(isbn13);
+        }
+
         ReturnConfirmResultDTO out = new ReturnConfirmResultDTO();
         out.setLendId(lendId);
         out.setReturnedYn(updated == 1 ? "Y" : "N");
         return out;
     }
+
+    /**
+     * [홀드 만료 처리]
+     * 수령 기한이 지난 홀드 예약을 만료시키고, 풀린 도서를 다음 대기자에게 넘깁니다.
+     * @return 만료 처리된 예약 건수
+     */
+    @Transactional
+    public int expireHolds() {
+        List<ReservationQueueDTO> expired = mapper.selectExpiredHolds();
+
+        int cnt = 0;
+        for (ReservationQueueDTO rsv : expired) {
+            if (mapper.expireHold(rsv.getRsvId()) == 1) {
+                cnt++;
+                promoteNextReservation(rsv.getIsbn13());
+            }
+        }
+        return cnt;
+    }
+
+    /**
+     * [대기열 선두 홀드 전환]
+     * 1. 같은 ISBN에 대한 동시 반납/취소는 ISBN 단위 락으로 직렬화
+     * 2. 대여 가능한 실물 도서 1권을 잠금(FOR UPDATE)
+     * 3. 대기열 선두 예약을 조건부 UPDATE로 HOLD 전환 (이미 취소·삭제된 예약은 대기열에서 정리 후 다음 후보)
+     * 4. 예약자에게 RESERVATION_AVAILABLE 알림 발송, 대기열 제거는 커밋 후 반영
+     */
+    private void promoteNextReservation(String isbn13) {
+        ReentrantLock lock = queueManager.lockOf(isbn13);
+        lock.lock();
+        try {
+            while (true) {
+                List<ReservationQueueDTO> candidates = queueManager.peek(isbn13, HOLD_CANDIDATE_BATCH);
+                if (candidates.isEmpty()) return;
+
+                Long bookId = mapper.selectAvailableBookIdForUpdate(isbn13);
+                if (bookId == null) return;
+
+                for (ReservationQueueDTO candidate : candidates) {
+                    if (mapper.holdReservation(candidate.getRsvId(), bookId) == 1) {
+                        queueManager.remove(isbn13, candidate.getRsvId());
+                        notifyHold(candidate);
+                        return;
+                    }
+                    // DB에서 이미 ACTIVE가 아닌 예약 -> 대기열에서 즉시 정리
+                    queueManager.removeNow(isbn13, candidate.getRsvId());
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** 홀드 전환된 예약자에게 도서 준비 알림 */
+    private void notifyHold(ReservationQueueDTO rsv) {
+        NotificationEntity noti = new NotificationEntity();
+        noti.setUserId(rsv.getUserId());
+        noti.setTargetType("RESERVATION_AVAILABLE");
+        noti.setTargetId(rsv.getIsbn13());
+        noti.setNotiContent("예약하신 도서가 준비되었습니다. 3일 이내에 대여해 주세요.");
+        noti.setCheckYn('N');
+        notificationService.saveNotification(noti);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,127 @@
+package com.booknara.booknaraPrj.bookcirculation.command.service;
+
+import com.booknara.booknaraPrj.bookcirculation.command.dto.ReservationQueueDTO;
+import com.booknara.booknaraPrj.bookcirculation.command.mapper.BookCommandMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * [ReservationQueueManager]
+ * ISBN별 예약 대기열(FIFO)을 메모리에 유지하는 컴포넌트입니다.
+ * - 서버 기동 시 RESERVATIONS의 ACTIVE 예약으로 대기열을 재구성합니다.
+ * - 반납으로 도서가 생기면 RESERVATIONS를 다시 정렬 조회하지 않고 대기열 선두부터 홀드 후보를 꺼냅니다.
+ * - 대기열 변경은 트랜잭션 커밋 이후에만 반영되어, 롤백된 예약/취소가 메모리에 남지 않습니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ReservationQueueManager {
+
+    private final BookCommandMapper mapper;
+
+    private static final int LOCK_STRIPES = 64;
+
+    // isbn13 -> (rsvId -> userId), 삽입 순서 = 예약 순서
+    private final ConcurrentHashMap<String, LinkedHashMap<String, String>> queues = new ConcurrentHashMap<>();
+
+    private final ReentrantLock[] locks = newLocks();
+
+    /** 서버 기동 시 ACTIVE 예약 전체를 예약일 순으로 적재 */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<ReservationQueueDTO> rows = mapper.selectActiveReservationsForQueue();
+        queues.clear();
+        for (ReservationQueueDTO row : rows) {
+            queues.computeIfAbsent(row.getIsbn13(), k -> new LinkedHashMap<>())
+                    .put(row.getRsvId(), row.getUserId());
+        }
+        log.info("reservation queue rebuilt. isbnCount={} reservationCount={}", queues.size(), rows.size());
+    }
+
+    /** 신규 예약을 대기열 끝에 추가 (커밋 후) */
+    public void enqueue(String isbn13, String rsvId, String userId) {
+        afterCommit(() -> queues.compute(isbn13, (k, queue) -> {
+            if (queue == null) queue = new LinkedHashMap<>();
+            queue.put(rsvId, userId);
+            return queue;
+        }));
+    }
+
+    /** 취소·홀드 전환 등으로 대기열에서 빠진 예약 제거 (커밋 후) */
+    public void remove(String isbn13, String rsvId) {
+        afterCommit(() -> removeNow(isbn13, rsvId));
+    }
+
+    /** 이미 DB에서 처리된(취소/삭제) 예약이 대기열에 남아있을 때 즉시 정리 */
+    public void removeNow(String isbn13, String rsvId) {
+        queues.computeIfPresent(isbn13, (k, queue) -> {
+            queue.remove(rsvId);
+            return queue.isEmpty() ? null : queue;
+        });
+    }
+
+    /**
+     * 대기열 선두부터 최대 limit개의 후보를 꺼내지 않고 조회합니다.
+     * 실제 제거는 홀드 전환이 커밋된 뒤 remove()로 처리됩니다.
+     */
+    public List<ReservationQueueDTO> peek(String isbn13, int limit) {
+        List<ReservationQueueDTO> out = new ArrayList<>();
+        queues.computeIfPresent(isbn13, (k, queue) -> {
+            for (Map.Entry<String, String> entry : queue.entrySet()) {
+                if (out.size() >= limit) break;
+
+                ReservationQueueDTO item = new ReservationQueueDTO();
+                item.setRsvId(entry.getKey());
+                item.setUserId(entry.getValue());
+                item.setIsbn13(isbn13);
+                item.setRsvStatus("ACTIVE");
+                out.add(item);
+            }
+            return queue;
+        });
+        return out;
+    }
+
+    /**
+     * 같은 ISBN에 대한 동시 반납/취소의 홀드 전환을 직렬화하기 위한 락 (ISBN 해시 기반 스트라이프)
+     * 락 안에서 DB 잠금(FOR UPDATE)을 기다리므로 synchronized 대신 ReentrantLock (가상 스레드 carrier 고정 방지)
+     */
+    public ReentrantLock lockOf(String isbn13) {
+        return locks[(isbn13.hashCode() & 0x7fffffff) % locks.length];
+    }
+
+    // =========================
+    // 내부 유틸
+    // =========================
+
+    private static ReentrantLock[] newLocks() {
+        ReentrantLock[] arr = new ReentrantLock[LOCK_STRIPES];
+        for (int i = 0; i < arr.length; i++) arr[i] = new ReentrantLock();
+        return arr;
+    }
+
+    private void afterCommit(Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+            return;
+        }
+        task.run();
+    }
+}
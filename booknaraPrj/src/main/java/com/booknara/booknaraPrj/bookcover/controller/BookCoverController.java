@@ -0,0 +1,51 @@
+package com.booknara.booknaraPrj.bookcover.controller;
+
+import com.booknara.booknaraPrj.bookcover.service.BookCoverService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * [BookCoverController]
+ * 표지 이미지 프록시 엔드포인트입니다.
+ * - URL에 원본 해시가 포함되어 있으므로 응답은 1년 immutable 캐시로 내려갑니다.
+ */
+@RestController
+@RequiredArgsConstructor
+public class BookCoverController {
+
+    private final BookCoverService bookCoverService;
+
+    @GetMapping("/covers/{isbn13}/{hash}/{variant}")
+    public ResponseEntity<Resource> cover(@PathVariable("isbn13") String isbn13,
+                                          @PathVariable("hash") String hash,
+                                          @PathVariable("variant") String variant) {
+        BookCoverService.CoverResult result = bookCoverService.resolve(isbn13, hash, variant);
+        if (result == null) {
+            return ResponseEntity.notFound().build();
+        }
+
+        // 원본 변경 또는 생성 실패 → 다른 주소로 이동 (캐시하지 않음)
+        if (result.redirectUrl() != null) {
+            return ResponseEntity.status(HttpStatus.FOUND)
+                    .location(URI.create(result.redirectUrl()))
+                    .cacheControl(CacheControl.noStore())
+                    .build();
+        }
+
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable())
+                .contentType(MediaType.IMAGE_JPEG)
+                .body(new FileSystemResource(result.file()));
+    }
+}
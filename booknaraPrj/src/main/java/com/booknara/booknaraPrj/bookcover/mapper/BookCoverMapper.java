@@ -0,0 +1,16 @@
+package com.booknara.booknaraPrj.bookcover.mapper;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+/**
+ * [BookCoverMapper]
+ * 표지 이미지 프록시에서 사용할 원본 이미지 URL을 조회하는 매퍼입니다.
+ * 목록 쿼리용 프록시 URL 조각(CoverUrl)도 같은 XML에 정의되어 있습니다.
+ */
+@Mapper
+public interface BookCoverMapper {
+
+    /** 원본 표지 URL (네이버 우선, 없으면 알라딘 / 둘 다 없으면 null) */
+    String selectCoverSource(@Param("isbn13") String isbn13);
+}
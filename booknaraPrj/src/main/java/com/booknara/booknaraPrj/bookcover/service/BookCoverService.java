@@ -0,0 +1,374 @@
+package com.booknara.booknaraPrj.bookcover.service;
+
+import com.booknara.booknaraPrj.bookcover.mapper.BookCoverMapper;
+import com.booknara.booknaraPrj.common.concurrent.ExecutionMode;
+import com.booknara.booknaraPrj.common.perf.RequestTrace;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryNotEmptyException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Pattern;
+
+/**
+ * [BookCoverService]
+ * 외부 CDN 표지 이미지를 한 번만 받아 로컬 디스크에 저장하고, 목록/카드/상세용 축소본을 만들어 제공합니다.
+ * - 저장 경로: {cover.cache-dir}/{isbn13}/{원본 URL SHA1 앞 12자리}/{variant}.jpg (원본이 바뀌면 새 경로)
+ * - 원본은 http(s) URL만 받습니다 (DB 값이 file:, classpath: 등이어도 서버 로컬 파일을 읽지 않음).
+ * - 도서 병합(TempMergeService) 시 warm()으로 미리 생성합니다.
+ * - 디스크 사용량이 cover.cache-max-size 를 넘으면 prune()이 오래 전에 만든 표지부터 지웁니다 (지운 표지는 다음 요청 때 다시 생성).
+ */
+@Service
+@Slf4j
+public class BookCoverService {
+
+    /** 축소본 종류 (가로 px 기준, 원본보다 크게 늘리지 않음) */
+    public enum Variant {
+        LIST(120), CARD(240), DETAIL(480);
+
+        private final int width;
+
+        Variant(int width) {
+            this.width = width;
+        }
+
+        public static Variant of(String name) {
+            for (Variant v : values()) {
+                if (v.name().equalsIgnoreCase(name)) return v;
+            }
+            return null;
+        }
+
+        public String fileName() {
+            return name().toLowerCase(Locale.ROOT) + ".jpg";
+        }
+    }
+
+    /** 조회 결과: file(로컬 이미지) 또는 redirectUrl(원본 변경/생성 실패 시 이동할 주소) */
+    public record CoverResult(Path file, String redirectUrl) {}
+
+    private static final Pattern ISBN_PATTERN = Pattern.compile("[0-9A-Za-z_]{1,20}");
+    private static final Pattern HASH_PATTERN = Pattern.compile("[0-9a-f]{12}");
+    private static final int MAX_SOURCE_BYTES = 5 * 1024 * 1024;
+    private static final float JPEG_QUALITY = 0.85f;
+
+    private final BookCoverMapper mapper;
+    private final Path baseDir;
+    private final long maxCacheBytes;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(3))
+            .followRedirects(HttpClient.Redirect.NORMAL)
+            .build();
+
+    // 병합 시 미리 만들기용 (가득 차면 버림 → 첫 요청 때 생성)
+    private final ThreadPoolExecutor warmExecutor;
+
+    // 같은 표지를 동시에 여러 번 내려받지 않도록 하는 lock stripe
+    // (락 안에서 다운로드하므로 synchronized 대신 ReentrantLock — 가상 스레드 carrier 고정 방지)
+    private final ReentrantLock[] locks = new ReentrantLock[64];
+
+    /** prune() 대상: {isbn13}/{hash} 디렉터리 하나 (축소본 3종) */
+    private record CachedCover(String isbn13, String hash, long bytes, long modifiedAt) {}
+
+    public BookCoverService(BookCoverMapper mapper,
+                            ExecutionMode executionMode,
+                            @Value("${cover.cache-dir:${java.io.tmpdir}/booknara-covers}") String cacheDir,
+                            @Value("${cover.cache-max-size:1GB}") DataSize cacheMaxSize) {
+        this.mapper = mapper;
+        this.baseDir = Paths.get(cacheDir).toAbsolutePath().normalize();
+        this.maxCacheBytes = cacheMaxSize.toBytes();
+        for (int i = 0; i < locks.length; i++) locks[i] = new ReentrantLock();
+        this.warmExecutor = new ThreadPoolExecutor(
+                1, 2, 30, TimeUnit.SECONDS, new ArrayBlockingQueue<>(1_000),
+                executionMode.threadFactory("cover-warm", true),
+                new ThreadPoolExecutor.DiscardPolicy());
+    }
+
+    /**
+     * 표지 조회
+     * @return null이면 404 (잘못된 요청 또는 표지 없음)
+     */
+    public CoverResult resolve(String isbn13, String hash, String variantName) {
+        Variant variant = Variant.of(variantName);
+        if (variant == null || !ISBN_PATTERN.matcher(isbn13).matches() || !HASH_PATTERN.matcher(hash).matches()) {
+            return null;
+        }
+
+        // 1) 이미 만들어진 축소본 (DB 조회 없이 바로 반환)
+        Path file = variantPath(isbn13, hash, variant);
+        if (Files.isRegularFile(file)) return new CoverResult(file, null);
+
+        // 2) 원본 URL 확인
+        String source = mapper.selectCoverSource(isbn13);
+        if (source == null) return null;
+
+        String current = sourceHash(source);
+        if (!current.equals(hash)) {
+            // 페이지 렌더링 이후 원본이 바뀐 경우 → 현재 경로로 이동
+            return new CoverResult(null, "/covers/" + isbn13 + "/" + current + "/" + variant.name().toLowerCase(Locale.ROOT));
+        }
+
+        // 3) 원본 다운로드 + 축소본 생성
+        try {
+            ensureVariants(isbn13, current, source);
+            return new CoverResult(file, null);
+        } catch (IOException | RuntimeException e) {
+            log.warn("cover generate failed. isbn13={} msg={}", isbn13, e.getMessage());
+            return isHttp(source) ? new CoverResult(null, source) : null;
+        }
+    }
+
+    /** 도서 병합 직후 표지 미리 생성 (비동기, 실패해도 무시) */
+    public void warm(String isbn13) {
+        warmExecutor.execute(() -> {
+            try {
+                String source = mapper.selectCoverSource(isbn13);
+                if (source != null) ensureVariants(isbn13, sourceHash(source), source);
+            } catch (Exception e) {
+                log.debug("cover warm failed. isbn13={} msg={}", isbn13, e.getMessage());
+            }
+        });
+    }
+
+    /** 목록 SQL(BookCoverMapper.CoverUrl)과 같은 규칙: 원본 URL SHA1 hex 앞 12자리 */
+    public static String sourceHash(String source) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-1").digest(source.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest).substring(0, 12);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 디스크 캐시 용량 제한
+     * 한도를 넘으면 마지막으로 만든 시각이 오래된 표지부터 지워 한도의 90%까지 줄입니다.
+     */
+    @Scheduled(fixedDelayString = "${cover.cache-prune-interval-ms:600000}")
+    public void prune() {
+        if (!Files.isDirectory(baseDir)) return;
+
+        List<CachedCover> covers;
+        try {
+            covers = scanCache();
+        } catch (IOException e) {
+            log.warn("cover cache scan failed. dir={} msg={}", baseDir, e.getMessage());
+            return;
+        }
+
+        long total = 0;
+        for (CachedCover c : covers) total += c.bytes();
+        if (total <= maxCacheBytes) return;
+
+        long target = maxCacheBytes / 10 * 9;
+        covers.sort(Comparator.comparingLong(CachedCover::modifiedAt));
+        int removed = 0;
+        for (CachedCover c : covers) {
+            if (total <= target) break;
+            try {
+                deleteVariants(c.isbn13(), c.hash());
+                total -= c.bytes();
+                removed++;
+            } catch (IOException e) {
+                log.debug("cover evict failed. isbn13={} hash={} msg={}", c.isbn13(), c.hash(), e.getMessage());
+            }
+        }
+        log.info("cover cache pruned. removed={} remainingBytes={} maxBytes={}", removed, total, maxCacheBytes);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        warmExecutor.shutdownNow();
+    }
+
+    // =========================
+    // 내부 유틸
+    // =========================
+
+    private ReentrantLock lockFor(String isbn13, String hash) {
+        return locks[Math.floorMod((isbn13 + hash).hashCode(), locks.length)];
+    }
+
+    private void ensureVariants(String isbn13, String hash, String source) throws IOException {
+        ReentrantLock lock = lockFor(isbn13, hash);
+        lock.lock();
+        try {
+            if (allVariantsExist(isbn13, hash)) return;
+
+            BufferedImage original = ImageIO.read(new ByteArrayInputStream(download(source)));
+            if (original == null) throw new IOException("이미지 형식을 읽을 수 없습니다.");
+
+            Files.createDirectories(baseDir.resolve(isbn13).resolve(hash));
+            for (Variant v : Variant.values()) {
+                writeJpeg(resize(original, v.width), variantPath(isbn13, hash, v));
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean allVariantsExist(String isbn13, String hash) {
+        for (Variant v : Variant.values()) {
+            if (!Files.isRegularFile(variantPath(isbn13, hash, v))) return false;
+        }
+        return true;
+    }
+
+    private Path variantPath(String isbn13, String hash, Variant variant) {
+        return baseDir.resolve(isbn13).resolve(hash).resolve(variant.fileName());
+    }
+
+    /** {isbn13}/{hash} 디렉터리별 용량과 마지막 생성 시각 (규칙에 맞지 않는 이름은 건드리지 않음) */
+    private List<CachedCover> scanCache() throws IOException {
+        List<CachedCover> covers = new ArrayList<>();
+        try (DirectoryStream<Path> isbnDirs = Files.newDirectoryStream(baseDir, Files::isDirectory)) {
+            for (Path isbnDir : isbnDirs) {
+                String isbn13 = isbnDir.getFileName().toString();
+                if (!ISBN_PATTERN.matcher(isbn13).matches()) continue;
+
+                try (DirectoryStream<Path> hashDirs = Files.newDirectoryStream(isbnDir, Files::isDirectory)) {
+                    for (Path hashDir : hashDirs) {
+                        String hash = hashDir.getFileName().toString();
+                        if (!HASH_PATTERN.matcher(hash).matches()) continue;
+
+                        long bytes = 0, modifiedAt = 0;
+                        try (DirectoryStream<Path> files = Files.newDirectoryStream(hashDir)) {
+                            for (Path f : files) {
+                                BasicFileAttributes attrs = Files.readAttributes(f, BasicFileAttributes.class);
+                                bytes += attrs.size();
+                                modifiedAt = Math.max(modifiedAt, attrs.lastModifiedTime().toMillis());
+                            }
+                        }
+                        covers.add(new CachedCover(isbn13, hash, bytes, modifiedAt));
+                    }
+                }
+            }
+        }
+        return covers;
+    }
+
+    /** 생성 중인 표지와 겹치지 않도록 같은 lock stripe 안에서 삭제 */
+    private void deleteVariants(String isbn13, String hash) throws IOException {
+        Path hashDir = baseDir.resolve(isbn13).resolve(hash);
+        ReentrantLock lock = lockFor(isbn13, hash);
+        lock.lock();
+        try {
+            try (DirectoryStream<Path> files = Files.newDirectoryStream(hashDir)) {
+                for (Path f : files) Files.deleteIfExists(f);
+            }
+            Files.deleteIfExists(hashDir);
+        } finally {
+            lock.unlock();
+        }
+        try {
+            Files.deleteIfExists(hashDir.getParent());
+        } catch (DirectoryNotEmptyException ignore) {
+            // 같은 ISBN의 다른 해시(원본 변경 전/후)가 남아 있음
+        }
+    }
+
+    private static boolean isHttp(String source) {
+        return source.regionMatches(true, 0, "http://", 0, 7)
+                || source.regionMatches(true, 0, "https://", 0, 8);
+    }
+
+    private byte[] download(String source) throws IOException {
+        if (!isHttp(source)) {
+            throw new IOException("허용되지 않는 원본 URL입니다. (http/https 만 허용)");
+        }
+
+        HttpRequest request = HttpRequest.newBuilder(URI.create(source))
+                .timeout(Duration.ofSeconds(5))
+                .GET()
+                .build();
+        long start = System.nanoTime();
+        try {
+            HttpResponse<InputStream> response = httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+            try (InputStream in = response.body()) {
+                if (response.statusCode() != 200) {
+                    throw new IOException("원본 이미지 응답 오류. status=" + response.statusCode());
+                }
+                return in.readNBytes(MAX_SOURCE_BYTES);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("원본 이미지 다운로드 중단", e);
+        } finally {
+            RequestTrace.addHttp(System.nanoTime() - start);
+        }
+    }
+
+    /** 가로 기준 비율 유지 축소 (JPEG 저장을 위해 흰 배경 RGB로 변환) */
+    private BufferedImage resize(BufferedImage src, int maxWidth) {
+        int width = Math.min(maxWidth, src.getWidth());
+        int height = Math.max(1, (int) Math.round(src.getHeight() * (width / (double) src.getWidth())));
+
+        BufferedImage out = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = out.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, width, height);
+            g.drawImage(src, 0, 0, width, height, null);
+        } finally {
+            g.dispose();
+        }
+        return out;
+    }
+
+    /** 임시 파일에 쓴 뒤 rename (읽는 쪽이 절반만 쓰인 파일을 보지 않도록) */
+    private void writeJpeg(BufferedImage image, Path target) throws IOException {
+        Path tmp = Files.createTempFile(target.getParent(), "cover", ".tmp");
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        try (ImageOutputStream out = ImageIO.createImageOutputStream(tmp.toFile())) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(JPEG_QUALITY);
+            writer.setOutput(out);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+}
@@ -0,0 +1,28 @@
+package com.booknara.booknaraPrj.common;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.http.HttpEntity;
+import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * [ApiRequestUtils]
+ * 현재 요청이 화면(View) 렌더링이 아닌 JSON/API 응답 핸들러인지 판별합니다.
+ * 전역 @ModelAttribute advice가 API 요청에서 불필요한 조회를 하지 않도록 사용됩니다.
+ */
+public class ApiRequestUtils {
+
+    public static boolean isApiRequest(HttpServletRequest request) {
+        if (request == null) return false;
+
+        Object handler = request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE);
+        if (!(handler instanceof HandlerMethod hm)) return false;
+
+        // @ResponseBody 메서드 / @RestController / ResponseEntity 반환
+        return hm.hasMethodAnnotation(ResponseBody.class)
+                || AnnotatedElementUtils.hasAnnotation(hm.getBeanType(), ResponseBody.class)
+                || HttpEntity.class.isAssignableFrom(hm.getReturnType().getParameterType());
+    }
+}
@@ -1,8 +1,10 @@
 package com.booknara.booknaraPrj.common;
 
-import com.booknara.booknaraPrj.admin.settings.AdminSettings;
-import com.booknara.booknaraPrj.admin.settings.AdminSettingsService;
+import com.booknara.booknaraPrj.admin.settings.SettingsSnapshot;
+import com.booknara.booknaraPrj.admin.settings.SettingsSnapshotHolder;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ModelAttribute;
 
@@ -10,24 +12,17 @@ import org.springframework.web.bind.annotation.ModelAttribute;
 @RequiredArgsConstructor
 public class GlobalSettingsAdvice {
 
-    private final AdminSettingsService adminSettingsService;
+    private final SettingsSnapshotHolder settingsSnapshotHolder;
 
-    @ModelAttribute("adminSettings")
-    public AdminSettings globalSettings() {
-        // 서비스의 메서드를 호출하여 실제 DB에 저장된 설정 객체를 가져옵니다.
-        // 메서드 이름은 AdminSettingsService에 정의된 것을 확인하세요 (예: getSettings)
-        return adminSettingsService.getSettings();
-    }
-
-    @ModelAttribute("adminEmail")
-    public String adminEmail() {
-        AdminSettings settings = adminSettingsService.getSettings();
-        return settings.getAdminEmail();
-    }
+    @ModelAttribute
+    public void globalSettings(Model model, HttpServletRequest request) {
+        // JSON/API 응답에는 footer가 없으므로 건너뜀
+        if (ApiRequestUtils.isApiRequest(request)) return;
 
-    @ModelAttribute("adminPhone")
-    public String adminPhone() {
-        AdminSettings settings = adminSettingsService.getSettings();
-        return settings.getAdminPhone();
+        // 메모리에 보관된 설정 스냅샷 하나로 세 속성을 모두 채웁니다. (요청당 DB 조회 없음)
+        SettingsSnapshot settings = settingsSnapshotHolder.get();
+        model.addAttribute("adminSettings", settings);
+        model.addAttribute("adminEmail", settings.getAdminEmail());
+        model.addAttribute("adminPhone", settings.getAdminPhone());
     }
 }
@@ -0,0 +1,40 @@
+package com.booknara.booknaraPrj.common.concurrent;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * [ConnectionLimiterConfig]
+ * 가상 스레드 모드에서만 HikariCP DataSource 를 ConnectionLimitingDataSource 로 감쌉니다.
+ * - 허가 수: db.limiter.permits (기본 = spring.datasource.hikari.maximum-pool-size)
+ * - 대기 한도: db.limiter.timeout-ms (기본 = Hikari connectionTimeout)
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+@Slf4j
+public class ConnectionLimiterConfig {
+
+    @Bean
+    public static BeanPostProcessor connectionLimiterPostProcessor(ObjectProvider<MeterRegistry> meterRegistry,
+                                                                   Environment env) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof HikariDataSource hikari)) return bean;
+
+                int permits = env.getProperty("db.limiter.permits", Integer.class, hikari.getMaximumPoolSize());
+                long timeoutMs = env.getProperty("db.limiter.timeout-ms", Long.class, hikari.getConnectionTimeout());
+                log.info("DB connection limiter enabled. permits={} timeoutMs={}", permits, timeoutMs);
+
+                return new ConnectionLimitingDataSource(hikari, permits, timeoutMs, meterRegistry.getObject());
+            }
+        };
+    }
+}
@@ -0,0 +1,110 @@
+package com.booknara.booknaraPrj.common.concurrent;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * [ConnectionLimitingDataSource]
+ * 커넥션 획득을 풀 크기만큼의 공정(fair) 세마포어로 감싸는 DataSource 입니다.
+ * - 가상 스레드는 수천 개가 동시에 getConnection() 을 부를 수 있어, 풀 내부 대기(스핀/핸드오프)에 몰리는 대신
+ *   애플리케이션 안에서 도착 순서대로 줄을 세웁니다.
+ * - 허가(permit)는 Connection.close() 시 1번만 반납합니다.
+ * - 지표: db.limiter.wait (대기 시간), db.limiter.waiting / db.limiter.in_use (게이지), db.limiter.timeouts
+ */
+public class ConnectionLimitingDataSource extends DelegatingDataSource {
+
+    private final Semaphore permits;
+    private final int maxPermits;
+    private final long timeoutMs;
+
+    private final Timer waitTimer;
+    private final Counter timeouts;
+
+    public ConnectionLimitingDataSource(DataSource target, int maxPermits, long timeoutMs, MeterRegistry registry) {
+        super(target);
+        this.maxPermits = maxPermits;
+        this.permits = new Semaphore(maxPermits, true);
+        this.timeoutMs = timeoutMs;
+
+        this.waitTimer = Timer.builder("db.limiter.wait")
+                .description("커넥션 허가 대기 시간")
+                .register(registry);
+        this.timeouts = registry.counter("db.limiter.timeouts");
+        registry.gauge("db.limiter.waiting", permits, Semaphore::getQueueLength);
+        registry.gauge("db.limiter.in_use", permits, p -> maxPermits - p.availablePermits());
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        try {
+            return limited(super.getConnection());
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        try {
+            return limited(super.getConnection(username, password));
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    private void acquire() throws SQLException {
+        long start = System.nanoTime();
+        try {
+            if (!permits.tryAcquire(timeoutMs, TimeUnit.MILLISECONDS)) {
+                timeouts.increment();
+                throw new SQLTransientConnectionException(
+                        "DB 커넥션 대기 시간 초과 (" + timeoutMs + "ms, 대기 " + permits.getQueueLength() + "건)");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("DB 커넥션 대기 중 인터럽트", e);
+        } finally {
+            waitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /** close() 시 허가 반납 (중복 close 는 1번만) */
+    private Connection limited(Connection target) {
+        AtomicBoolean released = new AtomicBoolean();
+        InvocationHandler handler = (proxy, method, args) -> {
+            if ("close".equals(method.getName()) && method.getParameterCount() == 0) {
+                try {
+                    return method.invoke(target, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getTargetException();
+                } finally {
+                    if (released.compareAndSet(false, true)) permits.release();
+                }
+            }
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        };
+        return (Connection) Proxy.newProxyInstance(
+                ConnectionLimitingDataSource.class.getClassLoader(), new Class<?>[]{Connection.class}, handler);
+    }
+}
@@ -0,0 +1,52 @@
+package com.booknara.booknaraPrj.common.concurrent;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * [ExecutionMode]
+ * 요청/작업 실행 스레드 모드 (플랫폼 스레드 ↔ Java 21 가상 스레드) 스위치입니다.
+ * - spring.threads.virtual.enabled=true 하나로 켭니다. (기본 false)
+ *   · Spring Boot 가 Tomcat 요청 처리, @Scheduled 스케줄러, applicationTaskExecutor 를 가상 스레드로 전환
+ *   · 직접 만든 작업 스레드(메일 outbox 워커, 표지 미리 만들기)는 threadFactory() 로 같은 모드를 따름
+ *   · DB 커넥션 획득은 ConnectionLimitingDataSource 가 풀 크기만큼만 통과시킴
+ * - app.threads.virtual 게이지(1/0)로 부하 테스트 결과를 모드별로 나눠 봅니다.
+ */
+@Component
+@Slf4j
+public class ExecutionMode {
+
+    private final boolean virtual;
+
+    public ExecutionMode(@Value("${spring.threads.virtual.enabled:false}") boolean virtual,
+                         MeterRegistry meterRegistry) {
+        this.virtual = virtual;
+        meterRegistry.gauge("app.threads.virtual", this, m -> m.virtual ? 1 : 0);
+        log.info("execution mode: {} threads", virtual ? "virtual" : "platform");
+    }
+
+    public boolean isVirtual() {
+        return virtual;
+    }
+
+    /**
+     * 작업 스레드 팩토리 (이름: prefix-0, prefix-1, ...)
+     * 가상 스레드는 항상 데몬이므로 daemon 은 플랫폼 스레드에만 적용됩니다.
+     */
+    public ThreadFactory threadFactory(String prefix, boolean daemon) {
+        if (virtual) {
+            return Thread.ofVirtual().name(prefix + "-", 0).factory();
+        }
+        AtomicInteger seq = new AtomicInteger();
+        return r -> {
+            Thread t = new Thread(r, prefix + "-" + seq.getAndIncrement());
+            t.setDaemon(daemon);
+            return t;
+        };
+    }
+}
@@ -0,0 +1,17 @@
+package com.booknara.booknaraPrj.common.mail;
+
+import lombok.Data;
+
+/**
+ * [MailOutboxDTO]
+ * MAIL_OUTBOX 한 건 (발송 큐 원소)
+ */
+@Data
+public class MailOutboxDTO {
+    private Long mailId;
+    private String toAddr;
+    private String subject;
+    private String body;
+    private int attempts;
+    private Long ttlSeconds; // INSERT 시 EXPIRES_AT = NOW() + ttlSeconds (null이면 만료 없음)
+}
@@ -0,0 +1,39 @@
+package com.booknara.booknaraPrj.common.mail;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+
+@Mapper
+public interface MailOutboxMapper {
+
+    /** 발송 요청 저장 (mailId 채워짐) */
+    int insert(MailOutboxDTO dto);
+
+    /** 발송 시각이 된 PENDING 메일 (오래된 순) */
+    List<MailOutboxDTO> selectDue(@Param("limit") int limit);
+
+    /** PENDING → SENDING 선점 (1이면 이 워커가 발송 담당) */
+    int claim(@Param("mailId") Long mailId);
+
+    /** 발송 완료 (본문은 지움) */
+    int markSent(@Param("mailIds") List<Long> mailIds);
+
+    /** 발송 실패: 다음 시도 시각 예약 (PENDING 복귀) 또는 최종 실패(FAILED, 본문은 지움) */
+    int markFailed(@Param("mailId") Long mailId,
+                   @Param("status") String status,
+                   @Param("delaySeconds") long delaySeconds,
+                   @Param("lastError") String lastError);
+
+    /** 다음 시도 시각(NOW + delaySeconds)이 유효시간을 넘기면 EXPIRED 처리 (1이면 만료됨) */
+    int expireIfPastDeadline(@Param("mailId") Long mailId,
+                             @Param("delaySeconds") long delaySeconds,
+                             @Param("lastError") String lastError);
+
+    /** 유효시간이 지난 PENDING 메일을 EXPIRED 로 */
+    int expireOverdue();
+
+    /** 발송 도중 종료되어 SENDING 에 남은 메일을 PENDING 으로 되돌림 */
+    int releaseStale(@Param("staleMinutes") int staleMinutes);
+}
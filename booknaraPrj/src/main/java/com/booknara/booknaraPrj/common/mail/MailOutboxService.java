@@ -0,0 +1,274 @@
+package com.booknara.booknaraPrj.common.mail;
+
+import com.booknara.booknaraPrj.common.concurrent.ExecutionMode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * [MailOutboxService]
+ * 메일 발송을 요청 스레드에서 분리하는 outbox + 워커 구조입니다.
+ * - enqueue(): MAIL_OUTBOX INSERT(영속화) 후 메모리 큐에 넣고 즉시 반환 → SMTP 지연이 HTTP 응답 시간에 영향을 주지 않습니다.
+ * - 워커 스레드: 큐에서 최대 batch-size 건을 모아 JavaMailSender.send(...) 한 번으로 발송 (SMTP 연결 1개를 배치 전체가 재사용)
+ * - 실패 건은 지수 백오프(30초→1분→2분→…, 최대 30분)로 재시도하고 max-attempts 초과 시 FAILED 로 남깁니다.
+ * - 유효시간(ttl)이 있는 메일(인증코드 등)은 다음 시도가 유효시간을 넘기면 재시도하지 않고 EXPIRED 로 남깁니다.
+ * - SENT/FAILED/EXPIRED 로 끝난 메일은 본문(BODY)을 지워 인증코드 평문이 DB에 남지 않게 합니다.
+ * - SMTP 타임아웃은 spring.mail.properties.mail.smtp.connectiontimeout/timeout/writetimeout 으로 설정하고,
+ *   SENDING 선점 해제(releaseStale) 기준은 같은 값으로 계산한 배치 최대 소요 시간보다 길게 잡아 중복 발송을 막습니다.
+ * - 큐가 가득 찼거나 재시작/재시도 대상인 메일은 poll()이 DB에서 다시 읽어 큐에 넣습니다.
+ * - 로컬 확인: spring.mail.host/port 를 로컬 SMTP 스텁(MailHog, smtp4dev 등)으로 지정하면 실제 발송 없이 확인할 수 있습니다.
+ */
+@Service
+@Slf4j
+public class MailOutboxService {
+
+    private static final long BASE_BACKOFF_SECONDS = 30;
+    private static final long MAX_BACKOFF_SECONDS = 30 * 60;
+    private static final int MIN_STALE_SENDING_MINUTES = 5;
+
+    private final MailOutboxMapper mapper;
+    private final JavaMailSender mailSender;
+
+    private final int workers;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final int staleSendingMinutes;
+    private final BlockingQueue<MailOutboxDTO> queue;
+    private final ThreadFactory workerFactory;
+    private final List<Thread> workerThreads = new ArrayList<>();
+    private volatile boolean running;
+
+    private final Timer sendTimer;
+    private final Counter sentCounter;
+    private final Counter retryCounter;
+    private final Counter failedCounter;
+    private final Counter expiredCounter;
+
+    public MailOutboxService(MailOutboxMapper mapper,
+                             JavaMailSender mailSender,
+                             MeterRegistry meterRegistry,
+                             ExecutionMode executionMode,
+                             @Value("${mail.outbox.workers:2}") int workers,
+                             @Value("${mail.outbox.batch-size:20}") int batchSize,
+                             @Value("${mail.outbox.queue-capacity:1000}") int queueCapacity,
+                             @Value("${mail.outbox.max-attempts:5}") int maxAttempts,
+                             @Value("${spring.mail.properties.mail.smtp.connectiontimeout:5000}") int connectTimeoutMs,
+                             @Value("${spring.mail.properties.mail.smtp.timeout:10000}") int ioTimeoutMs) {
+        this.mapper = mapper;
+        this.mailSender = mailSender;
+        this.workers = Math.max(1, workers);
+        this.batchSize = Math.max(1, batchSize);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, queueCapacity));
+        this.workerFactory = executionMode.threadFactory("mail-outbox", true);
+        this.staleSendingMinutes = staleSendingMinutes(connectTimeoutMs, ioTimeoutMs, this.batchSize);
+
+        meterRegistry.gauge("mail.outbox.queue.depth", queue, BlockingQueue::size);
+        this.sendTimer = Timer.builder("mail.outbox.send")
+                .description("SMTP 배치 발송 소요 시간")
+                .register(meterRegistry);
+        this.sentCounter = meterRegistry.counter("mail.outbox.messages", "result", "sent");
+        this.retryCounter = meterRegistry.counter("mail.outbox.messages", "result", "retry");
+        this.failedCounter = meterRegistry.counter("mail.outbox.messages", "result", "failed");
+        this.expiredCounter = meterRegistry.counter("mail.outbox.messages", "result", "expired");
+    }
+
+    @PostConstruct
+    void start() {
+        running = true;
+        for (int i = 0; i < workers; i++) {
+            Thread t = workerFactory.newThread(this::workLoop);
+            t.start();
+            workerThreads.add(t);
+        }
+    }
+
+    /**
+     * 메일 발송 요청 (DB 저장까지만 동기)
+     * 큐가 가득 차도 DB에는 남아 있으므로 poll()이 이어서 발송합니다.
+     */
+    public void enqueue(String to, String subject, String body) {
+        enqueue(to, subject, body, null);
+    }
+
+    /**
+     * 유효시간이 있는 메일 발송 요청 (인증코드 등)
+     * @param ttl 이 시간이 지나면 큐에 남아 있거나 재시도 대기 중이어도 발송하지 않음 (null이면 무기한)
+     */
+    public void enqueue(String to, String subject, String body, Duration ttl) {
+        MailOutboxDTO mail = new MailOutboxDTO();
+        mail.setToAddr(to);
+        mail.setSubject(subject);
+        mail.setBody(body);
+        mail.setTtlSeconds(ttl == null ? null : Math.max(1, ttl.toSeconds()));
+
+        mapper.insert(mail);
+
+        if (!queue.offer(mail)) {
+            log.warn("mail outbox queue full, deferred to poller. mailId={}", mail.getMailId());
+        }
+    }
+
+    /** 재시도 시각이 된 메일 / 큐에 못 들어간 메일 / 재시작 전 남은 메일을 큐로 보충 */
+    @Scheduled(fixedDelayString = "${mail.outbox.poll-interval-ms:10000}")
+    public void poll() {
+        mapper.releaseStale(staleSendingMinutes);
+
+        int expired = mapper.expireOverdue();
+        if (expired > 0) expiredCounter.increment(expired);
+
+        int room = queue.remainingCapacity();
+        if (room <= 0) return;
+
+        for (MailOutboxDTO mail : mapper.selectDue(room)) {
+            if (!queue.offer(mail)) break;
+        }
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        workerThreads.forEach(Thread::interrupt);
+        // 큐에 남은 메일은 DB에 PENDING 으로 남아 다음 기동 시 poll()이 발송
+    }
+
+    // =========================
+    // 워커
+    // =========================
+
+    private void workLoop() {
+        List<MailOutboxDTO> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                MailOutboxDTO first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) continue;
+
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                sendBatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                // DB 장애 등: 해당 배치는 PENDING/SENDING 으로 남아 poll()/releaseStale()이 다시 처리
+                log.error("mail outbox worker error. batch={}", batch.size(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void sendBatch(List<MailOutboxDTO> batch) {
+        // 1) 선점: poll()이 같은 메일을 다시 넣었거나 다른 인스턴스가 가져간 경우 제외
+        List<MailOutboxDTO> claimed = new ArrayList<>(batch.size());
+        for (MailOutboxDTO mail : batch) {
+            if (mapper.claim(mail.getMailId()) == 1) claimed.add(mail);
+        }
+        if (claimed.isEmpty()) return;
+
+        SimpleMailMessage[] messages = new SimpleMailMessage[claimed.size()];
+        for (int i = 0; i < claimed.size(); i++) {
+            messages[i] = toMessage(claimed.get(i));
+        }
+
+        // 2) 배치 발송 (연결 1회)
+        Map<Object, Exception> failures = Map.of();
+        long start = System.nanoTime();
+        try {
+            mailSender.send(messages);
+        } catch (MailSendException e) {
+            failures = e.getFailedMessages();
+            if (failures.isEmpty()) failures = allFailed(messages, e); // 연결 자체 실패
+        } catch (MailException e) {
+            failures = allFailed(messages, e);
+        } finally {
+            sendTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+
+        // 3) 결과 반영
+        List<Long> sentIds = new ArrayList<>(claimed.size());
+        for (int i = 0; i < claimed.size(); i++) {
+            MailOutboxDTO mail = claimed.get(i);
+            Exception error = failures.get(messages[i]);
+            if (error == null) {
+                sentIds.add(mail.getMailId());
+            } else {
+                scheduleRetry(mail, error);
+            }
+        }
+        if (!sentIds.isEmpty()) {
+            mapper.markSent(sentIds);
+            sentCounter.increment(sentIds.size());
+        }
+    }
+
+    private void scheduleRetry(MailOutboxDTO mail, Exception error) {
+        int attempts = mail.getAttempts() + 1;
+        String message = truncate(error.getMessage(), 500);
+
+        if (attempts >= maxAttempts) {
+            mapper.markFailed(mail.getMailId(), "FAILED", 0, message);
+            failedCounter.increment();
+            log.error("mail send failed permanently. mailId={} attempts={} msg={}", mail.getMailId(), attempts, message);
+            return;
+        }
+
+        long delay = Math.min(MAX_BACKOFF_SECONDS, BASE_BACKOFF_SECONDS << Math.min(attempts - 1, 16));
+        if (mapper.expireIfPastDeadline(mail.getMailId(), delay, message) == 1) {
+            expiredCounter.increment();
+            log.warn("mail send failed, expired before next retry. mailId={} attempts={} msg={}", mail.getMailId(), attempts, message);
+            return;
+        }
+        mapper.markFailed(mail.getMailId(), "PENDING", delay, message);
+        retryCounter.increment();
+        log.warn("mail send failed, retry in {}s. mailId={} attempts={} msg={}", delay, mail.getMailId(), attempts, message);
+    }
+
+    /**
+     * releaseStale 기준(분): 배치 1회 최대 소요 시간(연결 + 건별 읽기/쓰기)보다 길게
+     * (타임아웃 미설정 시에는 기본값 기준으로 계산되므로 spring.mail.properties.mail.smtp.* 설정을 권장)
+     */
+    private static int staleSendingMinutes(int connectTimeoutMs, int ioTimeoutMs, int batchSize) {
+        long worstBatchMs = connectTimeoutMs + (long) batchSize * ioTimeoutMs * 2;
+        return (int) Math.max(MIN_STALE_SENDING_MINUTES, TimeUnit.MILLISECONDS.toMinutes(worstBatchMs) + 2);
+    }
+
+    private static SimpleMailMessage toMessage(MailOutboxDTO mail) {
+        SimpleMailMessage message = new SimpleMailMessage();
+        message.setTo(mail.getToAddr());
+        message.setSubject(mail.getSubject());
+        message.setText(mail.getBody());
+        return message;
+    }
+
+    private static Map<Object, Exception> allFailed(SimpleMailMessage[] messages, Exception e) {
+        Map<Object, Exception> map = new IdentityHashMap<>();
+        for (SimpleMailMessage m : messages) map.put(m, e);
+        return map;
+    }
+
+    private static String truncate(String s, int max) {
+        if (s == null) return null;
+        return s.length() <= max ? s : s.substring(0, max);
+    }
+}
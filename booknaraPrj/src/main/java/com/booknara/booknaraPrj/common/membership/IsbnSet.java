@@ -0,0 +1,121 @@
+package com.booknara.booknaraPrj.common.membership;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * [IsbnSet]
+ * 사용자 한 명의 북마크/장바구니 ISBN 집합을 담는 불변(immutable) 컴팩트 집합입니다.
+ * - 숫자 ISBN13은 long으로 바꿔 정렬된 long[]에 보관 (문자열 대비 메모리 1/6 수준, 이진 탐색)
+ * - 숫자가 아닌 식별자(예외 데이터)는 정렬된 String[]에 별도 보관
+ * - 변경은 드물고 조회가 잦으므로 with/without은 새 배열을 만드는 copy-on-write 방식입니다.
+ */
+final class IsbnSet {
+
+    static final IsbnSet EMPTY = new IsbnSet(new long[0], new String[0]);
+
+    private final long[] numeric;
+    private final String[] others;
+
+    private IsbnSet(long[] numeric, String[] others) {
+        this.numeric = numeric;
+        this.others = others;
+    }
+
+    static IsbnSet of(Collection<String> isbns) {
+        if (isbns == null || isbns.isEmpty()) return EMPTY;
+
+        long[] nums = new long[isbns.size()];
+        String[] strs = new String[isbns.size()];
+        int n = 0, s = 0;
+        for (String isbn : isbns) {
+            long v = toLong(isbn);
+            if (v >= 0) nums[n++] = v;
+            else if (isbn != null) strs[s++] = isbn;
+        }
+
+        long[] numeric = Arrays.copyOf(nums, n);
+        String[] others = Arrays.copyOf(strs, s);
+        Arrays.sort(numeric);
+        Arrays.sort(others);
+        return new IsbnSet(dedupe(numeric), others);
+    }
+
+    boolean contains(String isbn) {
+        if (isbn == null) return false;
+        long v = toLong(isbn);
+        if (v >= 0) return Arrays.binarySearch(numeric, v) >= 0;
+        return Arrays.binarySearch(others, isbn) >= 0;
+    }
+
+    IsbnSet with(String isbn) {
+        if (isbn == null || contains(isbn)) return this;
+
+        long v = toLong(isbn);
+        if (v >= 0) {
+            int pos = -(Arrays.binarySearch(numeric, v) + 1);
+            long[] next = new long[numeric.length + 1];
+            System.arraycopy(numeric, 0, next, 0, pos);
+            next[pos] = v;
+            System.arraycopy(numeric, pos, next, pos + 1, numeric.length - pos);
+            return new IsbnSet(next, others);
+        }
+
+        int pos = -(Arrays.binarySearch(others, isbn) + 1);
+        String[] next = new String[others.length + 1];
+        System.arraycopy(others, 0, next, 0, pos);
+        next[pos] = isbn;
+        System.arraycopy(others, pos, next, pos + 1, others.length - pos);
+        return new IsbnSet(numeric, next);
+    }
+
+    IsbnSet without(String isbn) {
+        if (isbn == null) return this;
+
+        long v = toLong(isbn);
+        if (v >= 0) {
+            int pos = Arrays.binarySearch(numeric, v);
+            if (pos < 0) return this;
+            long[] next = new long[numeric.length - 1];
+            System.arraycopy(numeric, 0, next, 0, pos);
+            System.arraycopy(numeric, pos + 1, next, pos, numeric.length - pos - 1);
+            return new IsbnSet(next, others);
+        }
+
+        int pos = Arrays.binarySearch(others, isbn);
+        if (pos < 0) return this;
+        String[] next = new String[others.length - 1];
+        System.arraycopy(others, 0, next, 0, pos);
+        System.arraycopy(others, pos + 1, next, pos, others.length - pos - 1);
+        return new IsbnSet(numeric, next);
+    }
+
+    // =========================
+    // 내부 유틸
+    // =========================
+
+    /** 1~18자리 숫자면 long 값, 아니면 -1 (앞자리 0이 있는 값은 문자열로 구분되도록 제외) */
+    private static long toLong(String isbn) {
+        if (isbn == null) return -1;
+        int len = isbn.length();
+        if (len == 0 || len > 18) return -1;
+        if (len > 1 && isbn.charAt(0) == '0') return -1;
+
+        long v = 0;
+        for (int i = 0; i < len; i++) {
+            char c = isbn.charAt(i);
+            if (c < '0' || c > '9') return -1;
+            v = v * 10 + (c - '0');
+        }
+        return v;
+    }
+
+    private static long[] dedupe(long[] sorted) {
+        if (sorted.length < 2) return sorted;
+        int w = 1;
+        for (int r = 1; r < sorted.length; r++) {
+            if (sorted[r] != sorted[w - 1]) sorted[w++] = sorted[r];
+        }
+        return w == sorted.length ? sorted : Arrays.copyOf(sorted, w);
+    }
+}
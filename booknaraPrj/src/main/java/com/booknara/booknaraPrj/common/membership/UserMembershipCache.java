@@ -0,0 +1,169 @@
+package com.booknara.booknaraPrj.common.membership;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.UnaryOperator;
+
+/**
+ * [UserMembershipCache]
+ * userId별 북마크/장바구니 ISBN 집합을 보관하는 LRU 캐시입니다.
+ * - 검색/상세 목록의 북마크·장바구니 여부를 행마다 JOIN 하지 않고 메모리 집합으로 판정합니다.
+ * - 첫 조회 시 사용자당 1회 로딩(lazy), 이후 북마크 토글·장바구니 추가/삭제/비우기가 커밋 후 집합을 직접 갱신(write-through)합니다.
+ * - 로딩 도중 같은 사용자의 변경이 커밋되면 로딩 결과를 버려, 오래된 집합이 캐시에 남지 않도록 합니다.
+ * - 반영 경로 밖의 변경(직접 SQL 등)을 위한 안전망으로 TTL을 함께 적용합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserMembershipCache {
+
+    private static final int MAX_ENTRIES = 10_000;
+    private static final long TTL_MS = 30 * 60 * 1000L; // 30분
+
+    private final UserMembershipMapper mapper;
+
+    private final Map<String, Entry> cache = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    // 사용자별 변경 시퀀스 (userId hash로 stripe) → 로딩 전후 값이 다르면 로딩 결과를 캐시에 넣지 않음
+    private final AtomicLong[] writeSeq = new AtomicLong[64];
+
+    {
+        for (int i = 0; i < writeSeq.length; i++) writeSeq[i] = new AtomicLong();
+    }
+
+    private record Entry(IsbnSet bookmarks, IsbnSet cart, long loadedAt) {
+        boolean expired(long now) {
+            return now - loadedAt > TTL_MS;
+        }
+    }
+
+    /** 사용자 한 명의 북마크/장바구니 상태 (목록 장식용 읽기 전용 뷰) */
+    public static final class Membership {
+        static final Membership EMPTY = new Membership(IsbnSet.EMPTY, IsbnSet.EMPTY);
+
+        private final IsbnSet bookmarks;
+        private final IsbnSet cart;
+
+        private Membership(IsbnSet bookmarks, IsbnSet cart) {
+            this.bookmarks = bookmarks;
+            this.cart = cart;
+        }
+
+        public boolean isBookmarked(String isbn13) {
+            return bookmarks.contains(isbn13);
+        }
+
+        public boolean isInCart(String isbn13) {
+            return cart.contains(isbn13);
+        }
+    }
+
+    /** 사용자 상태 조회 (비로그인이면 빈 상태, 없거나 만료되면 DB 2회 조회) */
+    public Membership get(String userId) {
+        if (userId == null || userId.isBlank()) return Membership.EMPTY;
+
+        long now = System.currentTimeMillis();
+        synchronized (cache) {
+            Entry entry = cache.get(userId);
+            if (entry != null && !entry.expired(now)) return new Membership(entry.bookmarks(), entry.cart());
+        }
+
+        AtomicLong seq = seqOf(userId);
+        long before = seq.get();
+
+        IsbnSet bookmarks = IsbnSet.of(mapper.selectBookmarkedIsbns(userId));
+        IsbnSet cart = IsbnSet.of(mapper.selectCartIsbns(userId));
+
+        synchronized (cache) {
+            if (seq.get() == before) {
+                cache.put(userId, new Entry(bookmarks, cart, now));
+            }
+        }
+        return new Membership(bookmarks, cart);
+    }
+
+    public boolean isBookmarked(String userId, String isbn13) {
+        return get(userId).isBookmarked(isbn13);
+    }
+
+    public boolean isInCart(String userId, String isbn13) {
+        return get(userId).isInCart(isbn13);
+    }
+
+    // =========================
+    // write-through (커밋 후 반영)
+    // =========================
+
+    /** 북마크 등록/해제 반영 */
+    public void bookmarkChanged(String userId, String isbn13, boolean bookmarked) {
+        update(userId, e -> new Entry(
+                bookmarked ? e.bookmarks().with(isbn13) : e.bookmarks().without(isbn13),
+                e.cart(), e.loadedAt()));
+    }
+
+    /** 장바구니 담기/빼기 반영 */
+    public void cartChanged(String userId, String isbn13, boolean inCart) {
+        update(userId, e -> new Entry(
+                e.bookmarks(),
+                inCart ? e.cart().with(isbn13) : e.cart().without(isbn13),
+                e.loadedAt()));
+    }
+
+    /** 장바구니 비우기 반영 */
+    public void cartCleared(String userId) {
+        update(userId, e -> new Entry(e.bookmarks(), IsbnSet.EMPTY, e.loadedAt()));
+    }
+
+    /** 어떤 ISBN이 바뀌었는지 모르는 변경(cartId 기준 삭제 등): 다음 조회 때 다시 로딩 */
+    public void evict(String userId) {
+        if (userId == null) return;
+        afterCommit(() -> {
+            seqOf(userId).incrementAndGet();
+            synchronized (cache) {
+                cache.remove(userId);
+            }
+        });
+    }
+
+    // =========================
+    // 내부 유틸
+    // =========================
+
+    private void update(String userId, UnaryOperator<Entry> change) {
+        if (userId == null) return;
+        afterCommit(() -> {
+            seqOf(userId).incrementAndGet();
+            synchronized (cache) {
+                // 캐시에 없으면 다음 조회 때 DB에서 최신 상태를 읽음
+                cache.computeIfPresent(userId, (id, e) -> change.apply(e));
+            }
+        });
+    }
+
+    private AtomicLong seqOf(String userId) {
+        return writeSeq[(userId.hashCode() & 0x7fffffff) % writeSeq.length];
+    }
+
+    private void afterCommit(Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+            return;
+        }
+        task.run();
+    }
+}
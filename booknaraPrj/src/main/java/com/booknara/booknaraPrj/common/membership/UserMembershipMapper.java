@@ -0,0 +1,16 @@
+package com.booknara.booknaraPrj.common.membership;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+
+@Mapper
+public interface UserMembershipMapper {
+
+    /** 북마크(Y) 상태인 ISBN 목록 */
+    List<String> selectBookmarkedIsbns(@Param("userId") String userId);
+
+    /** 장바구니에 담긴 ISBN 목록 */
+    List<String> selectCartIsbns(@Param("userId") String userId);
+}
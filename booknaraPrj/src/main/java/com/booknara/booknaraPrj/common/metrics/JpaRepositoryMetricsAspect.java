@@ -0,0 +1,64 @@
+package com.booknara.booknaraPrj.common.metrics;
+
+import com.booknara.booknaraPrj.common.perf.RequestTrace;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.data.domain.Slice;
+
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * [JpaRepositoryMetricsAspect]
+ * Spring Data JPA repository 메서드 호출을 QueryMetrics 에 기록합니다.
+ * - statement 이름은 "리포지토리 인터페이스.메서드" (예: UserRepository.findByUserId)
+ * - 행 수: Collection 크기 / Page·Slice 의 현재 페이지 건수 / Optional·단건은 0 또는 1 / 그 외(count, exists 등) 1
+ * - repository 밖에서 발생하는 지연 로딩 SQL 은 JpaStatementInspector 가 따로 셉니다.
+ */
+@Aspect
+@RequiredArgsConstructor
+public class JpaRepositoryMetricsAspect {
+
+    private final QueryMetrics queryMetrics;
+
+    @Around("execution(* org.springframework.data.repository.Repository+.*(..))")
+    public Object around(ProceedingJoinPoint pjp) throws Throwable {
+        String statement = statementName(pjp);
+
+        long start = System.nanoTime();
+        Object result = null;
+        boolean error = true;
+        try {
+            result = pjp.proceed();
+            error = false;
+            return result;
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            RequestTrace.addDb(elapsed, 0); // SQL 건수는 JpaStatementInspector 가 집계
+            queryMetrics.record("jpa", statement, elapsed, rows(result, error), error);
+        }
+    }
+
+    private static String statementName(ProceedingJoinPoint pjp) {
+        String method = pjp.getSignature().getName();
+        Class<?>[] interfaces = AopProxyUtils.proxiedUserInterfaces(pjp.getThis());
+        for (Class<?> type : interfaces) {
+            if (org.springframework.data.repository.Repository.class.isAssignableFrom(type)) {
+                return type.getSimpleName() + "." + method;
+            }
+        }
+        return pjp.getSignature().getDeclaringType().getSimpleName() + "." + method;
+    }
+
+    private static int rows(Object result, boolean error) {
+        if (error) return -1;
+        if (result == null) return 0;
+        if (result instanceof Collection<?> c) return c.size();
+        if (result instanceof Slice<?> s) return s.getNumberOfElements();
+        if (result instanceof Optional<?> o) return o.isPresent() ? 1 : 0;
+        return 1;
+    }
+}
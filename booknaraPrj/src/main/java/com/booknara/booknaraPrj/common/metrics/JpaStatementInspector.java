@@ -0,0 +1,51 @@
+package com.booknara.booknaraPrj.common.metrics;
+
+import com.booknara.booknaraPrj.common.perf.RequestTrace;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * [JpaStatementInspector]
+ * Hibernate 가 실제로 준비(prepare)하는 SQL 을 셉니다.
+ * - repository 호출 1번이 연관 엔티티 지연 로딩으로 SQL 여러 개가 되는 경우까지 db.jpa.statements 로 드러납니다.
+ * - 요청 기록(QueryTrace)에는 "jpa:테이블" 단위로 합산되어, 같은 테이블 단건 조회가 반복되면 N+1 로 잡힙니다.
+ * - SQL 은 수정하지 않고 그대로 반환합니다.
+ */
+public class JpaStatementInspector implements StatementInspector {
+
+    private final QueryMetrics queryMetrics;
+
+    public JpaStatementInspector(QueryMetrics queryMetrics) {
+        this.queryMetrics = queryMetrics;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        queryMetrics.recordJpaStatement();
+        RequestTrace.addStatement();
+
+        QueryTrace trace = QueryTrace.current();
+        if (trace != null) trace.count("jpa:" + table(sql));
+        return sql;
+    }
+
+    /** select ... from book_isbn b1_0 where ... → book_isbn (찾지 못하면 명령어) */
+    private static String table(String sql) {
+        String lower = sql.toLowerCase();
+        int from = lower.indexOf(" from ");
+        int start;
+        if (from >= 0) {
+            start = from + 6;
+        } else if (lower.startsWith("update ")) {
+            start = 7;
+        } else if (lower.startsWith("insert into ")) {
+            start = 12;
+        } else {
+            int sp = lower.indexOf(' ');
+            return sp < 0 ? lower : lower.substring(0, sp);
+        }
+
+        int end = start;
+        while (end < lower.length() && !Character.isWhitespace(lower.charAt(end)) && lower.charAt(end) != '(') end++;
+        return lower.substring(start, end);
+    }
+}
@@ -0,0 +1,71 @@
+package com.booknara.booknaraPrj.common.metrics;
+
+import com.booknara.booknaraPrj.common.perf.RequestTrace;
+import lombok.RequiredArgsConstructor;
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+
+import java.util.List;
+
+/**
+ * [MyBatisMetricsInterceptor]
+ * 모든 MyBatis statement 실행을 QueryMetrics 에 기록하는 Executor 플러그인입니다.
+ * - statement 이름은 매퍼 id 의 마지막 두 토막 (예: BookSearchMapper.searchBooks)
+ * - 행 수: SELECT 는 결과 List 크기 (ResultHandler 스트리밍이면 -1), INSERT/UPDATE/DELETE 는 변경 행 수
+ * - mybatis-spring-boot-starter 가 Interceptor 빈을 자동 등록합니다 (QueryMetricsConfig).
+ */
+@Intercepts({
+        @Signature(type = Executor.class, method = "query",
+                args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}),
+        @Signature(type = Executor.class, method = "query",
+                args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class, CacheKey.class, BoundSql.class}),
+        @Signature(type = Executor.class, method = "update",
+                args = {MappedStatement.class, Object.class})
+})
+@RequiredArgsConstructor
+public class MyBatisMetricsInterceptor implements Interceptor {
+
+    private final QueryMetrics queryMetrics;
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        MappedStatement ms = (MappedStatement) invocation.getArgs()[0];
+        String statement = shortId(ms.getId());
+
+        long start = System.nanoTime();
+        Object result = null;
+        boolean error = true;
+        try {
+            result = invocation.proceed();
+            error = false;
+            return result;
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            RequestTrace.addDb(elapsed, 1);
+            boolean streamed = invocation.getArgs().length > 3 && invocation.getArgs()[3] != null;
+            queryMetrics.record("mybatis", statement, elapsed, streamed ? -1 : rows(result), error);
+        }
+    }
+
+    private static int rows(Object result) {
+        if (result instanceof List<?> list) return list.size();
+        if (result instanceof Integer n) return n;
+        return -1;
+    }
+
+    /** com.booknara...BookSearchMapper.searchBooks → BookSearchMapper.searchBooks */
+    static String shortId(String id) {
+        int last = id.lastIndexOf('.');
+        if (last <= 0) return id;
+        int prev = id.lastIndexOf('.', last - 1);
+        return prev < 0 ? id : id.substring(prev + 1);
+    }
+}
@@ -0,0 +1,125 @@
+package com.booknara.booknaraPrj.common.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * [QueryMetrics]
+ * MyBatis statement / JPA repository 메서드 단위 쿼리 지표를 Micrometer 로 기록합니다.
+ * - db.query (Timer, 고정 버킷 히스토그램) : 지연 시간 + 호출 수 — tag: statement, kind(mybatis/jpa), endpoint, outcome
+ * - db.query.rows (Summary)              : 반환/변경 행 수
+ * - db.query.repeated (Counter)          : 한 요청 안에서 같은 statement 가 repeat-threshold 회 이상 실행된 요청 수 (N+1 의심)
+ * - endpoint 는 "GET /book/search" 처럼 매핑 패턴 기준이라 경로 변수로 태그가 늘어나지 않습니다.
+ * - Prometheus: /actuator/prometheus (management.endpoints.web.exposure.include 에 prometheus 추가 필요)
+ */
+@Component
+@Slf4j
+public class QueryMetrics {
+
+    static final String NO_ENDPOINT = "background";
+    static final String FILTER_ENDPOINT = "filter";
+
+    private static final Duration[] LATENCY_BUCKETS = {
+            Duration.ofMillis(1), Duration.ofMillis(5), Duration.ofMillis(10), Duration.ofMillis(25),
+            Duration.ofMillis(50), Duration.ofMillis(100), Duration.ofMillis(250), Duration.ofMillis(500),
+            Duration.ofSeconds(1), Duration.ofSeconds(3)
+    };
+    private static final double[] ROW_BUCKETS = {0, 1, 10, 100, 1_000, 10_000};
+
+    private final MeterRegistry registry;
+    private final int repeatThreshold;
+
+    // Meter 조회 비용을 줄이기 위한 캐시 (statement × endpoint 조합 수만큼)
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+    private final Map<String, DistributionSummary> rowSummaries = new ConcurrentHashMap<>();
+
+    public QueryMetrics(MeterRegistry registry,
+                        @Value("${metrics.query.repeat-threshold:10}") int repeatThreshold) {
+        this.registry = registry;
+        this.repeatThreshold = Math.max(2, repeatThreshold);
+    }
+
+    /**
+     * 쿼리 1회 기록
+     * @param rows 조회 행 수 / 변경 행 수 (알 수 없으면 -1)
+     */
+    void record(String kind, String statement, long nanos, int rows, boolean error) {
+        String endpoint = currentEndpoint();
+        String outcome = error ? "error" : "success";
+
+        timers.computeIfAbsent(kind + '|' + statement + '|' + endpoint + '|' + outcome,
+                k -> Timer.builder("db.query")
+                        .description("MyBatis statement / JPA repository 호출 시간")
+                        .tag("kind", kind)
+                        .tag("statement", statement)
+                        .tag("endpoint", endpoint)
+                        .tag("outcome", outcome)
+                        .serviceLevelObjectives(LATENCY_BUCKETS)
+                        .register(registry))
+                .record(nanos, TimeUnit.NANOSECONDS);
+
+        if (rows >= 0) {
+            rowSummaries.computeIfAbsent(kind + '|' + statement + '|' + endpoint,
+                    k -> DistributionSummary.builder("db.query.rows")
+                            .description("조회/변경 행 수")
+                            .tag("kind", kind)
+                            .tag("statement", statement)
+                            .tag("endpoint", endpoint)
+                            .serviceLevelObjectives(ROW_BUCKETS)
+                            .register(registry))
+                    .record(rows);
+        }
+
+        QueryTrace trace = QueryTrace.current();
+        if (trace != null) trace.count(statement);
+    }
+
+    /** Hibernate 가 실제로 보낸 SQL 수 (repository 밖의 지연 로딩 포함) */
+    void recordJpaStatement() {
+        registry.counter("db.jpa.statements", "endpoint", currentEndpoint()).increment();
+    }
+
+    // =========================
+    // 요청 단위 기록 (N+1 감지)
+    // =========================
+
+    boolean beginTrace(String endpoint) {
+        return QueryTrace.begin(endpoint);
+    }
+
+    void endTrace() {
+        QueryTrace trace = QueryTrace.end();
+        if (trace == null) return;
+
+        for (Map.Entry<String, Integer> e : trace.counts.entrySet()) {
+            if (e.getValue() < repeatThreshold) continue;
+
+            Counter.builder("db.query.repeated")
+                    .description("같은 statement 가 한 요청에서 반복 실행된 요청 수 (N+1 의심)")
+                    .tag("statement", e.getKey())
+                    .tag("endpoint", trace.endpoint)
+                    .register(registry)
+                    .increment();
+            log.warn("repeated query (N+1?) endpoint=[{}] statement={} count={}", trace.endpoint, e.getKey(), e.getValue());
+        }
+    }
+
+    private static String currentEndpoint() {
+        QueryTrace trace = QueryTrace.current();
+        if (trace != null) return trace.endpoint;
+        // 요청 스레드지만 핸들러 진입 전(시큐리티 필터 등)
+        if (RequestContextHolder.getRequestAttributes() != null) return FILTER_ENDPOINT;
+        return NO_ENDPOINT;
+    }
+}
@@ -0,0 +1,82 @@
+package com.booknara.booknaraPrj.common.metrics;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * [QueryMetricsConfig]
+ * 쿼리 지표 수집 구성요소를 등록합니다.
+ * - MyBatis Executor 플러그인 / JPA repository 애스펙트 / Hibernate StatementInspector / @Scheduled 애스펙트
+ * - 요청 단위 기록: 핸들러 진입 시 "GET /book/search" 형태의 endpoint 로 QueryTrace 를 열고, 완료 후 닫으며 N+1 을 집계합니다.
+ * - 비동기 요청(SseEmitter 등)은 afterCompletion 이 호출되지 않으므로 비동기 처리 시작 시점에 닫습니다.
+ *   (닫지 않으면 Tomcat 워커 스레드에 trace 가 남아 이후 요청이 모두 같은 endpoint 로 집계됨)
+ */
+@Configuration
+@RequiredArgsConstructor
+public class QueryMetricsConfig implements WebMvcConfigurer {
+
+    private static final String TRACE_OWNER = QueryMetricsConfig.class.getName() + ".TRACE_OWNER";
+
+    private final QueryMetrics queryMetrics;
+
+    @Bean
+    public MyBatisMetricsInterceptor myBatisMetricsInterceptor() {
+        return new MyBatisMetricsInterceptor(queryMetrics);
+    }
+
+    @Bean
+    public JpaRepositoryMetricsAspect jpaRepositoryMetricsAspect() {
+        return new JpaRepositoryMetricsAspect(queryMetrics);
+    }
+
+    @Bean
+    public ScheduledQueryTraceAspect scheduledQueryTraceAspect() {
+        return new ScheduledQueryTraceAspect(queryMetrics);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer queryMetricsStatementInspector() {
+        JpaStatementInspector inspector = new JpaStatementInspector(queryMetrics);
+        return props -> props.put(AvailableSettings.STATEMENT_INSPECTOR, inspector);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new AsyncHandlerInterceptor() {
+            @Override
+            public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+                Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+                String endpoint = request.getMethod() + " " + (pattern != null ? pattern : "unmapped");
+                request.setAttribute(TRACE_OWNER, queryMetrics.beginTrace(endpoint));
+                return true;
+            }
+
+            @Override
+            public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+                endIfOwner(request);
+            }
+
+            @Override
+            public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+                // 비동기 시작 후 워커 스레드는 풀로 돌아감 → 여기서 닫지 않으면 다음 요청에 trace 가 새어 나감
+                endIfOwner(request);
+            }
+
+            private void endIfOwner(HttpServletRequest request) {
+                if (Boolean.TRUE.equals(request.getAttribute(TRACE_OWNER))) {
+                    request.removeAttribute(TRACE_OWNER);
+                    queryMetrics.endTrace();
+                }
+            }
+        }).excludePathPatterns("/css/**", "/js/**", "/images/**", "/covers/**", "/uploads/**", "/favicon.ico");
+    }
+}
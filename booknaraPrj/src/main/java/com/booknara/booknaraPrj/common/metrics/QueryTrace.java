@@ -0,0 +1,43 @@
+package com.booknara.booknaraPrj.common.metrics;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * [QueryTrace]
+ * 요청(또는 스케줄 작업) 1건 동안 실행된 쿼리를 statement 별로 세는 스레드 범위 기록입니다.
+ * - begin()/end() 는 QueryMetricsConfig 의 HandlerInterceptor 와 ScheduledQueryTraceAspect 가 호출합니다.
+ * - end() 시 QueryMetrics 가 같은 statement 가 반복 실행된 경우(N+1)를 집계합니다.
+ */
+final class QueryTrace {
+
+    private static final ThreadLocal<QueryTrace> CURRENT = new ThreadLocal<>();
+
+    final String endpoint;
+    final Map<String, Integer> counts = new HashMap<>();
+
+    private QueryTrace(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    /** 이미 진행 중인 기록이 있으면 false (중첩 호출은 바깥 기록에 합산) */
+    static boolean begin(String endpoint) {
+        if (CURRENT.get() != null) return false;
+        CURRENT.set(new QueryTrace(endpoint));
+        return true;
+    }
+
+    static QueryTrace end() {
+        QueryTrace trace = CURRENT.get();
+        CURRENT.remove();
+        return trace;
+    }
+
+    static QueryTrace current() {
+        return CURRENT.get();
+    }
+
+    void count(String statement) {
+        counts.merge(statement, 1, Integer::sum);
+    }
+}
@@ -0,0 +1,32 @@
+package com.booknara.booknaraPrj.common.metrics;
+
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+
+/**
+ * [ScheduledQueryTraceAspect]
+ * @Scheduled 작업 1회 실행을 하나의 요청처럼 기록합니다.
+ * - endpoint 태그: "scheduled DeliveryAutoScheduler.autoFillDeliverySteps" 형태
+ * - 작업 안에서 같은 statement 가 반복되면(예: 배송 건마다 사용자 조회) db.query.repeated 로 집계됩니다.
+ */
+@Aspect
+@RequiredArgsConstructor
+public class ScheduledQueryTraceAspect {
+
+    private final QueryMetrics queryMetrics;
+
+    @Around("@annotation(org.springframework.scheduling.annotation.Scheduled)")
+    public Object around(ProceedingJoinPoint pjp) throws Throwable {
+        String name = "scheduled " + pjp.getSignature().getDeclaringType().getSimpleName()
+                + "." + pjp.getSignature().getName();
+
+        boolean owner = queryMetrics.beginTrace(name);
+        try {
+            return pjp.proceed();
+        } finally {
+            if (owner) queryMetrics.endTrace();
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.booknara.booknaraPrj.common.perf;
+
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+
+/**
+ * [ExternalHttpTraceInterceptor]
+ * RestClient 외부 호출 시간을 요청 기록(RequestTrace)에 더합니다.
+ * - 각 클라이언트의 RestClient.builder().requestInterceptor(ExternalHttpTraceInterceptor.INSTANCE) 로 등록
+ * - 응답 본문을 읽는 시간은 포함되지 않습니다. (헤더 수신까지)
+ */
+public final class ExternalHttpTraceInterceptor implements ClientHttpRequestInterceptor {
+
+    public static final ExternalHttpTraceInterceptor INSTANCE = new ExternalHttpTraceInterceptor();
+
+    private ExternalHttpTraceInterceptor() {
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        long start = System.nanoTime();
+        try {
+            return execution.execute(request, body);
+        } finally {
+            RequestTrace.addHttp(System.nanoTime() - start);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.booknara.booknaraPrj.common.perf;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+/**
+ * [ModelAdviceTraceAspect]
+ * 모든 요청에서 실행되는 @ControllerAdvice 의 @ModelAttribute 메서드 시간을 요청 기록에 더합니다.
+ * - 예: GlobalModelAdvice.addMyPageSidebarAttributes 가 JSON 요청에서도 비용을 쓰는지 /admin/perf/traces 로 확인
+ */
+@Aspect
+@Component
+public class ModelAdviceTraceAspect {
+
+    @Around("@within(org.springframework.web.bind.annotation.ControllerAdvice)"
+            + " && @annotation(org.springframework.web.bind.annotation.ModelAttribute)")
+    public Object around(ProceedingJoinPoint pjp) throws Throwable {
+        long start = System.nanoTime();
+        try {
+            return pjp.proceed();
+        } finally {
+            RequestTrace.addAdvice(pjp.getSignature().getDeclaringType().getSimpleName()
+                    + "." + pjp.getSignature().getName(), System.nanoTime() - start);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.booknara.booknaraPrj.common.perf;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * [PerfBudgetProperties]
+ * 설정 파일의 'perf.budget' 경로 값을 바인딩하는 요청 성능 예산 설정
+ * - 예: perf.budget.routes.[/book/search]=300 (키는 매핑 패턴, '/' 가 들어가므로 대괄호 표기)
+ */
+@Data
+@ConfigurationProperties(prefix = "perf.budget")
+public class PerfBudgetProperties {
+
+    /** false 면 필터가 아무것도 기록하지 않음 */
+    private boolean enabled = true;
+
+    /** routes 에 없는 요청의 기본 예산 (ms) */
+    private long defaultMs = 800;
+
+    /** 매핑 패턴별 예산 (ms) */
+    private Map<String, Long> routes = new HashMap<>();
+
+    /** 예산 안의 요청을 링 버퍼에 남길 비율 (0~1) */
+    private double sampleRate = 0.01;
+
+    /** 링 버퍼 크기 */
+    private int bufferSize = 500;
+
+    long budgetOf(String route) {
+        return routes.getOrDefault(route, defaultMs);
+    }
+}
@@ -0,0 +1,63 @@
+package com.booknara.booknaraPrj.common.perf;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * [RequestTrace]
+ * HTTP 요청 1건의 시간 구성(DB / 외부 HTTP / @ControllerAdvice)을 모으는 스레드 범위 기록입니다.
+ * - RequestTraceFilter 가 열고 닫으며, 요청 스레드가 아닌 곳(스케줄러, 비동기 워커)에서는 모든 add* 가 무시됩니다.
+ * - DB 시간: MyBatis statement + JPA repository 호출 시간 (repository 밖 지연 로딩 SQL 은 건수만 집계)
+ */
+public final class RequestTrace {
+
+    private static final ThreadLocal<RequestTrace> CURRENT = new ThreadLocal<>();
+
+    final long startNanos = System.nanoTime();
+    long dbNanos;
+    int dbStatements;
+    long httpNanos;
+    int httpCalls;
+    final Map<String, Long> adviceNanos = new LinkedHashMap<>();
+
+    private RequestTrace() {
+    }
+
+    static RequestTrace begin() {
+        RequestTrace trace = new RequestTrace();
+        CURRENT.set(trace);
+        return trace;
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    /** DB 호출 시간 (statements: 이 호출로 실행된 SQL 수, 모르면 0) */
+    public static void addDb(long nanos, int statements) {
+        RequestTrace trace = CURRENT.get();
+        if (trace == null) return;
+        trace.dbNanos += nanos;
+        trace.dbStatements += statements;
+    }
+
+    /** 시간은 다른 곳에서 잰 SQL 건수만 추가 (JPA 지연 로딩 등) */
+    public static void addStatement() {
+        RequestTrace trace = CURRENT.get();
+        if (trace != null) trace.dbStatements++;
+    }
+
+    /** 외부 HTTP 호출 1회 */
+    public static void addHttp(long nanos) {
+        RequestTrace trace = CURRENT.get();
+        if (trace == null) return;
+        trace.httpNanos += nanos;
+        trace.httpCalls++;
+    }
+
+    /** @ControllerAdvice @ModelAttribute 메서드 1회 */
+    static void addAdvice(String name, long nanos) {
+        RequestTrace trace = CURRENT.get();
+        if (trace != null) trace.adviceNanos.merge(name, nanos, Long::sum);
+    }
+}
@@ -0,0 +1,48 @@
+package com.booknara.booknaraPrj.common.perf;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * [RequestTraceBuffer]
+ * 최근 요청 기록을 고정 크기 링 버퍼에 보관합니다. (가득 차면 가장 오래된 기록을 덮어씀)
+ * - 예산 초과 요청은 항상, 나머지는 sample-rate 비율로만 들어옵니다. (RequestTraceFilter)
+ * - 관리자 화면 /admin/perf/traces 에서 최신순으로 조회합니다.
+ */
+@Component
+public class RequestTraceBuffer {
+
+    private final RequestTraceRecord[] ring;
+    private int next;
+    private long written;
+
+    public RequestTraceBuffer(PerfBudgetProperties properties) {
+        this.ring = new RequestTraceRecord[Math.max(1, properties.getBufferSize())];
+    }
+
+    public synchronized void add(RequestTraceRecord record) {
+        ring[next] = record;
+        next = (next + 1) % ring.length;
+        written++;
+    }
+
+    /**
+     * 최신순 조회
+     * @param breachedOnly true 면 예산 초과 기록만
+     * @param route        null 이 아니면 해당 route 만
+     */
+    public synchronized List<RequestTraceRecord> recent(boolean breachedOnly, String route, int limit) {
+        int size = (int) Math.min(written, ring.length);
+        List<RequestTraceRecord> result = new ArrayList<>(Math.min(size, limit));
+
+        for (int i = 1; i <= size && result.size() < limit; i++) {
+            RequestTraceRecord r = ring[(next - i + ring.length) % ring.length];
+            if (breachedOnly && !r.breached()) continue;
+            if (route != null && !route.equals(r.route())) continue;
+            result.add(r);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,104 @@
+package com.booknara.booknaraPrj.common.perf;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * [RequestTraceFilter]
+ * 요청마다 전체 시간 / DB 시간·SQL 수 / 외부 HTTP 시간 / @ControllerAdvice 비용을 기록합니다.
+ * - 시큐리티 필터보다 먼저 실행되어 인증 단계의 DB 조회까지 포함합니다.
+ * - route 별 예산(perf.budget.*)을 넘으면 구성 내역을 경고 로그로 남기고 링 버퍼에 보관합니다.
+ * - 예산 안의 요청은 sample-rate 비율로만 링 버퍼에 남깁니다.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@RequiredArgsConstructor
+@Slf4j
+public class RequestTraceFilter extends OncePerRequestFilter {
+
+    private final PerfBudgetProperties properties;
+    private final RequestTraceBuffer buffer;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!properties.isEnabled()) return true;
+        String uri = request.getRequestURI();
+        // 정적 리소스는 제외
+        return uri.startsWith("/css/") || uri.startsWith("/js/") || uri.startsWith("/images/")
+                || uri.startsWith("/img/") || uri.equals("/favicon.ico");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        RequestTrace trace = RequestTrace.begin();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            RequestTrace.end();
+            finish(trace, request, response);
+        }
+    }
+
+    private void finish(RequestTrace trace, HttpServletRequest request, HttpServletResponse response) {
+        long totalNanos = System.nanoTime() - trace.startNanos;
+
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String route = pattern != null ? pattern.toString() : request.getRequestURI();
+        long budgetMs = properties.budgetOf(route);
+        boolean breached = totalNanos > budgetMs * 1_000_000L;
+
+        if (!breached && ThreadLocalRandom.current().nextDouble() >= properties.getSampleRate()) return;
+
+        // 1) 기록 생성
+        Map<String, Double> advice = new LinkedHashMap<>();
+        long adviceNanos = 0;
+        for (Map.Entry<String, Long> e : trace.adviceNanos.entrySet()) {
+            advice.put(e.getKey(), ms(e.getValue()));
+            adviceNanos += e.getValue();
+        }
+
+        RequestTraceRecord record = new RequestTraceRecord(
+                LocalDateTime.now(),
+                request.getMethod(),
+                route,
+                request.getRequestURI(),
+                response.getStatus(),
+                ms(totalNanos),
+                ms(trace.dbNanos),
+                trace.dbStatements,
+                ms(trace.httpNanos),
+                trace.httpCalls,
+                ms(adviceNanos),
+                advice,
+                budgetMs,
+                breached
+        );
+
+        // 2) 보관 + 초과 로그
+        buffer.add(record);
+        if (breached) {
+            log.warn("perf budget exceeded: {}", record.breakdown());
+        }
+    }
+
+    /** ns → ms (소수 첫째 자리) */
+    private static double ms(long nanos) {
+        return Math.round(nanos / 100_000.0) / 10.0;
+    }
+}
@@ -0,0 +1,34 @@
+package com.booknara.booknaraPrj.common.perf;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * [RequestTraceRecord]
+ * 링 버퍼에 보관되는 요청 1건의 성능 요약입니다. (시간 단위: ms)
+ * - route 는 매핑 패턴(예: /book/detail/{isbn13}), 매핑되지 않은 요청은 실제 URI
+ * - advice 는 "클래스.메서드" → 소요 시간
+ */
+public record RequestTraceRecord(
+        LocalDateTime at,
+        String method,
+        String route,
+        String uri,
+        int status,
+        double totalMs,
+        double dbMs,
+        int dbStatements,
+        double httpMs,
+        int httpCalls,
+        double adviceMs,
+        Map<String, Double> advice,
+        long budgetMs,
+        boolean breached
+) {
+
+    /** 로그 한 줄 요약 */
+    String breakdown() {
+        return String.format("%s %s status=%d total=%.1fms (budget %dms) db=%.1fms/%d stmts http=%.1fms/%d calls advice=%.1fms %s",
+                method, route, status, totalMs, budgetMs, dbMs, dbStatements, httpMs, httpCalls, adviceMs, advice);
+    }
+}
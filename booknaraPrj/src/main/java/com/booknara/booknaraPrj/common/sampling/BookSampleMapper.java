@@ -0,0 +1,22 @@
+package com.booknara.booknaraPrj.common.sampling;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.session.ResultHandler;
+
+import java.util.List;
+
+@Mapper
+public interface BookSampleMapper {
+
+    /** BOOK_ISBN 전체를 한 행씩 스트리밍 (80만 건을 DTO 리스트로 만들지 않음) */
+    void scanBooks(ResultHandler<BookSampleRowDTO> handler);
+
+    /** 장르 트리 (GENRE_ID, PARENT_ID) */
+    List<BookSampleRowDTO> selectGenreTree();
+
+    /** 검증용: 장르 테이블과 JOIN 되는 도서 수 (기존 말랑 pick 대상) */
+    long countGenreBooks();
+
+    /** 검증용: 종이책 수 (기존 관리자 랜덤 추천 대상) */
+    long countPaperBooks();
+}
@@ -0,0 +1,15 @@
+package com.booknara.booknaraPrj.common.sampling;
+
+import lombok.Data;
+
+/**
+ * [BookSampleRowDTO]
+ * 표본 인덱스 적재용 BOOK_ISBN / GENRE 한 행
+ */
+@Data
+public class BookSampleRowDTO {
+    private String isbn13;
+    private Integer genreId;
+    private Integer parentId;   // GENRE 적재 시에만 사용
+    private String ebookYn;
+}
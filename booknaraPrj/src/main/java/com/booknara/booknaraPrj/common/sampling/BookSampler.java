@@ -0,0 +1,320 @@
+package com.booknara.booknaraPrj.common.sampling;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * [BookSampler]
+ * BOOK_ISBN 무작위 표본 추출용 메모리 인덱스입니다.
+ * - ISBN13 을 long 으로 바꿔 장르별로 이어 붙인 long[] 하나에 보관하고, 장르마다 [시작, 끝) 구간만 기억합니다.
+ * - 숫자로 바꿀 수 없는 ISBN(전자책 'xxx_e', 앞자리 0 등)은 별도 String[]에 두고 long[]에는 음수 참조(-(index + 1))로 넣습니다.
+ * - 장르가 없는 도서도 종이책 표본(관리자 랜덤 추천) 대상이므로 장르 구간 밖 별도 구간에 보관합니다.
+ * - 표본은 Floyd 알고리즘으로 서로 다른 위치 k개를 O(k)에 뽑습니다 (ORDER BY RAND() / OFFSET 스캔 없음).
+ * - 장르 하위 트리는 구간 목록으로 한 번 계산해 캐시하고, 여러 구간을 하나의 연속 범위처럼 추출합니다.
+ * - 스냅샷은 기동 시와 배치 Merge(TempMergeService.mergeLoop) 후 통째로 교체합니다.
+ * - 기동 시 1회만 기존 쿼리 기준 건수(장르 JOIN 전체 / 종이책 전체)와 인덱스 건수를 비교해 어긋나면 경고합니다.
+ *   (COUNT 두 번이 전체 스캔이므로 Merge 후 재구성마다 돌리지 않음)
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class BookSampler {
+
+    private final BookSampleMapper mapper;
+
+    private volatile Snapshot snapshot;
+
+    // 최초 적재(전체 스캔)를 한 번만 수행 (락 안에서 DB를 읽으므로 synchronized 대신 ReentrantLock — 가상 스레드 carrier 고정 방지)
+    private final ReentrantLock loadLock = new ReentrantLock();
+
+    /** 장르 하위 트리의 구간 목록 (starts[i] ~ starts[i] + lens[i]), cumulative 는 앞 구간 길이 합 */
+    private record Ranges(int[] starts, int[] cumulative, int total) {
+        static final Ranges EMPTY = new Ranges(new int[0], new int[0], 0);
+
+        /** 합친 범위에서의 위치 → 원본 배열 위치 */
+        int resolve(int pos) {
+            int i = Arrays.binarySearch(cumulative, pos);
+            if (i < 0) i = -i - 2; // pos 가 속한 구간 (cumulative[i] <= pos)
+            return starts[i] + (pos - cumulative[i]);
+        }
+    }
+
+    private static final class Snapshot {
+        final long[] isbns;                       // 장르별로 이어 붙인 ISBN13 (음수면 others 참조)
+        final String[] others;                    // 숫자가 아닌 ISBN13
+        final Map<Integer, int[]> genreRanges;    // genreId → {start, end}
+        final Map<Integer, int[]> children;       // genreId → 하위 genreId
+        final int[] paperPositions;               // 종이책(EBOOK_YN = 'N') 위치
+        final Map<Integer, Ranges> subtreeCache = new ConcurrentHashMap<>();
+
+        Snapshot(long[] isbns, String[] others, Map<Integer, int[]> genreRanges, Map<Integer, int[]> children,
+                 int[] paperPositions) {
+            this.isbns = isbns;
+            this.others = others;
+            this.genreRanges = genreRanges;
+            this.children = children;
+            this.paperPositions = paperPositions;
+        }
+
+        String isbnAt(int pos) {
+            long v = isbns[pos];
+            return v >= 0 ? Long.toString(v) : others[(int) (-v - 1)];
+        }
+    }
+
+    // =========================
+    // 표본 추출
+    // =========================
+
+    /**
+     * 장르 하위 트리(자기 자신 포함)에서 서로 다른 도서 k권
+     * @return ISBN13 목록 (도서가 k권보다 적으면 전부)
+     */
+    public List<String> sampleByGenre(int genreId, int k) {
+        Snapshot s = current();
+        Ranges ranges = s.subtreeCache.computeIfAbsent(genreId, id -> subtreeRanges(s, id));
+
+        List<String> result = new ArrayList<>(Math.min(k, ranges.total()));
+        for (int pos : pickDistinct(ranges.total(), k)) {
+            result.add(s.isbnAt(ranges.resolve(pos)));
+        }
+        return result;
+    }
+
+    /** 종이책 전체에서 서로 다른 도서 k권 */
+    public List<String> samplePaperBooks(int k) {
+        Snapshot s = current();
+
+        List<String> result = new ArrayList<>(Math.min(k, s.paperPositions.length));
+        for (int pos : pickDistinct(s.paperPositions.length, k)) {
+            result.add(s.isbnAt(s.paperPositions[pos]));
+        }
+        return result;
+    }
+
+    // =========================
+    // 재구성
+    // =========================
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            rebuild(true);
+        } catch (Exception e) {
+            // 첫 추출 때 다시 시도
+            log.warn("book sampler warm-up failed. msg={}", e.getMessage());
+        }
+    }
+
+    /** BOOK_ISBN 전체를 1회 스캔해 스냅샷 교체 */
+    public void rebuild() {
+        rebuild(false);
+    }
+
+    private void rebuild(boolean verify) {
+        long start = System.currentTimeMillis();
+
+        // 1) 장르별로 ISBN / 종이책 여부 모으기 (장르 없음은 null 키 → 장르 구간에는 넣지 않음)
+        Map<Integer, LongList> byGenre = new HashMap<>();
+        Map<Integer, LongList> paperByGenre = new HashMap<>(); // 장르 내 상대 위치
+        List<String> others = new ArrayList<>();
+        int[] skipped = {0};
+
+        mapper.scanBooks(ctx -> {
+            BookSampleRowDTO row = ctx.getResultObject();
+            if (row.getIsbn13() == null) {
+                skipped[0]++;
+                return;
+            }
+            long isbn = toLong(row.getIsbn13());
+            if (isbn < 0) {
+                others.add(row.getIsbn13());
+                isbn = -others.size(); // -(index + 1)
+            }
+            LongList list = byGenre.computeIfAbsent(row.getGenreId(), g -> new LongList());
+            if ("N".equals(row.getEbookYn())) {
+                paperByGenre.computeIfAbsent(row.getGenreId(), g -> new LongList()).add(list.size);
+            }
+            list.add(isbn);
+        });
+
+        // 2) 하나의 배열로 이어 붙이고 장르 구간 기록
+        int total = 0, paperTotal = 0;
+        for (Map.Entry<Integer, LongList> e : byGenre.entrySet()) {
+            total += e.getValue().size;
+            LongList paper = paperByGenre.get(e.getKey());
+            if (paper != null) paperTotal += paper.size;
+        }
+
+        long[] isbns = new long[total];
+        int[] paperPositions = new int[paperTotal];
+        Map<Integer, int[]> genreRanges = new HashMap<>(byGenre.size() * 2);
+
+        int offset = 0, p = 0;
+        for (Map.Entry<Integer, LongList> e : byGenre.entrySet()) {
+            LongList list = e.getValue();
+            System.arraycopy(list.values, 0, isbns, offset, list.size);
+            if (e.getKey() != null) genreRanges.put(e.getKey(), new int[]{offset, offset + list.size});
+
+            LongList paper = paperByGenre.get(e.getKey());
+            if (paper != null) {
+                for (int i = 0; i < paper.size; i++) paperPositions[p++] = offset + (int) paper.values[i];
+            }
+            offset += list.size;
+        }
+
+        // 3) 장르 트리
+        Map<Integer, List<Integer>> childLists = new HashMap<>();
+        Set<Integer> genreIds = new HashSet<>();
+        for (BookSampleRowDTO g : mapper.selectGenreTree()) {
+            if (g.getGenreId() == null) continue;
+            genreIds.add(g.getGenreId());
+            if (g.getParentId() == null) continue;
+            childLists.computeIfAbsent(g.getParentId(), k -> new ArrayList<>()).add(g.getGenreId());
+        }
+        Map<Integer, int[]> children = new HashMap<>(childLists.size() * 2);
+        childLists.forEach((parent, list) -> children.put(parent, list.stream().mapToInt(Integer::intValue).toArray()));
+
+        snapshot = new Snapshot(isbns, others.toArray(new String[0]), genreRanges, children, paperPositions);
+        log.info("book sampler rebuilt. books={} paper={} nonNumeric={} genres={} skipped={} elapsedMs={}",
+                total, paperTotal, others.size(), genreRanges.size(), skipped[0], System.currentTimeMillis() - start);
+
+        if (verify) verifyUniverse(genreRanges, genreIds, paperTotal);
+    }
+
+    /**
+     * 표본 대상이 기존 쿼리와 같은지 확인
+     * - 말랑 pick: BOOK_ISBN JOIN GENRE (장르 테이블에 있는 장르의 도서 전체)
+     * - 관리자 랜덤 추천: BOOK_ISBN WHERE EBOOK_YN = 'N'
+     * 재구성 중 Merge/수동 등록이 끼면 몇 건 차이는 날 수 있으므로 실패 대신 경고만 남깁니다.
+     * 기동 시(warmUp)에만 호출합니다.
+     */
+    private void verifyUniverse(Map<Integer, int[]> genreRanges, Set<Integer> genreIds, int paperTotal) {
+        long indexedGenreBooks = 0;
+        for (Map.Entry<Integer, int[]> e : genreRanges.entrySet()) {
+            if (genreIds.contains(e.getKey())) indexedGenreBooks += e.getValue()[1] - e.getValue()[0];
+        }
+        long expectedGenreBooks = mapper.countGenreBooks();
+        long expectedPaperBooks = mapper.countPaperBooks();
+
+        if (indexedGenreBooks != expectedGenreBooks || paperTotal != expectedPaperBooks) {
+            log.warn("book sampler universe mismatch. genreBooks={} (query {}) paper={} (query {})",
+                    indexedGenreBooks, expectedGenreBooks, paperTotal, expectedPaperBooks);
+        }
+    }
+
+    // =========================
+    // 내부 유틸
+    // =========================
+
+    private Snapshot current() {
+        Snapshot s = snapshot;
+        if (s != null) return s;
+        loadLock.lock();
+        try {
+            if (snapshot == null) rebuild();
+            return snapshot;
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    /** genreId 와 모든 하위 장르의 구간 (순환 데이터 방어) */
+    private static Ranges subtreeRanges(Snapshot s, int genreId) {
+        List<int[]> ranges = new ArrayList<>();
+        Set<Integer> visited = new HashSet<>();
+        Deque<Integer> stack = new ArrayDeque<>();
+        stack.push(genreId);
+
+        while (!stack.isEmpty()) {
+            int id = stack.pop();
+            if (!visited.add(id)) continue;
+
+            int[] range = s.genreRanges.get(id);
+            if (range != null && range[1] > range[0]) ranges.add(range);
+
+            int[] kids = s.children.get(id);
+            if (kids != null) for (int kid : kids) stack.push(kid);
+        }
+        if (ranges.isEmpty()) return Ranges.EMPTY;
+
+        int[] starts = new int[ranges.size()];
+        int[] cumulative = new int[ranges.size()];
+        int total = 0;
+        for (int i = 0; i < ranges.size(); i++) {
+            starts[i] = ranges.get(i)[0];
+            cumulative[i] = total;
+            total += ranges.get(i)[1] - ranges.get(i)[0];
+        }
+        return new Ranges(starts, cumulative, total);
+    }
+
+    /** [0, n) 에서 서로 다른 위치 min(k, n)개 (Floyd 알고리즘, 추출 순서도 무작위) */
+    private static int[] pickDistinct(int n, int k) {
+        int m = Math.min(k, n);
+        if (m <= 0) return new int[0];
+
+        ThreadLocalRandom rnd = ThreadLocalRandom.current();
+        Set<Integer> chosen = new HashSet<>(m * 2);
+        int[] result = new int[m];
+        int idx = 0;
+        for (int j = n - m; j < n; j++) {
+            int t = rnd.nextInt(j + 1);
+            int pick = chosen.add(t) ? t : j;
+            if (pick == j) chosen.add(j);
+            result[idx++] = pick;
+        }
+
+        // Floyd 결과는 뒤쪽 위치가 끝에 몰리므로 순서만 섞음
+        for (int i = m - 1; i > 0; i--) {
+            int r = rnd.nextInt(i + 1);
+            int tmp = result[i];
+            result[i] = result[r];
+            result[r] = tmp;
+        }
+        return result;
+    }
+
+    /** 1~18자리 숫자면 long 값, 아니면 -1 (앞자리 0은 되돌릴 수 없으므로 문자열로 보관) */
+    private static long toLong(String isbn) {
+        if (isbn == null) return -1;
+        int len = isbn.length();
+        if (len == 0 || len > 18) return -1;
+        if (len > 1 && isbn.charAt(0) == '0') return -1;
+
+        long v = 0;
+        for (int i = 0; i < len; i++) {
+            char c = isbn.charAt(i);
+            if (c < '0' || c > '9') return -1;
+            v = v * 10 + (c - '0');
+        }
+        return v;
+    }
+
+    /** 재구성 중에만 쓰는 가변 long 배열 */
+    private static final class LongList {
+        long[] values = new long[16];
+        int size;
+
+        void add(long v) {
+            if (size == values.length) values = Arrays.copyOf(values, size * 2);
+            values[size++] = v;
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.booknara.booknaraPrj.common.supportinbox;
+
+import lombok.Data;
+
+/**
+ * [SupportInboxCountDTO]
+ * SUPPORT_INBOX_COUNT 한 행 ((유형, 상태)별 건수)
+ */
+@Data
+public class SupportInboxCountDTO {
+    private String type;    // INQUIRY / REPORT
+    private String state;   // N / Y
+    private long cnt;
+}
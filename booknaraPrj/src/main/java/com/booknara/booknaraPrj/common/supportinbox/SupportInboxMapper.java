@@ -0,0 +1,40 @@
+package com.booknara.booknaraPrj.common.supportinbox;
+
+import com.booknara.booknaraPrj.admin.inquiry.AdminCombinedSupport;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+
+@Mapper
+public interface SupportInboxMapper {
+
+    // --- 쓰기 ---
+    int upsertInquiry(@Param("inqId") String inqId);
+
+    int upsertReport(@Param("reportId") String reportId);
+
+    String selectStateForUpdate(@Param("totalId") String totalId);
+
+    String selectState(@Param("totalId") String totalId);
+
+    int addCount(@Param("type") String type,
+                 @Param("state") String state,
+                 @Param("delta") int delta);
+
+    // --- 읽기 ---
+    List<SupportInboxCountDTO> selectCounts();
+
+    /** type/state/keyword 는 null 이면 조건 없음 */
+    List<AdminCombinedSupport> selectPage(@Param("type") String type,
+                                          @Param("state") String state,
+                                          @Param("keyword") String keyword,
+                                          @Param("sortField") String sortField,
+                                          @Param("sortDir") String sortDir,
+                                          @Param("size") int size,
+                                          @Param("offset") long offset);
+
+    long countPage(@Param("type") String type,
+                   @Param("state") String state,
+                   @Param("keyword") String keyword);
+}
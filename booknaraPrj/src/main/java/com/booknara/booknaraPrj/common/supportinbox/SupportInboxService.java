@@ -0,0 +1,48 @@
+package com.booknara.booknaraPrj.common.supportinbox;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Objects;
+
+/**
+ * [SupportInboxService]
+ * 문의(INQUIRY) / 신고(REPORT) 가 생성·변경될 때 관리자 통합 수신함(SUPPORT_INBOX)에 반영합니다.
+ * - 원본 1건을 PK로 읽어 수신함 행을 upsert (기존 VIEW_COMBINED_SUPPORT 의 UNION 재계산 제거)
+ * - 상태가 바뀐 경우에만 SUPPORT_INBOX_COUNT 의 (유형, 상태) 건수를 ±1 합니다.
+ * - 원본 쓰기와 같은 트랜잭션에서 호출되어야 하며, JPA 로 저장한 경우 먼저 flush 되어 있어야 합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class SupportInboxService {
+
+    public static final String TYPE_INQUIRY = "INQUIRY";
+    public static final String TYPE_REPORT = "REPORT";
+
+    private final SupportInboxMapper mapper;
+
+    /** 문의 작성 / 파일 첨부 / 답변 후 */
+    @Transactional
+    public void syncInquiry(String inqId) {
+        String totalId = "I-" + inqId;
+        String before = mapper.selectStateForUpdate(totalId);
+        mapper.upsertInquiry(inqId);
+        applyCount(TYPE_INQUIRY, before, mapper.selectState(totalId));
+    }
+
+    /** 신고 접수 / 처리 후 */
+    @Transactional
+    public void syncReport(String reportId) {
+        String totalId = "R-" + reportId;
+        String before = mapper.selectStateForUpdate(totalId);
+        mapper.upsertReport(reportId);
+        applyCount(TYPE_REPORT, before, mapper.selectState(totalId));
+    }
+
+    private void applyCount(String type, String before, String after) {
+        if (Objects.equals(before, after)) return;
+        if (before != null) mapper.addCount(type, before, -1);
+        if (after != null) mapper.addCount(type, after, 1);
+    }
+}
@@ -0,0 +1,20 @@
+package com.booknara.booknaraPrj.common.upload;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * [StoredFileDTO]
+ * 업로드 저장 결과 (IMAGES 메타 컬럼에 그대로 기록)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StoredFileDTO {
+    private String url;            // 브라우저 접근 URL (/uploads/{hash}.{ext})
+    private String contentType;    // image/jpeg, image/png
+    private long fileSize;         // bytes
+    private String fileHash;       // SHA-256 hex (64자)
+    private String variantWidths;  // 생성된 축소본 가로폭 목록 ("640,1280"), 없으면 null
+}
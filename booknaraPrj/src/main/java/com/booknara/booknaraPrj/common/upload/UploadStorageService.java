@@ -0,0 +1,189 @@
+package com.booknara.booknaraPrj.common.upload;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * [UploadStorageService]
+ * 이벤트 이미지 업로드를 내용 해시 기반 파일명으로 저장하고, 저장 시점에 메타(타입/크기/해시)를 계산합니다.
+ * - 저장 경로: {uploads.event-dir}/{SHA-256 앞 32자리}.{ext} → 같은 URL이면 내용도 같으므로 1년 immutable 캐시가 가능합니다.
+ * - 배너(THUMB/MAIN)는 업로드 시 가로 640/1280 JPEG 축소본({hash}_w{width}.jpg)을 함께 만듭니다.
+ * - 정적 제공은 WebConfig의 /uploads/** 리소스 핸들러가 담당합니다 (ETag/Last-Modified/Range).
+ */
+@Service
+@Slf4j
+public class UploadStorageService {
+
+    public static final String URL_PREFIX = "/uploads/";
+
+    /** 배너 축소본 가로폭 (원본보다 작은 것만 생성) */
+    private static final int[] BANNER_WIDTHS = {640, 1280};
+    private static final float JPEG_QUALITY = 0.85f;
+    private static final int NAME_HASH_LENGTH = 32;
+
+    private static final Map<String, String> CONTENT_TYPES = Map.of(
+            "jpg", "image/jpeg",
+            "jpeg", "image/jpeg",
+            "png", "image/png"
+    );
+
+    private final Path root;
+
+    public UploadStorageService(@Value("${uploads.event-dir:${user.home}/booknara_uploads}") String dir) {
+        this.root = Paths.get(dir).toAbsolutePath().normalize();
+    }
+
+    public Path getRoot() {
+        return root;
+    }
+
+    /**
+     * 파일 저장
+     * @param ext    검증된 확장자 (jpg/jpeg/png)
+     * @param banner true면 배너 축소본도 생성
+     */
+    public StoredFileDTO store(MultipartFile file, String ext, boolean banner) {
+        String contentType = CONTENT_TYPES.get(ext.toLowerCase(Locale.ROOT));
+        if (contentType == null) {
+            throw new IllegalArgumentException("지원하지 않는 파일 형식입니다: " + ext);
+        }
+
+        try {
+            Files.createDirectories(root);
+
+            // 1) 임시 파일로 복사하면서 해시 계산 (한 번만 읽음)
+            Path tmp = Files.createTempFile(root, "upload", ".tmp");
+            MessageDigest digest = sha256();
+            long size;
+            try (InputStream in = new DigestInputStream(file.getInputStream(), digest);
+                 OutputStream out = Files.newOutputStream(tmp)) {
+                size = in.transferTo(out);
+            } catch (IOException e) {
+                Files.deleteIfExists(tmp);
+                throw e;
+            }
+
+            String hash = HexFormat.of().formatHex(digest.digest());
+            String baseName = hash.substring(0, NAME_HASH_LENGTH);
+            String savedName = baseName + "." + ext.toLowerCase(Locale.ROOT);
+            Path target = root.resolve(savedName);
+
+            // 2) 같은 내용이 이미 있으면 그대로 재사용 (중복 업로드 제거)
+            if (Files.exists(target)) {
+                Files.deleteIfExists(tmp);
+            } else {
+                Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            }
+
+            // 3) 배너 축소본
+            String variantWidths = banner ? createVariants(target, baseName) : null;
+
+            return new StoredFileDTO(URL_PREFIX + savedName, contentType, size, hash, variantWidths);
+
+        } catch (IOException e) {
+            throw new RuntimeException("이미지 파일 저장 실패", e);
+        }
+    }
+
+    // =========================
+    // 내부 유틸
+    // =========================
+
+    /** 원본보다 작은 폭만 생성, 생성된 폭 목록 반환 (없으면 null) */
+    private String createVariants(Path original, String baseName) {
+        BufferedImage src;
+        try {
+            src = ImageIO.read(original.toFile());
+        } catch (IOException e) {
+            log.warn("banner variant skipped (unreadable image). file={} msg={}", original.getFileName(), e.getMessage());
+            return null;
+        }
+        if (src == null) return null;
+
+        List<String> widths = new ArrayList<>();
+        for (int width : BANNER_WIDTHS) {
+            if (width >= src.getWidth()) continue;
+
+            Path target = root.resolve(baseName + "_w" + width + ".jpg");
+            try {
+                if (!Files.exists(target)) {
+                    writeJpeg(resize(src, width), target);
+                }
+                widths.add(String.valueOf(width));
+            } catch (IOException e) {
+                // 축소본은 최적화용이므로 실패해도 원본 업로드는 유지
+                log.warn("banner variant failed. file={} width={} msg={}", original.getFileName(), width, e.getMessage());
+            }
+        }
+        return widths.isEmpty() ? null : String.join(",", widths);
+    }
+
+    /** 가로 기준 비율 유지 축소 (JPEG 저장을 위해 흰 배경 RGB로 변환) */
+    private BufferedImage resize(BufferedImage src, int width) {
+        int height = Math.max(1, (int) Math.round(src.getHeight() * (width / (double) src.getWidth())));
+
+        BufferedImage out = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = out.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, width, height);
+            g.drawImage(src, 0, 0, width, height, null);
+        } finally {
+            g.dispose();
+        }
+        return out;
+    }
+
+    /** 임시 파일에 쓴 뒤 rename (리소스 핸들러가 절반만 쓰인 파일을 내보내지 않도록) */
+    private void writeJpeg(BufferedImage image, Path target) throws IOException {
+        Path tmp = Files.createTempFile(root, "variant", ".tmp");
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        try (ImageOutputStream out = ImageIO.createImageOutputStream(tmp.toFile())) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(JPEG_QUALITY);
+            writer.setOutput(out);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.booknara.booknaraPrj.common.userstatus;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * [UserStatusCache]
+ * userId별 사용자 상태(프로필 이미지, 정지/연체 여부, 가장 가까운 반납일)를 보관하는 LRU 캐시입니다.
+ * - 헤더/사이드바 advice와 대출 검증이 매 요청마다 DB를 조회하지 않도록 합니다.
+ * - 대출/반납/연장, 제재, 탈퇴, 프로필 변경 시 evict()로 무효화합니다.
+ * - 배치성 JDBC 갱신(연체 제재 스케줄러 등)을 놓치지 않도록 TTL도 함께 적용합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserStatusCache {
+
+    private static final int MAX_ENTRIES = 10_000;
+    private static final long TTL_MS = 5 * 60 * 1000L; // 5분
+
+    private final UserStatusMapper mapper;
+
+    private final Map<String, Entry> cache = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    private record Entry(UserStatusDTO status, long loadedAt) {
+        boolean expired(long now) {
+            return now - loadedAt > TTL_MS;
+        }
+    }
+
+    /** 캐시된 상태 조회 (없거나 만료되면 DB 1회 조회) */
+    public UserStatusDTO get(String userId) {
+        long now = System.currentTimeMillis();
+
+        synchronized (cache) {
+            Entry entry = cache.get(userId);
+            if (entry != null && !entry.expired(now)) return entry.status();
+        }
+
+        UserStatusDTO loaded = mapper.selectUserStatus(userId);
+        if (loaded == null) {
+            loaded = new UserStatusDTO();
+            loaded.setUserId(userId);
+            loaded.setBlockedYn("N");
+            loaded.setOverdueYn("N");
+        }
+
+        synchronized (cache) {
+            cache.put(userId, new Entry(loaded, now));
+        }
+        return loaded;
+    }
+
+    /** 사용자 상태 변경 이벤트: 커밋 후 해당 사용자 캐시 제거 */
+    public void evict(String userId) {
+        if (userId == null) return;
+        afterCommit(() -> {
+            synchronized (cache) {
+                cache.remove(userId);
+            }
+        });
+    }
+
+    /** 다수 사용자 상태가 한 번에 바뀌는 배치 작업 후 전체 무효화 */
+    public void evictAll() {
+        afterCommit(() -> {
+            synchronized (cache) {
+                cache.clear();
+            }
+        });
+    }
+
+    private void afterCommit(Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+            return;
+        }
+        task.run();
+    }
+}
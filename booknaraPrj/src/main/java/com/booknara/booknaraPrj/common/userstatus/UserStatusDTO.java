@@ -0,0 +1,36 @@
+package com.booknara.booknaraPrj.common.userstatus;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * [UserStatusDTO]
+ * 헤더/사이드바 렌더링과 대출 가능 여부 검증에 공통으로 쓰이는 사용자 상태 묶음입니다.
+ * 한 번의 쿼리로 조회하여 UserStatusCache에 보관됩니다.
+ */
+@Data
+public class UserStatusDTO {
+
+    private String userId;
+
+    /** 헤더 프로필 이미지 (USE_IMG 기준 프로필 사진 또는 대표 말랑이) */
+    private String profileImage;
+
+    /** 정지/탈퇴 여부 ('Y'/'N') */
+    private String blockedYn;
+
+    /** 연체 도서 보유 여부 ('Y'/'N') */
+    private String overdueYn;
+
+    /** 미반납 도서 중 가장 이른 반납 예정일 (연체 중이면 가장 오래된 연체일) */
+    private LocalDateTime nearestDueDate;
+
+    public boolean isBlocked() {
+        return "Y".equals(blockedYn);
+    }
+
+    public boolean isOverdue() {
+        return "Y".equals(overdueYn);
+    }
+}
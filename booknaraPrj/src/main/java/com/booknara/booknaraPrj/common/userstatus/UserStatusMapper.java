@@ -0,0 +1,11 @@
+package com.booknara.booknaraPrj.common.userstatus;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+@Mapper
+public interface UserStatusMapper {
+
+    /** 프로필 이미지, 정지/연체 여부, 가장 가까운 반납 예정일을 한 번에 조회 */
+    UserStatusDTO selectUserStatus(@Param("userId") String userId);
+}
@@ -3,12 +3,16 @@ package com.booknara.booknaraPrj.ebook.controller;
 import com.booknara.booknaraPrj.ebook.dto.DictRespDTO;
 import com.booknara.booknaraPrj.ebook.dto.MyEBookItemDTO;
 import com.booknara.booknaraPrj.ebook.dto.SaveCfiRequest;
+import com.booknara.booknaraPrj.ebook.infrastructure.epub.EpubEntryReader;
+import com.booknara.booknaraPrj.ebook.infrastructure.epub.EpubFileStreamer;
 import com.booknara.booknaraPrj.ebook.service.EBookService;
 import com.booknara.booknaraPrj.ebook.service.GoogleDictionaryService;
 import com.booknara.booknaraPrj.security.CustomUserDetails;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.springframework.core.io.Resource;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -17,13 +21,21 @@ import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
 
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 @RequiredArgsConstructor
 @Controller
 public class EBookController {
+    // 세션 단위로 대여 검증이 끝난 ISBN 목록
+    private static final String READABLE_ISBNS_ATTR = "EBOOK_READABLE_ISBNS";
+
     private final GoogleDictionaryService dictService;
     private final EBookService service;
+    private final EpubFileStreamer epubFileStreamer;
+    private final EpubEntryReader epubEntryReader;
 
     @GetMapping("/ebook")
     public String ebookView(/*Authentication auth,*/
@@ -82,37 +94,51 @@ public class EBookController {
 
     @ResponseBody
     @GetMapping("/ebook/epub/{isbn}")
-    public ResponseEntity<Resource> streamEpub(@PathVariable("isbn") String isbn,
-//                                               Authentication auth,
-                                               @AuthenticationPrincipal CustomUserDetails userDetails) throws IOException {
-        // 검증
-//        String userId = auth.getName();
+    public void streamEpub(@PathVariable("isbn") String isbn,
+                           @AuthenticationPrincipal CustomUserDetails userDetails,
+                           HttpServletRequest request,
+                           HttpServletResponse response) throws IOException {
+        // 검증 + epub 경로 조회 (캐시된 단일 쿼리)
         String userId = userDetails.getUserId();
-        boolean hasAccess = service.canReadBook(userId, isbn);
-        if (!hasAccess) {
-            //throw new ResponseStatusException(HttpStatus.FORBIDDEN);
-            System.out.println("실패");
-            return null;
+        Path epub = service.findReadableEpubPath(userId, isbn);
+        if (epub == null) {
+            response.sendError(HttpServletResponse.SC_FORBIDDEN);
+            return;
         }
 
-        // DB에서 isbn기준으로 epub파일 가져오기
-        System.out.println("stream");
-        String epub = service.findEpub(isbn);
-        return service.getEpubResource(epub);
+        // ETag/304 + Range(206) + zero-copy 전송
+        epubFileStreamer.stream(epub, request, response);
+    }
+
+    @ResponseBody
+    @GetMapping("/ebook/epub/{isbn}/entry/{*entry}")
+    public void streamEpubEntry(@PathVariable("isbn") String isbn,
+                                @PathVariable("entry") String entry,
+                                @AuthenticationPrincipal CustomUserDetails userDetails,
+                                HttpServletRequest request,
+                                HttpServletResponse response) throws IOException {
+        // 검증 + epub 경로 조회 (캐시된 단일 쿼리)
+        Path epub = service.findReadableEpubPath(userDetails.getUserId(), isbn);
+        if (epub == null) {
+            response.sendError(HttpServletResponse.SC_FORBIDDEN);
+            return;
+        }
+
+        // epub 내부 엔트리(OPF/챕터/이미지) 단위 전송
+        epubEntryReader.serve(epub, entry, request, response);
     }
 
     @ResponseBody
     @PutMapping("/ebook/history/{isbn}")
     public ResponseEntity<Void> saveCfi(@PathVariable("isbn") String isbn,
                                         @RequestBody @Valid SaveCfiRequest req,
-//                                        Authentication auth,
-                                        @AuthenticationPrincipal CustomUserDetails userDetails) {
+                                        @AuthenticationPrincipal CustomUserDetails userDetails,
+                                        HttpSession session) {
         // 세션에서 유저 정보 받아오기
-//        String userId = auth.getName();
         String userId = userDetails.getUserId();
 
-        boolean hasAccess = service.canReadBook(userId, isbn);
-        if(hasAccess) {
+        // 대여 검증은 세션당 ISBN별 1회만 (페이지 넘길 때마다 DB 조회하지 않도록)
+        if (hasReadableIsbn(session, userId, isbn)) {
             service.setCfi(userId, isbn, req.getCfi(), req.getPct(), req.getHref());
         }
 
@@ -124,4 +150,19 @@ public class EBookController {
     public DictRespDTO dict(@PathVariable("word") String word) {
         return dictService.getWordMean(word);
     }
+
+    @SuppressWarnings("unchecked")
+    private boolean hasReadableIsbn(HttpSession session, String userId, String isbn) {
+        Set<String> verified = (Set<String>) session.getAttribute(READABLE_ISBNS_ATTR);
+        if (verified != null && verified.contains(isbn)) return true;
+
+        if (!service.canReadBook(userId, isbn)) return false;
+
+        if (verified == null) {
+            verified = ConcurrentHashMap.newKeySet();
+            session.setAttribute(READABLE_ISBNS_ATTR, verified);
+        }
+        verified.add(isbn);
+        return true;
+    }
 }
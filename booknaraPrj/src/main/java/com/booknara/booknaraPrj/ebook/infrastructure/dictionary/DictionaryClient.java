@@ -0,0 +1,13 @@
+package com.booknara.booknaraPrj.ebook.infrastructure.dictionary;
+
+import com.booknara.booknaraPrj.ebook.dto.DictRespDTO;
+
+/**
+ * [DictionaryClient]
+ * 영영 사전 조회 provider (ebook.dict.mode=google: dictionaryapi.dev / stub: 네트워크 없는 테스트용)
+ */
+public interface DictionaryClient {
+
+    /** 단어 조회 (사전에 없으면 null) */
+    DictRespDTO lookup(String word);
+}
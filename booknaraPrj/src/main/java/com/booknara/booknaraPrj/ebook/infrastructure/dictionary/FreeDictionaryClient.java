@@ -0,0 +1,39 @@
+package com.booknara.booknaraPrj.ebook.infrastructure.dictionary;
+
+import com.booknara.booknaraPrj.common.perf.ExternalHttpTraceInterceptor;
+import com.booknara.booknaraPrj.ebook.dto.DictRespDTO;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClient;
+
+import java.util.List;
+
+/**
+ * [FreeDictionaryClient]
+ * dictionaryapi.dev 조회 (RestClient는 요청마다 만들지 않고 공유)
+ */
+@Component
+@ConditionalOnProperty(name = "ebook.dict.mode", havingValue = "google", matchIfMissing = true)
+public class FreeDictionaryClient implements DictionaryClient {
+
+    private final RestClient restClient = RestClient.builder()
+            .baseUrl("https://api.dictionaryapi.dev")
+            .requestInterceptor(ExternalHttpTraceInterceptor.INSTANCE)
+            .build();
+
+    @Override
+    public DictRespDTO lookup(String word) {
+        try {
+            List<DictRespDTO> result = restClient.get()
+                    .uri("/api/v2/entries/en/{word}", word)
+                    .retrieve()
+                    .body(new ParameterizedTypeReference<>() {});
+
+            return (result == null || result.isEmpty()) ? null : result.get(0);
+        } catch (HttpClientErrorException.NotFound e) {
+            return null; // 사전에 없는 단어
+        }
+    }
+}
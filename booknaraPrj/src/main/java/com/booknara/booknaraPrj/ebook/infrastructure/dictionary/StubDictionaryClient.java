@@ -0,0 +1,34 @@
+package com.booknara.booknaraPrj.ebook.infrastructure.dictionary;
+
+import com.booknara.booknaraPrj.ebook.dto.DictRespDTO;
+import com.booknara.booknaraPrj.ebook.dto.Definition;
+import com.booknara.booknaraPrj.ebook.dto.Meaning;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * [StubDictionaryClient]
+ * 테스트/로컬용 사전 (ebook.dict.mode=stub): 외부 호출 없이 고정 형태의 결과를 만듭니다.
+ */
+@Component
+@ConditionalOnProperty(name = "ebook.dict.mode", havingValue = "stub")
+public class StubDictionaryClient implements DictionaryClient {
+
+    @Override
+    public DictRespDTO lookup(String word) {
+        Definition definition = new Definition();
+        definition.setDefinition("stub definition of " + word);
+
+        Meaning meaning = new Meaning();
+        meaning.setPartOfSpeech("noun");
+        meaning.setDefinitions(new ArrayList<>(List.of(definition)));
+
+        DictRespDTO dto = new DictRespDTO();
+        dto.setWord(word);
+        dto.setMeanings(new ArrayList<>(List.of(meaning)));
+        return dto;
+    }
+}
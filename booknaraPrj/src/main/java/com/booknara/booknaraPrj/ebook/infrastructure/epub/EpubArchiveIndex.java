@@ -0,0 +1,170 @@
+package com.booknara.booknaraPrj.ebook.infrastructure.epub;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * [EpubArchiveIndex]
+ * EPUB(zip) 파일을 메모리 매핑하고 central directory를 한 번만 파싱해 둔 엔트리 색인입니다.
+ * - 엔트리 조회는 HashMap 조회 + 매핑된 버퍼 slice 이므로 파일을 다시 열거나 전체를 읽지 않습니다.
+ * - STORED(0)는 그대로, DEFLATED(8)는 요청 시 스트리밍으로 풀어서 내려보냅니다.
+ * - ZIP64 / 2GB 초과 파일은 EPUB에서 쓰이지 않으므로 지원하지 않습니다.
+ */
+public final class EpubArchiveIndex {
+
+    private static final int EOCD_SIG = 0x06054b50;
+    private static final int CEN_SIG = 0x02014b50;
+    private static final int LOC_SIG = 0x04034b50;
+    private static final int EOCD_MIN = 22;
+    private static final int MAX_COMMENT = 0xFFFF;
+
+    public static final int STORED = 0;
+    public static final int DEFLATED = 8;
+
+    /** central directory의 엔트리 정보 (dataOffset은 local header 이후 실제 데이터 위치) */
+    public record Entry(String name, int method, long crc, int compressedSize, int size, int dataOffset) {}
+
+    private final long fileSize;
+    private final long lastModified;
+    private final MappedByteBuffer buffer;
+    private final Map<String, Entry> entries;
+
+    private EpubArchiveIndex(long fileSize, long lastModified, MappedByteBuffer buffer, Map<String, Entry> entries) {
+        this.fileSize = fileSize;
+        this.lastModified = lastModified;
+        this.buffer = buffer;
+        this.entries = entries;
+    }
+
+    /** 파일을 매핑하고 central directory를 파싱 */
+    public static EpubArchiveIndex open(Path file, long lastModified) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < EOCD_MIN || size > Integer.MAX_VALUE) {
+                throw new IOException("지원하지 않는 EPUB 크기입니다. size=" + size);
+            }
+
+            // 매핑은 채널을 닫아도 유지됨
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            ByteBuffer buf = mapped.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+
+            int eocd = findEocd(buf, (int) size);
+            int count = Short.toUnsignedInt(buf.getShort(eocd + 10));
+            long cenSize = Integer.toUnsignedLong(buf.getInt(eocd + 12));
+            long cenOffset = Integer.toUnsignedLong(buf.getInt(eocd + 16));
+            if (count == 0xFFFF || cenOffset == 0xFFFFFFFFL || cenOffset + cenSize > size) {
+                throw new IOException("ZIP64 또는 손상된 EPUB입니다.");
+            }
+
+            Map<String, Entry> map = new HashMap<>(count * 2);
+            int pos = (int) cenOffset;
+            for (int i = 0; i < count; i++) {
+                if (buf.getInt(pos) != CEN_SIG) throw new IOException("central directory가 손상되었습니다.");
+
+                int method = Short.toUnsignedInt(buf.getShort(pos + 10));
+                long crc = Integer.toUnsignedLong(buf.getInt(pos + 16));
+                long compressed = Integer.toUnsignedLong(buf.getInt(pos + 20));
+                long uncompressed = Integer.toUnsignedLong(buf.getInt(pos + 24));
+                int nameLen = Short.toUnsignedInt(buf.getShort(pos + 28));
+                int extraLen = Short.toUnsignedInt(buf.getShort(pos + 30));
+                int commentLen = Short.toUnsignedInt(buf.getShort(pos + 32));
+                long localOffset = Integer.toUnsignedLong(buf.getInt(pos + 42));
+
+                byte[] nameBytes = new byte[nameLen];
+                buf.get(pos + 46, nameBytes);
+                String name = new String(nameBytes, StandardCharsets.UTF_8);
+
+                // 디렉터리 엔트리는 색인하지 않음
+                if (!name.endsWith("/")) {
+                    int dataOffset = dataOffset(buf, localOffset, size);
+                    if (dataOffset + compressed > size || uncompressed > Integer.MAX_VALUE) {
+                        throw new IOException("엔트리 범위가 잘못되었습니다. name=" + name);
+                    }
+                    map.put(name, new Entry(name, method, crc, (int) compressed, (int) uncompressed, dataOffset));
+                }
+
+                pos += 46 + nameLen + extraLen + commentLen;
+            }
+
+            return new EpubArchiveIndex(size, lastModified, mapped, Collections.unmodifiableMap(map));
+        }
+    }
+
+    /** 색인이 현재 파일 상태와 일치하는지 (교체된 파일 감지용) */
+    public boolean matches(long size, long lastModified) {
+        return this.fileSize == size && this.lastModified == lastModified;
+    }
+
+    public Entry find(String name) {
+        return entries.get(name);
+    }
+
+    /** 엔트리 본문을 out으로 전송 (압축 해제 포함) */
+    public void write(Entry entry, OutputStream out) throws IOException {
+        ByteBuffer data = buffer.slice(entry.dataOffset(), entry.compressedSize());
+
+        if (entry.method() == STORED) {
+            WritableByteChannel target = Channels.newChannel(out);
+            while (data.hasRemaining()) {
+                target.write(data);
+            }
+            return;
+        }
+
+        if (entry.method() != DEFLATED) {
+            throw new IOException("지원하지 않는 압축 방식입니다. method=" + entry.method());
+        }
+
+        Inflater inflater = new Inflater(true); // zip 엔트리는 raw deflate
+        try {
+            inflater.setInput(data);
+            byte[] chunk = new byte[16 * 1024];
+            while (!inflater.finished()) {
+                int n = inflater.inflate(chunk);
+                if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) break;
+                out.write(chunk, 0, n);
+            }
+        } catch (DataFormatException e) {
+            throw new IOException("엔트리 압축 해제 실패. name=" + entry.name(), e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    // =========================
+    // 내부 유틸
+    // =========================
+
+    /** 파일 끝에서부터 End Of Central Directory 레코드 탐색 (뒤에 주석이 붙을 수 있음) */
+    private static int findEocd(ByteBuffer buf, int size) throws IOException {
+        int min = Math.max(0, size - EOCD_MIN - MAX_COMMENT);
+        for (int pos = size - EOCD_MIN; pos >= min; pos--) {
+            if (buf.getInt(pos) == EOCD_SIG) return pos;
+        }
+        throw new IOException("zip 형식이 아닙니다.");
+    }
+
+    /** local header는 extra 길이가 central directory와 다를 수 있어 직접 읽어 데이터 시작 위치를 계산 */
+    private static int dataOffset(ByteBuffer buf, long localOffset, long size) throws IOException {
+        if (localOffset + 30 > size || buf.getInt((int) localOffset) != LOC_SIG) {
+            throw new IOException("local header가 손상되었습니다.");
+        }
+        int nameLen = Short.toUnsignedInt(buf.getShort((int) localOffset + 26));
+        int extraLen = Short.toUnsignedInt(buf.getShort((int) localOffset + 28));
+        return (int) localOffset + 30 + nameLen + extraLen;
+    }
+}
@@ -0,0 +1,140 @@
+package com.booknara.booknaraPrj.ebook.infrastructure.epub;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * [EpubEntryReader]
+ * EPUB 내부 엔트리(container.xml, OPF, XHTML 챕터, 이미지 등)를 경로 단위로 내려보내는 컴포넌트입니다.
+ * - 파일별 EpubArchiveIndex를 LRU로 보관하고, 파일 크기/수정 시각이 바뀌면 다시 색인합니다.
+ * - 엔트리 ETag는 파일 ETag + 엔트리 CRC로 만들어 챕터 단위로 304 재검증이 가능합니다.
+ * - 리더(epub.js)는 현재 위치의 챕터와 필요한 리소스만 요청합니다.
+ */
+@Component
+@Slf4j
+public class EpubEntryReader {
+
+    private static final int MAX_INDEXES = 64;
+
+    // 문서(OPF/XHTML 등)는 매번 재검증, 이미지/폰트/CSS는 일정 기간 캐시
+    private static final String DOCUMENT_CACHE = CacheControl.noCache().cachePrivate().getHeaderValue();
+    private static final String ASSET_CACHE = CacheControl.maxAge(1, TimeUnit.DAYS).cachePrivate().getHeaderValue();
+
+    private static final Map<String, String> EPUB_TYPES = Map.of(
+            "xhtml", "application/xhtml+xml",
+            "opf", "application/oebps-package+xml",
+            "ncx", "application/x-dtbncx+xml",
+            "smil", "application/smil+xml",
+            "otf", "font/otf",
+            "woff2", "font/woff2"
+    );
+
+    // path -> 색인 (접근 순서 LRU)
+    private final Map<Path, EpubArchiveIndex> indexes = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Path, EpubArchiveIndex> eldest) {
+            return size() > MAX_INDEXES;
+        }
+    };
+
+    /** 엔트리 전송 */
+    public void serve(Path file, String entryName, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        if (!Files.isRegularFile(file)) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        BasicFileAttributes attrs = Files.readAttributes(file, BasicFileAttributes.class);
+        long lastModified = attrs.lastModifiedTime().toMillis() / 1000 * 1000;
+
+        EpubArchiveIndex index = indexOf(file, attrs.size(), lastModified);
+        EpubArchiveIndex.Entry entry = index.find(normalize(entryName));
+        if (entry == null) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        String etag = "\"" + Long.toHexString(attrs.size()) + "-" + Long.toHexString(lastModified)
+                + "-" + Long.toHexString(entry.crc()) + "\"";
+        String contentType = contentTypeOf(entry.name());
+
+        response.setHeader(HttpHeaders.CACHE_CONTROL, isAsset(contentType) ? ASSET_CACHE : DOCUMENT_CACHE);
+
+        // ETag/Last-Modified 헤더 설정 + 일치하면 304
+        if (new ServletWebRequest(request, response).checkNotModified(etag, lastModified)) {
+            return;
+        }
+
+        response.setContentType(contentType);
+        response.setContentLengthLong(entry.size());
+        if ("HEAD".equalsIgnoreCase(request.getMethod())) {
+            return;
+        }
+
+        try {
+            index.write(entry, response.getOutputStream());
+        } catch (IOException e) {
+            log.debug("epub entry transfer aborted. file={} entry={} msg={}",
+                    file.getFileName(), entry.name(), e.getMessage());
+        }
+    }
+
+    // =========================
+    // 내부 유틸
+    // =========================
+
+    private EpubArchiveIndex indexOf(Path file, long size, long lastModified) throws IOException {
+        synchronized (indexes) {
+            EpubArchiveIndex cached = indexes.get(file);
+            if (cached != null && cached.matches(size, lastModified)) return cached;
+        }
+
+        // 파싱은 락 밖에서 (동시에 같은 파일을 열면 한 번 더 파싱될 수 있으나 결과는 동일)
+        EpubArchiveIndex loaded = EpubArchiveIndex.open(file, lastModified);
+        synchronized (indexes) {
+            indexes.put(file, loaded);
+        }
+        return loaded;
+    }
+
+    /** URL 경로(/OEBPS/ch1.xhtml) -> zip 엔트리 이름(OEBPS/ch1.xhtml) */
+    private String normalize(String entryName) {
+        String name = entryName == null ? "" : entryName;
+        while (name.startsWith("/")) name = name.substring(1);
+        return name;
+    }
+
+    private String contentTypeOf(String name) {
+        int dot = name.lastIndexOf('.');
+        String ext = dot < 0 ? "" : name.substring(dot + 1).toLowerCase(Locale.ROOT);
+
+        String type = EPUB_TYPES.get(ext);
+        if (type != null) return type;
+
+        return MediaTypeFactory.getMediaType(name)
+                .map(MediaType::toString)
+                .orElse(MediaType.APPLICATION_OCTET_STREAM_VALUE);
+    }
+
+    private boolean isAsset(String contentType) {
+        return contentType.startsWith("image/")
+                || contentType.startsWith("font/")
+                || contentType.startsWith("text/css");
+    }
+}
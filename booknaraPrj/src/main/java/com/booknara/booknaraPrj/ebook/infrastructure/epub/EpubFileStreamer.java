@@ -0,0 +1,196 @@
+package com.booknara.booknaraPrj.ebook.infrastructure.epub;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+
+/**
+ * [EpubFileStreamer]
+ * EPUB 파일을 HTTP 캐시/부분 요청 규칙에 맞춰 내려보내는 컴포넌트입니다.
+ * - 파일 크기 + 수정 시각으로 강한 ETag를 만들고, If-None-Match / If-Modified-Since 일치 시 304 응답
+ * - 단일 Range(bytes=a-b, a-, -n) 요청은 206 + Content-Range, 범위 밖이면 416
+ * - Tomcat sendfile 지원 시 커널 zero-copy로, 아니면 FileChannel.transferTo로 전송
+ */
+@Component
+@Slf4j
+public class EpubFileStreamer {
+
+    private static final String CONTENT_TYPE = "application/epub+zip";
+
+    // Tomcat NIO 커넥터의 sendfile 연동 속성 (DefaultServlet과 동일한 방식)
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    // 대여 검증이 필요한 리소스이므로 공유 캐시 금지 + 매번 재검증(304로 저렴하게)
+    private static final String CACHE_CONTROL = CacheControl.noCache().cachePrivate().getHeaderValue();
+
+    /** 파일 전송 (조건부 요청/Range 처리 포함) */
+    public void stream(Path file, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        if (!Files.isRegularFile(file)) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        BasicFileAttributes attrs = Files.readAttributes(file, BasicFileAttributes.class);
+        long length = attrs.size();
+        long lastModified = attrs.lastModifiedTime().toMillis() / 1000 * 1000; // HTTP 날짜는 초 단위
+        String etag = "\"" + Long.toHexString(length) + "-" + Long.toHexString(lastModified) + "\"";
+
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setDateHeader(HttpHeaders.LAST_MODIFIED, lastModified);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+        // 1) 조건부 GET → 304
+        if (notModified(request, etag, lastModified)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        response.setContentType(CONTENT_TYPE);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                "inline; filename=\"" + file.getFileName() + "\"");
+
+        // 2) Range 해석 (If-Range 불일치 시 전체 전송)
+        long start = 0;
+        long end = length - 1;
+        String range = request.getHeader(HttpHeaders.RANGE);
+
+        if (range != null && ifRangeMatches(request, etag, lastModified)) {
+            long[] parsed = parseRange(range, length);
+            if (parsed == null) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                response.sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                return;
+            }
+            if (parsed.length == 2) {
+                start = parsed[0];
+                end = parsed[1];
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+            }
+        }
+
+        long count = end - start + 1;
+        response.setContentLengthLong(count);
+
+        if ("HEAD".equalsIgnoreCase(request.getMethod()) || count <= 0) {
+            return;
+        }
+
+        // 3) 본문 전송
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, file.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1); // end는 exclusive
+            return;
+        }
+        transfer(file, start, count, response.getOutputStream());
+    }
+
+    // =========================
+    // 내부 유틸
+    // =========================
+
+    private boolean notModified(HttpServletRequest request, String etag, long lastModified) {
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null) {
+            // If-None-Match가 있으면 If-Modified-Since는 무시 (RFC 9110)
+            for (String tag : ifNoneMatch.split(",")) {
+                String t = tag.trim();
+                if (t.startsWith("W/")) t = t.substring(2);
+                if ("*".equals(t) || etag.equals(t)) return true;
+            }
+            return false;
+        }
+
+        long ifModifiedSince = dateHeader(request, HttpHeaders.IF_MODIFIED_SINCE);
+        return ifModifiedSince != -1 && lastModified <= ifModifiedSince;
+    }
+
+    private boolean ifRangeMatches(HttpServletRequest request, String etag, long lastModified) {
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange == null) return true;
+
+        ifRange = ifRange.trim();
+        if (ifRange.startsWith("\"")) return etag.equals(ifRange); // 강한 비교만 허용
+
+        long date = dateHeader(request, HttpHeaders.IF_RANGE);
+        return date != -1 && lastModified == date;
+    }
+
+    private long dateHeader(HttpServletRequest request, String name) {
+        try {
+            return request.getDateHeader(name);
+        } catch (IllegalArgumentException e) {
+            return -1; // 형식이 잘못된 날짜는 없는 것으로 처리
+        }
+    }
+
+    /**
+     * Range 헤더 해석
+     * @return {start, end} 단일 범위 / 빈 배열이면 범위 무시(전체 전송) / null이면 416
+     */
+    private long[] parseRange(String header, long length) {
+        if (!header.startsWith("bytes=")) return new long[0];
+
+        String spec = header.substring("bytes=".length()).trim();
+        if (spec.contains(",")) return new long[0]; // 다중 범위는 전체 전송으로 대체 (epub.js는 사용하지 않음)
+
+        int dash = spec.indexOf('-');
+        if (dash < 0) return new long[0];
+
+        try {
+            String first = spec.substring(0, dash).trim();
+            String last = spec.substring(dash + 1).trim();
+            long start;
+            long end;
+
+            if (first.isEmpty()) {
+                // bytes=-n : 마지막 n바이트
+                long suffix = Long.parseLong(last);
+                if (suffix <= 0) return null;
+                start = Math.max(0, length - suffix);
+                end = length - 1;
+            } else {
+                start = Long.parseLong(first);
+                end = last.isEmpty() ? length - 1 : Math.min(Long.parseLong(last), length - 1);
+            }
+
+            if (start >= length || start > end) return null;
+            return new long[]{start, end};
+        } catch (NumberFormatException e) {
+            return new long[0];
+        }
+    }
+
+    private void transfer(Path file, long position, long count, OutputStream out) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            WritableByteChannel target = Channels.newChannel(out);
+            long sent = 0;
+            while (sent < count) {
+                long n = channel.transferTo(position + sent, count - sent, target);
+                if (n <= 0) break;
+                sent += n;
+            }
+        } catch (IOException e) {
+            // 리더가 페이지를 닫는 등 클라이언트 연결 종료는 흔한 일이므로 debug로만 기록
+            log.debug("epub transfer aborted. file={} msg={}", file.getFileName(), e.getMessage());
+        }
+    }
+}
@@ -1,17 +1,30 @@
 package com.booknara.booknaraPrj.ebook.infrastructure.translate;
 
 import com.google.auth.oauth2.GoogleCredentials;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.core.io.Resource;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 
+/**
+ * [GoogleAccessTokenUtil]
+ * 서비스 계정 자격 증명은 최초 1회만 읽어 보관하고, 토큰은 만료 전에 백그라운드에서 미리 갱신합니다.
+ * - 번역 요청 스레드는 대부분 캐시된 토큰을 바로 사용합니다.
+ */
 @Component
+@ConditionalOnProperty(name = "ebook.dict.mode", havingValue = "google", matchIfMissing = true)
+@Slf4j
 public class GoogleAccessTokenUtil {
     private final Resource credentialsResource;
 
+    private volatile GoogleCredentials credentials;
+
     public GoogleAccessTokenUtil(
             @Value("${google.translate.credentials}") Resource credentialsResource
     ) {
@@ -20,14 +33,38 @@ public class GoogleAccessTokenUtil {
 
     public String getAccessToken() {
         try {
-            GoogleCredentials credentials = GoogleCredentials
-                    .fromStream(credentialsResource.getInputStream())
-                    .createScoped(List.of("https://www.googleapis.com/auth/cloud-platform"));
+            GoogleCredentials c = credentials();
+            c.refreshIfExpired(); // 만료 임박 시에만 실제 갱신 (라이브러리 내부 동기화)
+            return c.getAccessToken().getTokenValue();
+        } catch (IOException e) {
+            throw new IllegalStateException("Google AccessToken 발급 실패", e);
+        }
+    }
+
+    /** 만료 전 선제 갱신 (요청 스레드가 갱신을 기다리지 않도록) */
+    @Scheduled(fixedDelay = 5 * 60 * 1000L, initialDelay = 60 * 1000L)
+    public void refreshAhead() {
+        if (credentials == null) return; // 아직 번역을 한 번도 쓰지 않았으면 대기
 
+        try {
             credentials.refreshIfExpired();
-            return credentials.getAccessToken().getTokenValue();
         } catch (IOException e) {
-            throw new IllegalStateException("Google AccessToken 발급 실패", e);
+            log.warn("google access token refresh failed. msg={}", e.getMessage());
+        }
+    }
+
+    private GoogleCredentials credentials() throws IOException {
+        GoogleCredentials c = credentials;
+        if (c != null) return c;
+
+        synchronized (this) {
+            if (credentials == null) {
+                try (InputStream in = credentialsResource.getInputStream()) {
+                    credentials = GoogleCredentials.fromStream(in)
+                            .createScoped(List.of("https://www.googleapis.com/auth/cloud-platform"));
+                }
+            }
+            return credentials;
         }
     }
 }
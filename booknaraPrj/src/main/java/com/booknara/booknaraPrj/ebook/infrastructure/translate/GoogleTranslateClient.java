@@ -1,6 +1,8 @@
 package com.booknara.booknaraPrj.ebook.infrastructure.translate;
 
+import com.booknara.booknaraPrj.common.perf.ExternalHttpTraceInterceptor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
@@ -10,7 +12,8 @@ import java.util.List;
 import java.util.Map;
 
 @Component
-public class GoogleTranslateClient {
+@ConditionalOnProperty(name = "ebook.dict.mode", havingValue = "google", matchIfMissing = true)
+public class GoogleTranslateClient implements TranslateClient {
     private final String projectId;
 
     private final RestClient restClient;
@@ -22,9 +25,12 @@ public class GoogleTranslateClient {
     ) {
         this.tokenUtil = tokenUtil;
         this.projectId = projectId;
-        this.restClient = RestClient.create();
+        this.restClient = RestClient.builder()
+                .requestInterceptor(ExternalHttpTraceInterceptor.INSTANCE)
+                .build();
     }
 
+    @Override
     @SuppressWarnings("unchecked")
     public List<String> translate(List<String> texts) {
         String accessToken = tokenUtil.getAccessToken();
@@ -0,0 +1,22 @@
+package com.booknara.booknaraPrj.ebook.infrastructure.translate;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * [StubTranslateClient]
+ * 테스트/로컬용 번역 (ebook.dict.mode=stub): 원문에 표식만 붙여 돌려줍니다.
+ */
+@Component
+@ConditionalOnProperty(name = "ebook.dict.mode", havingValue = "stub")
+public class StubTranslateClient implements TranslateClient {
+
+    @Override
+    public List<String> translate(List<String> texts) {
+        return texts.stream()
+                .map(text -> "[ko] " + text)
+                .toList();
+    }
+}
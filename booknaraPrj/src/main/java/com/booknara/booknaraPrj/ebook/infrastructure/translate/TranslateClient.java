@@ -0,0 +1,13 @@
+package com.booknara.booknaraPrj.ebook.infrastructure.translate;
+
+import java.util.List;
+
+/**
+ * [TranslateClient]
+ * 영 → 한 번역 provider (ebook.dict.mode=google: Google Translation v3 / stub: 테스트용)
+ */
+public interface TranslateClient {
+
+    /** 입력 순서 그대로 번역 결과 반환 (한 번의 요청으로 처리) */
+    List<String> translate(List<String> texts);
+}
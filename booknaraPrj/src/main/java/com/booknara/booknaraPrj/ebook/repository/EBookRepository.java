@@ -3,7 +3,9 @@ package com.booknara.booknaraPrj.ebook.repository;
 import com.booknara.booknaraPrj.ebook.dto.MyEBookItemDTO;
 import com.booknara.booknaraPrj.ebook.dto.SaveCfiRequest;
 import lombok.RequiredArgsConstructor;
+import org.apache.ibatis.session.ExecutorType;
 import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
 import org.springframework.stereotype.Repository;
 
 import java.util.HashMap;
@@ -14,6 +16,7 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class EBookRepository {
     private final SqlSession session;
+    private final SqlSessionFactory sessionFactory;
 
     // ISBN13으로 도서 epub 검색
     public String getEpubByISBN13(String isbn) {
@@ -54,13 +57,27 @@ public class EBookRepository {
         return result == 1;
     }
 
+    // 대여중인 도서의 epub 파일 경로 (대여중이 아니면 null)
+    public String getReadableEpub(String userId, String isbn) {
+        Map<String, Object> map = new HashMap<>();
+        map.put("userId", userId);
+        map.put("isbn", isbn);
+        return session.selectOne("ebook.selectReadableEpub", map);
+    }
+
     // 회원의 대여중인 전자책 목록 검색
     public List<MyEBookItemDTO> getEBookList(String user) {
         return session.selectList("ebook.selectEBookList", user);
     }
 
-    // cfi 저장
-    public void setCfiToHistory(Map<String, String> map) {
-        session.insert("ebook.saveCfi", map);
+    // cfi 일괄 저장 (BATCH 실행기: 건별 왕복 없이 한 번에 전송 후 커밋)
+    public void saveCfiBatch(List<Map<String, String>> rows) {
+        try (SqlSession batch = sessionFactory.openSession(ExecutorType.BATCH)) {
+            for (Map<String, String> row : rows) {
+                batch.insert("ebook.saveCfi", row);
+            }
+            batch.flushStatements();
+            batch.commit();
+        }
     }
 }
@@ -0,0 +1,104 @@
+package com.booknara.booknaraPrj.ebook.service;
+
+import com.booknara.booknaraPrj.ebook.dto.SaveCfiRequest;
+import com.booknara.booknaraPrj.ebook.repository.EBookRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * [CfiWriteBuffer]
+ * 전자책 읽기 위치(CFI) 저장을 모아서 쓰는 write-behind 버퍼입니다.
+ * - 페이지를 넘길 때마다 오는 저장 요청은 (userId, isbn)별 최신 값으로 덮어쓰기만 합니다.
+ * - 주기적으로(기본 5초) 변경분만 MyBatis BATCH 실행기로 upsert(ebook.saveCfi) 하고, 종료 시에도 남은 값을 flush 합니다.
+ * - 조회는 버퍼 → flush 중인 값 → DB 순으로 읽어 이어보기 위치가 항상 최신입니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CfiWriteBuffer {
+
+    private final EBookRepository repo;
+
+    // 아직 DB에 쓰지 않은 최신 값
+    private final ConcurrentHashMap<Key, SaveCfiRequest> dirty = new ConcurrentHashMap<>();
+
+    // flush 중인 값 (DB 반영 전까지 조회에서 보이도록 유지)
+    private final ConcurrentHashMap<Key, SaveCfiRequest> inFlight = new ConcurrentHashMap<>();
+
+    private record Key(String userId, String isbn) {}
+
+    /** 최신 위치 기록 (DB 쓰기는 flush 때) */
+    public void put(String userId, String isbn, String cfi, String pct, String href) {
+        SaveCfiRequest value = new SaveCfiRequest();
+        value.setCfi(cfi);
+        value.setPct(pct);
+        value.setHref(href);
+        dirty.put(new Key(userId, isbn), value);
+    }
+
+    /** 버퍼에 있는 최신 위치 (없으면 null → DB 조회) */
+    public SaveCfiRequest get(String userId, String isbn) {
+        Key key = new Key(userId, isbn);
+        SaveCfiRequest value = dirty.get(key);
+        return value != null ? value : inFlight.get(key);
+    }
+
+    @Scheduled(fixedDelayString = "${ebook.cfi.flush-interval-ms:5000}")
+    public void flush() {
+        if (dirty.isEmpty()) return;
+
+        // 1) dirty → inFlight 로 이동 (이동 중 새로 들어온 값은 다음 flush 대상)
+        List<Map.Entry<Key, SaveCfiRequest>> batch = new ArrayList<>();
+        for (Map.Entry<Key, SaveCfiRequest> e : dirty.entrySet()) {
+            Key key = e.getKey();
+            SaveCfiRequest value = e.getValue();
+            inFlight.put(key, value);
+            if (dirty.remove(key, value)) {
+                batch.add(Map.entry(key, value));
+            } else {
+                inFlight.remove(key, value); // 그 사이 더 최신 값이 들어옴
+            }
+        }
+        if (batch.isEmpty()) return;
+
+        // 2) batch upsert
+        try {
+            List<Map<String, String>> rows = new ArrayList<>(batch.size());
+            for (Map.Entry<Key, SaveCfiRequest> e : batch) {
+                Map<String, String> row = new HashMap<>();
+                row.put("isbn", e.getKey().isbn());
+                row.put("userId", e.getKey().userId());
+                row.put("cfi", e.getValue().getCfi());
+                row.put("pct", e.getValue().getPct());
+                row.put("href", e.getValue().getHref());
+                rows.add(row);
+            }
+            repo.saveCfiBatch(rows);
+        } catch (RuntimeException ex) {
+            // 실패분은 더 최신 값이 없을 때만 되돌려 다음 flush에서 재시도
+            log.warn("cfi flush failed. size={} msg={}", batch.size(), ex.getMessage());
+            for (Map.Entry<Key, SaveCfiRequest> e : batch) {
+                dirty.putIfAbsent(e.getKey(), e.getValue());
+            }
+        } finally {
+            for (Map.Entry<Key, SaveCfiRequest> e : batch) {
+                inFlight.remove(e.getKey(), e.getValue());
+            }
+        }
+    }
+
+    /** 종료 시 남은 위치 저장 */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
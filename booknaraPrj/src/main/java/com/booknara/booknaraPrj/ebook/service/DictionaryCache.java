@@ -0,0 +1,98 @@
+package com.booknara.booknaraPrj.ebook.service;
+
+import com.booknara.booknaraPrj.ebook.dto.DictRespDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * [DictionaryCache]
+ * 번역까지 끝난 사전 결과(단어 → DictRespDTO) 캐시입니다.
+ * - 1차: 크기 제한 LRU (메모리, 반복 조회는 외부 호출 없이 즉시 반환)
+ * - 2차: 디스크(단어별 JSON 파일) — 재시작 후에도 번역 비용을 다시 내지 않도록 유지
+ */
+@Component
+@Slf4j
+public class DictionaryCache {
+
+    private static final int MAX_ENTRIES = 5_000;
+    private static final Pattern SAFE_NAME = Pattern.compile("[a-z0-9'-]{1,64}");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Path dir;
+
+    private final Map<String, DictRespDTO> memory = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, DictRespDTO> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    public DictionaryCache(@Value("${ebook.dict.cache-dir:${java.io.tmpdir}/booknara-dict}") String cacheDir) {
+        this.dir = Paths.get(cacheDir);
+    }
+
+    /** 조회용 키 (대소문자/공백 무시) */
+    public static String keyOf(String word) {
+        return word == null ? "" : word.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /** 메모리 → 디스크 순으로 조회 (디스크 히트는 메모리에 올림) */
+    public DictRespDTO get(String key) {
+        synchronized (memory) {
+            DictRespDTO hit = memory.get(key);
+            if (hit != null) return hit;
+        }
+
+        Path file = fileOf(key);
+        if (!Files.isRegularFile(file)) return null;
+
+        try {
+            DictRespDTO loaded = objectMapper.readValue(file.toFile(), DictRespDTO.class);
+            synchronized (memory) {
+                memory.put(key, loaded);
+            }
+            return loaded;
+        } catch (IOException e) {
+            log.debug("dict cache read failed. key={} msg={}", key, e.getMessage());
+            return null;
+        }
+    }
+
+    /** 메모리 + 디스크 저장 (디스크는 임시 파일 → rename으로 원자적 교체) */
+    public void put(String key, DictRespDTO value) {
+        synchronized (memory) {
+            memory.put(key, value);
+        }
+
+        try {
+            Files.createDirectories(dir);
+            Path tmp = Files.createTempFile(dir, "dict", ".tmp");
+            objectMapper.writeValue(tmp.toFile(), value);
+            Files.move(tmp, fileOf(key), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.debug("dict cache write failed. key={} msg={}", key, e.getMessage());
+        }
+    }
+
+    private Path fileOf(String key) {
+        // 영단어는 그대로, 그 외 문자가 섞이면 해시로 파일명 생성
+        String name = SAFE_NAME.matcher(key).matches()
+                ? key
+                : "h_" + DigestUtils.md5DigestAsHex(key.getBytes(StandardCharsets.UTF_8));
+        return dir.resolve(name + ".json");
+    }
+}
@@ -5,28 +5,33 @@ import com.booknara.booknaraPrj.ebook.dto.SaveCfiRequest;
 import com.booknara.booknaraPrj.ebook.repository.EBookRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.io.Resource;
-import org.springframework.core.io.UrlResource;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 
-import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Service
 @RequiredArgsConstructor
 public class EBookService {
     private final EBookRepository repo;
+    private final CfiWriteBuffer cfiWriteBuffer;
 
     @Value("${ebook.storage.path}")
     private String ebookBasePath;
 
+    // 반납 후에도 최대 TTL 동안만 접근이 유지됨
+    private static final long EPUB_ACCESS_TTL_MS = 60 * 1000L;
+    private static final int EPUB_ACCESS_MAX = 10_000;
+
+    // userId:isbn -> 검증된 epub 경로
+    private final ConcurrentHashMap<String, EpubAccess> epubAccessCache = new ConcurrentHashMap<>();
+
+    private record EpubAccess(Path path, long loadedAt) {}
+
     // 도서 epub 검색
     public String findEpub(String isbn) {
         return repo.getEpubByISBN13(isbn);
@@ -41,6 +46,10 @@ public class EBookService {
     }
 
     public SaveCfiRequest findCfi(String user, String isbn) {
+        // 아직 flush 되지 않은 최신 위치 우선
+        SaveCfiRequest buffered = cfiWriteBuffer.get(user, isbn);
+        if (buffered != null) return buffered;
+
         Map<String, String> map = new HashMap<>();
         map.put("userId", user);
         map.put("isbn", isbn);
@@ -60,33 +69,34 @@ public class EBookService {
         return repo.getEBookList(user);
     }
 
-    // epub파일 가져오기
-    public ResponseEntity<Resource> getEpubResource(String epub) throws IOException {
-        Path epubPath = Paths.get(ebookBasePath).resolve(epub);
-        System.out.println("Path : " + epubPath);
+    // 대여 검증 + epub 경로 조회 (짧은 TTL 캐시, 리더 재오픈/Range 요청마다 DB를 타지 않도록)
+    public Path findReadableEpubPath(String userId, String isbn) {
+        String key = userId + ":" + isbn;
+        long now = System.currentTimeMillis();
 
-        if (!Files.exists(epubPath)) {
-            System.out.println("Not Found");
-            return ResponseEntity.notFound().build();
+        EpubAccess cached = epubAccessCache.get(key);
+        if (cached != null && now - cached.loadedAt() < EPUB_ACCESS_TTL_MS) {
+            return cached.path();
         }
 
-        Resource resource = new UrlResource(epubPath.toUri());
-        System.out.println("resource : " + resource);
+        String epub = repo.getReadableEpub(userId, isbn);
+        if (epub == null) {
+            // 대여중이 아니면 캐시하지 않음 (대여 직후 바로 열 수 있도록)
+            epubAccessCache.remove(key);
+            return null;
+        }
+
+        Path base = Paths.get(ebookBasePath).toAbsolutePath().normalize();
+        Path path = base.resolve(epub).normalize();
+        if (!path.startsWith(base)) return null; // 저장소 밖 경로 차단
 
-        return ResponseEntity.ok()
-                .header(HttpHeaders.CONTENT_DISPOSITION, "inline; filename=\"" + resource.getFilename() + "\"")
-                .header(HttpHeaders.CONTENT_TYPE, "application/epub+zip")
-                .body(resource);
+        if (epubAccessCache.size() >= EPUB_ACCESS_MAX) epubAccessCache.clear();
+        epubAccessCache.put(key, new EpubAccess(path, now));
+        return path;
     }
 
-    // cfi 저장
+    // cfi 저장 (write-behind 버퍼에 기록, DB는 주기적으로 batch 반영)
     public void setCfi(String userId, String isbn, String cfi, String pct, String href) {
-        Map<String, String> map = new HashMap<>();
-        map.put("userId", userId);
-        map.put("isbn", isbn);
-        map.put("cfi", cfi);
-        map.put("pct", pct);
-        map.put("href", href);
-        repo.setCfiToHistory(map);
+        cfiWriteBuffer.put(userId, isbn, cfi, pct, href);
     }
 }
@@ -1,70 +1,73 @@
 package com.booknara.booknaraPrj.ebook.service;
 
 import com.booknara.booknaraPrj.ebook.dto.DictRespDTO;
+import com.booknara.booknaraPrj.ebook.dto.Definition;
 import com.booknara.booknaraPrj.ebook.dto.Meaning;
-import com.booknara.booknaraPrj.ebook.infrastructure.translate.GoogleTranslateClient;
+import com.booknara.booknaraPrj.ebook.infrastructure.dictionary.DictionaryClient;
+import com.booknara.booknaraPrj.ebook.infrastructure.translate.TranslateClient;
 import lombok.RequiredArgsConstructor;
-import org.springframework.core.ParameterizedTypeReference;
-import org.springframework.http.ResponseEntity;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestClient;
 
 import java.util.ArrayList;
 import java.util.List;
 
+/**
+ * [GoogleDictionaryService]
+ * 전자책 단어 사전: 캐시 → 사전 조회 1회 → 전체 뜻 일괄 번역 1회 → 캐시 저장
+ */
 @RequiredArgsConstructor    // lombok 생성자 주입
 @Service
+@Slf4j
 public class GoogleDictionaryService {
-    private final GoogleTranslateClient client;
+    private final DictionaryClient dictionaryClient;
+    private final TranslateClient translateClient;
+    private final DictionaryCache cache;
 
     public DictRespDTO getWordMean(String word) {
-        RestClient restClient = RestClient.builder()
-                .baseUrl("https://api.dictionaryapi.dev")
-                .build();
+        String key = DictionaryCache.keyOf(word);
+        if (key.isEmpty()) return null;
 
-        try {
-            ResponseEntity<List<DictRespDTO>> response = restClient.get()
-                    .uri("https://api.dictionaryapi.dev/api/v2/entries/en/{word}", word)
-                    .retrieve()
-                    .toEntity(new ParameterizedTypeReference<>(){});
+        DictRespDTO cached = cache.get(key);
+        if (cached != null) return cached;
 
-            DictRespDTO result = response.getBody().get(0);
-            System.out.println(result);
+        try {
+            DictRespDTO result = dictionaryClient.lookup(key);
+            if (result == null) return null;
 
-            // 번역
-            List<Meaning> meanings = result.getMeanings();
-            List<Meaning> transMeaning = new ArrayList<>();
+            List<Meaning> meanings = result.getMeanings() != null ? result.getMeanings() : List.of();
 
+            // 모든 뜻의 품사 + 정의를 한 리스트로 모아 번역 요청 1회
+            List<String> texts = new ArrayList<>();
             for (Meaning mean : meanings) {
-                List<String> translateStr = new ArrayList<>();
-                translateStr.add(mean.getPartOfSpeech());
-                mean.getDefinitions().forEach(def -> {
-                    translateStr.add(def.getDefinition());
-                });
+                texts.add(mean.getPartOfSpeech());
+                for (Definition def : definitionsOf(mean)) {
+                    texts.add(def.getDefinition());
+                }
+            }
 
-                System.out.println(translateStr);
+            List<String> translated = texts.isEmpty() ? List.of() : translateClient.translate(texts);
 
-                List<String> translateResult = client.translate(translateStr);
-                System.out.println(translateResult);
-                mean.setPartOfSpeech(translateResult.get(0));
-                System.out.println("1");
-                //translateResult.remove(0);
-                System.out.println("2");
-                for (int i = 1; i < translateResult.size(); i++) {
-                    mean.getDefinitions().get(i-1).setDefinition(translateResult.get(i));
+            // 번역 결과를 원래 순서대로 다시 배치
+            int idx = 0;
+            for (Meaning mean : meanings) {
+                mean.setPartOfSpeech(translated.get(idx++));
+                for (Definition def : definitionsOf(mean)) {
+                    def.setDefinition(translated.get(idx++));
                 }
-
-                transMeaning.add(mean);
             }
 
-            result.setMeanings_kor(transMeaning);
-            System.out.println(result);
-
+            result.setMeanings_kor(meanings);
+            cache.put(key, result);
             return result;
 
-        } catch(Exception e) {
-            e.printStackTrace();
+        } catch (Exception e) {
+            log.warn("dictionary lookup failed. word={} msg={}", key, e.getMessage());
             return null;
         }
     }
+
+    private List<Definition> definitionsOf(Meaning mean) {
+        return mean.getDefinitions() != null ? mean.getDefinitions() : List.of();
+    }
 }
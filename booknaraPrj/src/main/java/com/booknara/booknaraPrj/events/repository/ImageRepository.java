@@ -1,5 +1,6 @@
 package com.booknara.booknaraPrj.events.repository;
 
+import com.booknara.booknaraPrj.common.upload.StoredFileDTO;
 import com.booknara.booknaraPrj.events.dto.ImageDTO;
 import org.apache.ibatis.session.SqlSession;
 import org.springframework.stereotype.Repository;
@@ -31,6 +32,20 @@ public class ImageRepository {
         return sqlSession.insert("image.insertEventImage", param);
     }
 
+    // 업로드 저장 결과(타입/크기/해시/축소본)까지 함께 기록
+    public int insertEventImage(Long eventId, String imgType, StoredFileDTO stored) {
+        Map<String, Object> param = new HashMap<>();
+        param.put("eventId", eventId);
+        param.put("imgUrl", stored.getUrl());
+        param.put("imgType", imgType);
+        param.put("contentType", stored.getContentType());
+        param.put("fileSize", stored.getFileSize());
+        param.put("fileHash", stored.getFileHash());
+        param.put("variantWidths", stored.getVariantWidths());
+
+        return sqlSession.insert("image.insertEventImage", param);
+    }
+
     public List<ImageDTO> findAll() {
         return sqlSession.selectList("image.selectAll");
     }
@@ -1,5 +1,7 @@
 package com.booknara.booknaraPrj.events.service;
 
+import com.booknara.booknaraPrj.common.upload.StoredFileDTO;
+import com.booknara.booknaraPrj.common.upload.UploadStorageService;
 import com.booknara.booknaraPrj.events.dto.EventDTO;
 import com.booknara.booknaraPrj.events.repository.EventRepository2;
 import com.booknara.booknaraPrj.events.repository.ImageRepository;
@@ -7,23 +9,21 @@ import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.File;
 import java.util.List;
-import java.util.UUID;
 
 @Service
 public class MainEventService {
 
     private final EventRepository2 eventRepository;
     private final ImageRepository imageRepository;
+    private final UploadStorageService uploadStorageService;
 
-    // ✅ 업로드 폴더(로컬)
-    private final String uploadDir =
-            System.getProperty("user.home") + File.separator + "booknara_uploads";
-
-    public MainEventService(EventRepository2 eventRepository, ImageRepository imageRepository) {
+    public MainEventService(EventRepository2 eventRepository,
+                            ImageRepository imageRepository,
+                            UploadStorageService uploadStorageService) {
         this.eventRepository = eventRepository;
         this.imageRepository = imageRepository;
+        this.uploadStorageService = uploadStorageService;
     }
 
     // ✅ 탭별 조회
@@ -63,10 +63,7 @@ public class MainEventService {
         // 2) 파일 없으면 종료
         if (files == null || files.length == 0) return;
 
-        // 3) 저장 폴더 준비
-        new File(uploadDir).mkdirs();
-
-        // 4) 파일 순서대로 저장 + DB insert
+        // 3) 파일 순서대로 저장 + DB insert
         for (int i = 0; i < files.length; i++) {
             MultipartFile f = files[i];
             if (f == null || f.isEmpty()) continue;
@@ -92,27 +89,18 @@ public class MainEventService {
                 throw new IllegalArgumentException("jpg/png 파일만 업로드 가능합니다.");
             }
 
-            // ✅ 파일 저장명
-            String savedName = UUID.randomUUID() + extWithDot;
-            File dest = new File(uploadDir, savedName);
-
-            try {
-                f.transferTo(dest);
-            } catch (Exception e) {
-                throw new RuntimeException("이미지 파일 저장 실패", e);
-            }
-
-            // ✅ 브라우저에서 접근할 보여줄 URL
-            String imgUrl = "/uploads/" + savedName;
-
             // ✅ IMG_TYPE 결정
             String imgType;
             if (i == 0) imgType = ImageRepository.TYPE_THUMB;
             else if (i == 1) imgType = ImageRepository.TYPE_MAIN;
             else imgType = ImageRepository.TYPE_CONTENT;
 
-            // ✅ DB insert
-            imageRepository.insertEventImage(dto.getEventId(), imgUrl, imgType);
+            // ✅ 파일 저장 (내용 해시 파일명 + 타입/크기/해시 계산, THUMB/MAIN은 배너 축소본 생성)
+            boolean banner = !ImageRepository.TYPE_CONTENT.equals(imgType);
+            StoredFileDTO stored = uploadStorageService.store(f, ext, banner);
+
+            // ✅ DB insert (메타 포함)
+            imageRepository.insertEventImage(dto.getEventId(), imgType, stored);
         }
     }
 }
@@ -1,7 +1,6 @@
 package com.booknara.booknaraPrj.feed.review.mapper;
 
 import com.booknara.booknaraPrj.feed.review.dto.ReviewItemDTO;
-import com.booknara.booknaraPrj.feed.review.dto.ReviewSummaryDTO;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
@@ -15,12 +14,6 @@ import java.util.List;
 @Mapper
 public interface FeedReviewMapper {
 
-    /** [통계] 특정 도서의 평균 별점 및 총 리뷰 수 조회 */
-    ReviewSummaryDTO selectSummaryByIsbn(@Param("isbn13") String isbn13);
-
-    /** [페이징] 특정 도서의 전체 리뷰 개수 카운트 */
-    long countByIsbn(@Param("isbn13") String isbn13);
-
     /** [조회] 특정 도서의 리뷰 목록 (비로그인용/기본) */
     List<ReviewItemDTO> selectPageByIsbn(@Param("isbn13") String isbn13,
                                          @Param("offset") int offset,
@@ -66,6 +59,9 @@ public interface FeedReviewMapper {
     /** [유틸] 피드 ID로 대상 도서의 ISBN 조회 */
     String selectIsbnByFeedId(@Param("feedId") String isbn13);
 
+    /** [통계 반영용] 노출 중인 리뷰의 ISBN/별점 조회 (동시 수정 방지를 위해 행 잠금) */
+    ReviewItemDTO selectActiveReviewForUpdate(@Param("feedId") String feedId);
+
     /** [삭제] 리뷰 피드 삭제 (작성자 본인 확인 필수) */
     int deleteReviewFeedByOwner(@Param("feedId") String feedId,
                                 @Param("userId") String userId);
@@ -1,7 +1,10 @@
 package com.booknara.booknaraPrj.feed.review.service;
 
+import com.booknara.booknaraPrj.bookDetail.service.BookDetailCache;
 import com.booknara.booknaraPrj.feed.review.dto.*;
 import com.booknara.booknaraPrj.feed.review.mapper.FeedReviewMapper;
+import com.booknara.booknaraPrj.reviewstatus.dto.ReviewStatusDTO;
+import com.booknara.booknaraPrj.reviewstatus.service.ReviewStatusService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -23,33 +26,28 @@ import java.util.List;
 public class FeedReviewService {
 
     private final FeedReviewMapper mapper;
+    private final ReviewStatusService reviewStatusService;
+    private final BookDetailCache bookDetailCache;
 
     /**
      * [ISBN별 리뷰 통계 조회]
-     * 특정 도서의 총 리뷰 수와 평균 평점을 계산합니다.
+     * 리뷰 쓰기 시 증분 갱신되는 REVIEW_STAT에서 총 리뷰 수와 평균 평점을 읽어옵니다. (요청마다 집계하지 않음)
      * @return 리뷰가 없는 경우 기본값(0, 0.0)이 채워진 DTO 반환
      */
     public ReviewSummaryDTO getSummary(String isbn13) {
-        ReviewSummaryDTO summary = mapper.selectSummaryByIsbn(isbn13);
+        ReviewStatusDTO stat = reviewStatusService.getByIsbn(isbn13);
 
         // 데이터가 없는 도서의 경우 Null-Safety 처리
-        if (summary == null) {
-            summary = new ReviewSummaryDTO();
-            summary.setIsbn13(isbn13);
-            summary.setReviewCnt(0);
-            summary.setRatingAvg(0.0);
-            return summary;
-        }
-
-        if (summary.getReviewCnt() == null) summary.setReviewCnt(0);
-        if (summary.getRatingAvg() == null) summary.setRatingAvg(0.0);
-
+        ReviewSummaryDTO summary = new ReviewSummaryDTO();
+        summary.setIsbn13(isbn13);
+        summary.setReviewCnt(stat != null && stat.getReviewCnt() != null ? stat.getReviewCnt() : 0);
+        summary.setRatingAvg(stat != null && stat.getRatingAvg() != null ? stat.getRatingAvg() : 0.0);
         return summary;
     }
 
     /** 특정 도서의 전체 리뷰 개수 조회 */
     public long count(String isbn13) {
-        return mapper.countByIsbn(isbn13);
+        return getSummary(isbn13).getReviewCnt();
     }
 
     /**
@@ -62,7 +60,9 @@ public class FeedReviewService {
         int safeSize = Math.min(Math.max(size, 1), 50);
         int offset = (safePage - 1) * safeSize;
 
-        long total = mapper.countByIsbn(isbn13);
+        // 통계 1회 조회로 총 개수와 요약을 함께 사용
+        ReviewSummaryDTO summary = getSummary(isbn13);
+        long total = summary.getReviewCnt();
 
         // 데이터가 없을 경우 빈 리스트 반환, 있을 경우 mineYn 포함 쿼리 실행
         List<ReviewItemDTO> items = (total == 0)
@@ -71,7 +71,7 @@ public class FeedReviewService {
 
         ReviewListDTO dto = new ReviewListDTO();
         dto.setIsbn13(isbn13);
-        dto.setSummary(getSummary(isbn13)); // 요약 통계 함께 포함
+        dto.setSummary(summary); // 요약 통계 함께 포함
         dto.setItems(items);
         dto.setPage(safePage);
         dto.setSize(safeSize);
@@ -149,12 +149,19 @@ public class FeedReviewService {
 
             mapper.insertReviewFeed(feedId, userId, req.getIsbn13(), req.getTitle(), req.getContent());
             mapper.insertReviewDetail(feedId, req.getRate());
+            reviewStatusService.applyReviewChange(req.getIsbn13(), null, req.getRate());
+            bookDetailCache.evict(req.getIsbn13()); // 상세 화면 리뷰 통계/미리보기 갱신
             return feedId;
         } else {
-            // [수정 케이스] 소유자 확인을 포함한 업데이트 수행
+            // [수정 케이스] 기존 별점을 잠그고 읽은 뒤, 소유자 확인을 포함한 업데이트 수행
+            ReviewItemDTO before = mapper.selectActiveReviewForUpdate(myFeedId);
             int u1 = mapper.updateReviewFeedByOwner(myFeedId, userId, req.getTitle(), req.getContent());
             if (u1 != 1) throw new IllegalStateException("본인 리뷰만 수정할 수 있습니다.");
             mapper.updateReviewDetail(myFeedId, req.getRate());
+            if (before != null) {
+                reviewStatusService.applyReviewChange(req.getIsbn13(), before.getRate(), req.getRate());
+            }
+            bookDetailCache.evict(req.getIsbn13());
             return myFeedId;
         }
     }
@@ -164,9 +171,17 @@ public class FeedReviewService {
     public void deleteMyReview(String feedId, String userId) {
         if (userId == null || userId.isBlank()) throw new IllegalStateException("로그인이 필요합니다.");
 
+        // 노출 중인 리뷰였다면 통계에서 제외해야 하므로 삭제 전에 별점을 잠그고 읽음
+        ReviewItemDTO before = mapper.selectActiveReviewForUpdate(feedId);
+
         int updated = mapper.deleteReviewFeedByOwner(feedId, userId);
         if (updated != 1) {
             throw new IllegalStateException("삭제 권한이 없거나 이미 삭제된 리뷰입니다.");
         }
+
+        if (before != null) {
+            reviewStatusService.applyReviewChange(before.getIsbn13(), before.getRate(), null);
+            bookDetailCache.evict(before.getIsbn13());
+        }
     }
 }
\ No newline at end of file
@@ -1,11 +1,13 @@
 package com.booknara.booknaraPrj.login_signup.controller;
 
 
-import com.booknara.booknaraPrj.login_signup.mapper.UserMallangMapper;
-import com.booknara.booknaraPrj.login_signup.mapper.UserMapper;
+import com.booknara.booknaraPrj.common.ApiRequestUtils;
+import com.booknara.booknaraPrj.common.userstatus.UserStatusCache;
 import com.booknara.booknaraPrj.security.CustomUserDetails;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.Authentication;
+import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ModelAttribute;
 
@@ -13,25 +15,27 @@ import org.springframework.web.bind.annotation.ModelAttribute;
 @RequiredArgsConstructor
 public class HeaderAdvice {
 
-    private final UserMallangMapper userMallangMapper;
+    private final UserStatusCache userStatusCache;
 
-    @ModelAttribute("profileImage")
-    public String profileImage(Authentication authentication) {
+    @ModelAttribute
+    public void profileImage(Authentication authentication, HttpServletRequest request, Model model) {
+
+        // JSON/API 응답에는 헤더가 없으므로 건너뜀
+        if (ApiRequestUtils.isApiRequest(request)) return;
 
         // 로그인 안 했을 때
         if (authentication == null || !authentication.isAuthenticated()) {
-            return null;
+            return;
         }
 
         Object principal = authentication.getPrincipal();
         if (!(principal instanceof CustomUserDetails)) {
-            return null;
+            return;
         }
 
         CustomUserDetails user = (CustomUserDetails) principal;
 
-        // USE_IMG 기준으로 말랑이 or 프로필 이미지 반환
-        return userMallangMapper.selectProfileImage(user.getUserId());
+        // USE_IMG 기준으로 말랑이 or 프로필 이미지 (사용자 상태 캐시)
+        model.addAttribute("profileImage", userStatusCache.get(user.getUserId()).getProfileImage());
     }
 }
-
@@ -1,31 +1,34 @@
 package com.booknara.booknaraPrj.login_signup.service;
 
+import com.booknara.booknaraPrj.common.mail.MailOutboxService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+
 @Service
 @RequiredArgsConstructor
 public class EmailServiceImpl implements EmailService {
 
-    private final JavaMailSender mailSender;
+    private final MailOutboxService mailOutboxService;
+
+    /** 인증코드 유효시간 (AccountFindController 검증 기준과 동일) - 지나면 outbox 재시도도 중단 */
+    private static final Duration VERIFY_CODE_TTL = Duration.ofMinutes(5);
 
+    /** 발송 요청만 저장하고 바로 반환 (실제 SMTP 발송은 MailOutboxService 워커가 처리) */
     @Override
     public void sendVerifyCode(String to, String code) {
 
-        SimpleMailMessage message = new SimpleMailMessage();
-        message.setTo(to);
-        message.setSubject("[북나라] 비밀번호 재설정 인증코드");
-        message.setText(
+        mailOutboxService.enqueue(
+                to,
+                "[북나라] 비밀번호 재설정 인증코드",
                 "안녕하세요.\n\n" +
                         "비밀번호 재설정을 위한 인증코드입니다.\n\n" +
                         "인증코드: " + code + "\n\n" +
                         "5분 이내에 입력해주세요.\n\n" +
-                        "감사합니다.\n북나라 드림"
+                        "감사합니다.\n북나라 드림",
+                VERIFY_CODE_TTL
         );
-
-        mailSender.send(message);
     }
 }
 
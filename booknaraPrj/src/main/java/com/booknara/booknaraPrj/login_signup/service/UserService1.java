@@ -1,5 +1,6 @@
 package com.booknara.booknaraPrj.login_signup.service;
 
+import com.booknara.booknaraPrj.admin.statistics.demographics.UserDemographicCounter;
 import com.booknara.booknaraPrj.login_signup.User;
 import com.booknara.booknaraPrj.login_signup.dto.SignupRequest;
 import com.booknara.booknaraPrj.login_signup.dto.SocialAccount;
@@ -24,6 +25,7 @@ public class UserService1 {
     private final UserMallangMapper userMallangMapper;
     private final PasswordEncoder passwordEncoder;
     private final SocialAccountMapper socialAccountMapper;
+    private final UserDemographicCounter demographicCounter;
     //회원가입
     @Transactional
     public void signup(SignupRequest req) {
@@ -60,6 +62,7 @@ public class UserService1 {
 
         userMapper.insertUser(user);
         userMallangMapper.insertRandomMallang(user.getUserId());
+        demographicCounter.userAdded(user.getBirthday(), user.getGender(), user.getUserState());
     }
 
 
@@ -191,6 +194,7 @@ public class UserService1 {
                 .build();
 
         userMapper.insertUser(user);
+        demographicCounter.userAdded(null, null, user.getUserState());
 
         SocialAccount sa = SocialAccount.builder()
                 .socialId(UUID.randomUUID().toString())
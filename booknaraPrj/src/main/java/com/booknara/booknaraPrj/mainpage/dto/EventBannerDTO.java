@@ -11,4 +11,5 @@ public class EventBannerDTO {
     private Long eventId;
     private String eventTitle;
     private String imgUrl;
+    private String variantWidths; // 배너 축소본 가로폭 ("640,1280"), 없으면 null → 원본만 사용
 }
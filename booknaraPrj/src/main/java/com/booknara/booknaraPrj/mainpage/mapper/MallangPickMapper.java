@@ -10,8 +10,5 @@ import java.util.List;
 @Mapper
 public interface MallangPickMapper {
 
-    List<MallangPickDTO> findRandomBooksByGenre(
-            @Param("genreId") int genreId,
-            @Param("limit") int limit
-    );
+    List<MallangPickDTO> findBooksByIsbns(@Param("isbns") List<String> isbns);
 }
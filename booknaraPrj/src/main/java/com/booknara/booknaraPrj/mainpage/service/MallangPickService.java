@@ -1,5 +1,6 @@
 package com.booknara.booknaraPrj.mainpage.service;
 
+import com.booknara.booknaraPrj.common.sampling.BookSampler;
 import com.booknara.booknaraPrj.login_signup.mapper.UserPreferGenreMapper;
 import com.booknara.booknaraPrj.mainpage.dto.HashtagDTO;
 import com.booknara.booknaraPrj.mainpage.dto.MallangPickDTO;
@@ -15,6 +16,7 @@ public class MallangPickService {
 
     private final UserPreferGenreMapper userPreferGenreMapper;
     private final MallangPickMapper mallangPickMapper;
+    private final BookSampler bookSampler;
 
     // 🔖 말랑이 고정 해시태그 풀
     private static final List<HashtagDTO> TAG_POOL = List.of(
@@ -78,7 +80,21 @@ public class MallangPickService {
        도서 3권 추천
        =============================== */
     public List<MallangPickDTO> pickBooks(int genreId) {
-        return mallangPickMapper.findRandomBooksByGenre(genreId, 3);
+        // 1️⃣ 장르 하위 트리에서 메모리 표본 3권 (ORDER BY RAND() 없음)
+        List<String> isbns = bookSampler.sampleByGenre(genreId, 3);
+        if (isbns.isEmpty()) return List.of();
+
+        // 2️⃣ 뽑힌 3권만 PK 조회 후 추출 순서대로 정렬
+        Map<String, MallangPickDTO> byIsbn = new HashMap<>();
+        for (MallangPickDTO dto : mallangPickMapper.findBooksByIsbns(isbns)) {
+            byIsbn.put(dto.getIsbn13(), dto);
+        }
+        List<MallangPickDTO> result = new ArrayList<>(isbns.size());
+        for (String isbn : isbns) {
+            MallangPickDTO dto = byIsbn.get(isbn);
+            if (dto != null) result.add(dto);
+        }
+        return result;
     }
 
     /* ===============================
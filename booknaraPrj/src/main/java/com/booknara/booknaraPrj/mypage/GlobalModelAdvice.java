@@ -1,9 +1,12 @@
 package com.booknara.booknaraPrj.mypage;
 
+import com.booknara.booknaraPrj.common.ApiRequestUtils;
+import com.booknara.booknaraPrj.common.userstatus.UserStatusCache;
 import com.booknara.booknaraPrj.login_signup.User;
 import com.booknara.booknaraPrj.login_signup.service.UserService1;
 import com.booknara.booknaraPrj.mypage.mylibrary.MyLibraryService;
 import com.booknara.booknaraPrj.security.CustomUserDetails;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -18,9 +21,13 @@ public class GlobalModelAdvice {
 
     private final UserService1 userService1;
     private final MyLibraryService myLibraryService;
+    private final UserStatusCache userStatusCache;
 
     @ModelAttribute
-    public void addMyPageSidebarAttributes(Model model) {
+    public void addMyPageSidebarAttributes(Model model, HttpServletRequest request) {
+
+        // JSON/API 응답에는 사이드바가 없으므로 건너뜀
+        if (ApiRequestUtils.isApiRequest(request)) return;
 
         Authentication auth = SecurityContextHolder
                 .getContext()
@@ -28,10 +35,7 @@ public class GlobalModelAdvice {
 
         // 로그인 안 된 경우 → 사이드바 데이터 주입 안 함
         if (auth == null || !auth.isAuthenticated()) return;
-        if ("anonymousUser".equals(auth.getPrincipal())) return;
-
-        CustomUserDetails principal =
-                (CustomUserDetails) auth.getPrincipal();
+        if (!(auth.getPrincipal() instanceof CustomUserDetails principal)) return;
 
         String userId = principal.getUserId();
 
@@ -56,18 +60,13 @@ public class GlobalModelAdvice {
 
         /* ===============================
            2️⃣ 반납 / 연체 상태 메시지
-           (기존 MyPageController 로직 재사용)
+           (사용자 상태 캐시의 가장 가까운 반납일 기준)
            =============================== */
 
-        var status = myLibraryService.buildRentalStatusByDb(userId);
+        var status = myLibraryService.buildRentalStatus(userStatusCache.get(userId).getNearestDueDate());
 
         model.addAttribute("statusText", status.get("statusText"));
         model.addAttribute("statusValue", status.get("statusValue"));
         model.addAttribute("statusLevel", status.get("statusLevel"));
-
-        /* ===============================
-           디버그 로그 (확인용)
-           =============================== */
-        System.out.println("🔥 GlobalModelAdvice(sidebar) userId=" + userId);
     }
 }
@@ -1,5 +1,6 @@
 package com.booknara.booknaraPrj.mypage.info;
 
+import com.booknara.booknaraPrj.common.userstatus.UserStatusCache;
 import com.booknara.booknaraPrj.login_signup.mapper.UserMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -10,6 +11,7 @@ public class MyInfoService {
 
     private final MyInfoMapper myInfoMapper;
     private final UserMapper userMapper;
+    private final UserStatusCache userStatusCache;
 
     public MyInfoDto getMyInfo(String userId) {
         return myInfoMapper.selectMyInfo(userId);
@@ -17,6 +19,7 @@ public class MyInfoService {
 
     public void updateMyInfo(MyInfoDto dto) {
         myInfoMapper.updateMyInfo(dto);
+        userStatusCache.evict(dto.getUserId());
     }
 
     public boolean isProfileNameAvailableForUpdate(String profileNm, String userId) {
@@ -1,5 +1,6 @@
 package com.booknara.booknaraPrj.mypage.myinquiry;
 
+import com.booknara.booknaraPrj.common.supportinbox.SupportInboxService;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
@@ -18,6 +19,7 @@ import java.util.UUID;
 public class MyInquiryService {
 
     private final MyInquiryMapper inquiryMapper;
+    private final SupportInboxService supportInboxService;
 
     @Value("${uploads.path}")
     private String uploadDir;
@@ -41,6 +43,7 @@ public class MyInquiryService {
 
         // 2️⃣ 문의 INSERT
         inquiryMapper.insertInquiry(dto);
+        supportInboxService.syncInquiry(inqId);
 
         // 3️⃣ 파일 없으면 여기서 끝
         if (files == null || files.isEmpty()) {
@@ -65,6 +68,7 @@ public class MyInquiryService {
                 filePaths[1],
                 filePaths[2]
         );
+        supportInboxService.syncInquiry(inqId);
 
 
     }
@@ -1,6 +1,7 @@
 package com.booknara.booknaraPrj.mypage.mylibrary;
 
 
+import com.booknara.booknaraPrj.common.perf.RequestTrace;
 import kr.co.bootpay.pg.Bootpay;
 import lombok.RequiredArgsConstructor;
 
@@ -28,13 +29,26 @@ public class BootpayService {
 
             Bootpay bootpay = new Bootpay(restApiKey, privateKey);
 
-            HashMap<String, Object> tokenRes = bootpay.getAccessToken();
+            // Bootpay SDK 는 자체 HTTP 클라이언트를 쓰므로 외부 호출 시간을 직접 기록
+            HashMap<String, Object> tokenRes;
+            long start = System.nanoTime();
+            try {
+                tokenRes = bootpay.getAccessToken();
+            } finally {
+                RequestTrace.addHttp(System.nanoTime() - start);
+            }
             // 공식 예제는 error_code로 성공/실패 판단하는 패턴을 많이 씀 :contentReference[oaicite:7]{index=7}
             if (tokenRes.get("error_code") != null) {
                 return Map.of("success", false, "message", "토큰 발급 실패", "data", tokenRes);
             }
 
-            HashMap<String, Object> receiptRes = bootpay.getReceipt(receiptId);
+            HashMap<String, Object> receiptRes;
+            start = System.nanoTime();
+            try {
+                receiptRes = bootpay.getReceipt(receiptId);
+            } finally {
+                RequestTrace.addHttp(System.nanoTime() - start);
+            }
             if (receiptRes.get("error_code") != null) {
                 return Map.of("success", false, "message", "결제 조회 실패", "data", receiptRes);
             }
@@ -44,8 +44,6 @@ public interface MyLibraryMapper {
 
 
 
-    // ===== 반납 / 연장 =====
-    int updateReturnDone(@Param("lendId") String lendId);
-
+    // ===== 연장 (반납은 BookCommandService.confirmReturn) =====
     int updateExtendLend(@Param("lendId") String lendId);
 }
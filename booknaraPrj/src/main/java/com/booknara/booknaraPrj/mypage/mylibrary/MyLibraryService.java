@@ -1,9 +1,16 @@
 package com.booknara.booknaraPrj.mypage.mylibrary;
 
+import com.booknara.booknaraPrj.admin.statistics.rollup.LendStatsRecorder;
+import com.booknara.booknaraPrj.bookcirculation.command.service.BookCommandService;
+import com.booknara.booknaraPrj.common.membership.UserMembershipCache;
+import com.booknara.booknaraPrj.common.userstatus.UserStatusCache;
+import com.booknara.booknaraPrj.security.uitil.LoginUserUtils;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
@@ -14,6 +21,10 @@ import java.util.stream.Collectors;
 public class MyLibraryService {
 
     private final MyLibraryMapper myLibraryMapper;
+    private final UserStatusCache userStatusCache;
+    private final UserMembershipCache userMembershipCache;
+    private final LendStatsRecorder lendStatsRecorder;
+    private final BookCommandService bookCommandService;
 
     public List<MyLendDto> getCurrentLends(String userId) {
         List<MyLendDto> list = myLibraryMapper.selectCurrentLends(userId);
@@ -80,6 +91,34 @@ public class MyLibraryService {
         return result;
     }
 
+    // ✅ 가장 이른 반납예정일 하나로 상태메시지 만들기 (사용자 상태 캐시용, DB 조회 없음)
+    //  - 미반납 중 가장 이른 반납예정일이 지났으면 연체(D+N), 아니면 D-n
+    public Map<String, String> buildRentalStatus(LocalDateTime nearestDueDate) {
+        Map<String, String> result = new HashMap<>();
+        LocalDate today = LocalDate.now(ZoneId.of("Asia/Seoul"));
+
+        if (nearestDueDate == null) {
+            result.put("statusText", "대여중인 도서 없음");
+            result.put("statusValue", "");
+            result.put("statusLevel", "none");
+            return result;
+        }
+
+        if (nearestDueDate.isBefore(LocalDateTime.now(ZoneId.of("Asia/Seoul")))) {
+            long overdueDays = ChronoUnit.DAYS.between(nearestDueDate.toLocalDate(), today);
+            result.put("statusText", "대여 불가능");
+            result.put("statusValue", "D+" + Math.max(1L, overdueDays));
+            result.put("statusLevel", "danger");
+            return result;
+        }
+
+        long days = ChronoUnit.DAYS.between(today, nearestDueDate.toLocalDate());
+        result.put("statusText", "반납 ");
+        result.put("statusValue", "D-" + Math.max(0L, days));
+        result.put("statusLevel", (days <= 2 ? "danger" : "warn"));
+        return result;
+    }
+
     public Map<LocalDate, List<MyLendDto>> getLendHistoryGroups(String userId) {
         List<MyLendDto> history = myLibraryMapper.selectLendHistory(userId);
         if (history == null || history.isEmpty()) return Collections.emptyMap();
@@ -209,12 +248,14 @@ public class MyLibraryService {
         // 없으면 새로 생성(Y)
         if (yn == null) {
             myLibraryMapper.insertBookmark(userId, isbn13);
+            userMembershipCache.bookmarkChanged(userId, isbn13, true);
             return "Y";
         }
 
         // 있으면 토글
         String next = "Y".equalsIgnoreCase(yn) ? "N" : "Y";
         myLibraryMapper.updateBookmarkYn(userId, isbn13, next);
+        userMembershipCache.bookmarkChanged(userId, isbn13, "Y".equals(next));
         return next;
     }
 
@@ -223,7 +264,10 @@ public class MyLibraryService {
         return list == null ? List.of() : list;
     }
 
+    @Transactional
     public boolean cancelReservation(String userId, String rsvId) {
+        // ✅ 대기/홀드 중인 예약은 먼저 취소 처리 → 대기열 제거, 홀드였다면 다음 대기자에게 홀드 전환
+        bookCommandService.cancelReserve(rsvId, userId);
         // ✅ 본인 예약만 삭제되게 userId 같이 조건 걸기
         return myLibraryMapper.deleteReservation(userId, rsvId) > 0;
     }
@@ -235,10 +279,14 @@ public class MyLibraryService {
 
     // ===== 반납 / 연장 =====
     public void returnBook(String lendId) {
-        myLibraryMapper.updateReturnDone(lendId);
+        // ✅ 반납 확정 공통 로직 사용: 통계 반영 + 상태 캐시 무효화 + 반납 도서를 예약 대기자에게 홀드 전환
+        bookCommandService.confirmReturn(lendId, LoginUserUtils.getUserId());
     }
 
     public void extendBook(String lendId) {
-        myLibraryMapper.updateExtendLend(lendId);
+        if (myLibraryMapper.updateExtendLend(lendId) == 1) {
+            lendStatsRecorder.extended(lendId);
+        }
+        userStatusCache.evict(LoginUserUtils.getUserId());
     }
 }
@@ -1,5 +1,7 @@
 package com.booknara.booknaraPrj.mypage.withdraw;
 
+import com.booknara.booknaraPrj.admin.statistics.demographics.UserDemographicCounter;
+import com.booknara.booknaraPrj.common.userstatus.UserStatusCache;
 import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
@@ -16,6 +18,8 @@ import java.security.SecureRandom;
 public class WithdrawService {
 
     private final WithdrawMapper withdrawMapper;
+    private final UserStatusCache userStatusCache;
+    private final UserDemographicCounter demographicCounter;
 
     // ✅ 프로젝트에 이미 PasswordEncoder가 있으면 그걸 주입해서 써도 됨
     private final BCryptPasswordEncoder encoder = new BCryptPasswordEncoder();
@@ -68,7 +72,9 @@ public class WithdrawService {
         if (!pwOk) return false;
 
         // ✅ 삭제 X, 상태만 변경
+        demographicCounter.stateChanging(userId, "WITHDRAWN");
         withdrawMapper.updateUserState(userId, "WITHDRAWN");
+        userStatusCache.evict(userId);
         return true;
     }
 
@@ -2,12 +2,15 @@ package com.booknara.booknaraPrj.notification.controller;
 
 import com.booknara.booknaraPrj.notification.dto.NotificationDTO;
 import com.booknara.booknaraPrj.notification.dto.NotificationQueryParam;
+import com.booknara.booknaraPrj.notification.service.NotificationPushService;
 import com.booknara.booknaraPrj.notification.service.NotificationService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.HashMap;
 import java.util.List;
@@ -17,8 +20,16 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class NotificationController {
     private final NotificationService service;
+    private final NotificationPushService pushService;
 
-    // 로그인시 풀링
+    // 로그인시 SSE 구독 (미읽음 카운트 변경 시 서버가 push)
+    @ResponseBody
+    @GetMapping(value = "/notifications/unread/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter unreadStream(Authentication auth) {
+        return pushService.subscribe(auth.getName());
+    }
+
+    // SSE 미지원 브라우저용 풀링
     @ResponseBody
     @GetMapping("/notifications/unread/count")
     public Map<String, Integer> unreadCount(Authentication auth) {
@@ -32,12 +43,12 @@ public class NotificationController {
         return result;
     }
 
-    // 알림 탭 클릭시 알림 가져오기
+    // 알림 탭 클릭시 알림 가져오기 (cursorCreatedAt/cursorNotiId 전달 시 keyset 페이징)
     @ResponseBody
     @GetMapping("/notification")
     public List<NotificationDTO> getNoti(NotificationQueryParam nqp,
                                          @RequestParam String tab,
-                                         @RequestParam int page,
+                                         @RequestParam(defaultValue = "1") int page,
                                          @RequestParam int size,
                                          Authentication auth) {
         String userId = auth.getName();
@@ -64,13 +75,13 @@ public class NotificationController {
         return ResponseEntity.ok().build();
     }
 
-    // 알림 전체 읽음 처리
+    // 알림 전체 읽음 처리 (읽음 처리된 건수 리턴)
     @PatchMapping("/notification/read-all/{tab}")
-    public ResponseEntity<Void> readAll(@PathVariable String tab,
-                                        Authentication auth) {
+    public ResponseEntity<Integer> readAll(@PathVariable String tab,
+                                           Authentication auth) {
         String userId = auth.getName();
-        service.notificationReadAll(userId, tab);
-        return ResponseEntity.ok().build();
+        int updated = service.notificationReadAll(userId, tab);
+        return ResponseEntity.ok(updated);
     }
 
     // 알림 전체 보기 뷰어
@@ -1,7 +1,9 @@
 package com.booknara.booknaraPrj.notification.dto;
 
 import lombok.Data;
+import org.springframework.format.annotation.DateTimeFormat;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Data
@@ -11,4 +13,13 @@ public class NotificationQueryParam {
     private List<String> targetTypes;
     private int limit;
     private int offset;
+
+    // keyset 커서: 직전 페이지 마지막 알림의 (createdAt, notiId)
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime cursorCreatedAt;
+    private Long cursorNotiId;
+
+    public boolean hasCursor() {
+        return cursorCreatedAt != null && cursorNotiId != null;
+    }
 }
@@ -2,6 +2,9 @@ package com.booknara.booknaraPrj.notification.repository;
 
 import com.booknara.booknaraPrj.notification.dto.NotificationEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -9,10 +12,15 @@ import java.util.Optional;
 public interface NotificationRepository extends JpaRepository<NotificationEntity, Long> {
     Optional<NotificationEntity> findByNotiIdAndUserId(Long notiId, String userId);
 
-    List<NotificationEntity> findByUserIdAndCheckYnAndTargetTypeIn(
-            String userId, char checkYn, List<String> targetTypes
-    );
+    // 탭별 전체 읽음: 조건부 UPDATE 한 번으로 처리하고 변경된 행 수 리턴
+    @Modifying(clearAutomatically = true)
+    @Query(value = "UPDATE NOTIFICATION SET CHECK_YN = 'Y' " +
+            "WHERE USER_ID = :userId AND CHECK_YN = 'N' AND TARGET_TYPE IN (:targetTypes)", nativeQuery = true)
+    int markAllReadByTargetTypes(@Param("userId") String userId,
+                                 @Param("targetTypes") List<String> targetTypes);
 
     // ALL 탭용
-    List<NotificationEntity> findByUserIdAndCheckYn(String userId, char checkYn);
+    @Modifying(clearAutomatically = true)
+    @Query(value = "UPDATE NOTIFICATION SET CHECK_YN = 'Y' WHERE USER_ID = :userId AND CHECK_YN = 'N'", nativeQuery = true)
+    int markAllRead(@Param("userId") String userId);
 }
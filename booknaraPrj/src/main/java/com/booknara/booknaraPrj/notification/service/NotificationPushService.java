@@ -0,0 +1,146 @@
+package com.booknara.booknaraPrj.notification.service;
+
+import com.booknara.booknaraPrj.notification.repository.NotificationMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * [NotificationPushService]
+ * 헤더 알림 뱃지용 미읽음 카운트를 메모리에 보관하고, SSE로 연결된 클라이언트에 변경분을 push 합니다.
+ * - 카운터는 사용자의 첫 SSE 연결 시(콜드 스타트)에만 DB(countUnread)에서 읽어옵니다.
+ * - 이후 알림 생성/읽음 처리 시 트랜잭션 커밋 후 카운터를 증감하고 즉시 push 합니다.
+ * - 사용자의 마지막 연결이 끊기면 카운터도 제거되어, 다음 연결 시 DB 값으로 다시 맞춰집니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationPushService {
+
+    private static final long EMITTER_TIMEOUT_MS = 30 * 60 * 1000L; // 30분 후 클라이언트가 자동 재연결
+    private static final String EVENT_NAME = "unread";
+
+    private final NotificationMapper mapper;
+
+    // userId -> 미읽음 알림 수 (SSE 연결 중인 사용자만 보관)
+    private final ConcurrentHashMap<String, AtomicInteger> unreadCounts = new ConcurrentHashMap<>();
+
+    // userId -> 연결된 emitter 목록 (탭 여러 개 허용)
+    private final ConcurrentHashMap<String, CopyOnWriteArrayList<SseEmitter>> emitters = new ConcurrentHashMap<>();
+
+    /** SSE 구독: 카운터를 준비하고 현재 값을 첫 이벤트로 내려보냄 */
+    public SseEmitter subscribe(String userId) {
+        SseEmitter emitter = new SseEmitter(EMITTER_TIMEOUT_MS);
+
+        emitters.computeIfAbsent(userId, id -> new CopyOnWriteArrayList<>()).add(emitter);
+        emitter.onCompletion(() -> removeEmitter(userId, emitter));
+        emitter.onTimeout(() -> removeEmitter(userId, emitter));
+        emitter.onError(e -> removeEmitter(userId, emitter));
+
+        int count = unreadCounts
+                .computeIfAbsent(userId, id -> new AtomicInteger(mapper.getUnread(id)))
+                .get();
+        send(userId, emitter, count);
+
+        return emitter;
+    }
+
+    /** 미읽음 카운트 조회: 연결 중인 사용자는 메모리 값, 아니면 DB 조회 */
+    public int getUnread(String userId) {
+        AtomicInteger counter = unreadCounts.get(userId);
+        return counter != null ? counter.get() : mapper.getUnread(userId);
+    }
+
+    /** 새 알림 1건 생성 반영 */
+    public void increase(String userId) {
+        afterCommit(() -> {
+            AtomicInteger counter = unreadCounts.get(userId);
+            if (counter == null) return; // 연결이 없으면 다음 콜드 스타트 때 DB에서 읽음
+            push(userId, counter.incrementAndGet());
+        });
+    }
+
+    /** 읽음 처리된 알림 수만큼 차감 */
+    public void decrease(String userId, int readCount) {
+        if (readCount <= 0) return;
+
+        afterCommit(() -> {
+            AtomicInteger counter = unreadCounts.get(userId);
+            if (counter == null) return;
+            push(userId, counter.updateAndGet(v -> Math.max(0, v - readCount)));
+        });
+    }
+
+    /** 프록시/로드밸런서의 유휴 연결 종료를 막고 끊긴 연결을 정리하기 위한 heartbeat */
+    @Scheduled(fixedDelay = 25_000)
+    public void heartbeat() {
+        for (Map.Entry<String, CopyOnWriteArrayList<SseEmitter>> entry : emitters.entrySet()) {
+            for (SseEmitter emitter : entry.getValue()) {
+                try {
+                    emitter.send(SseEmitter.event().comment("ping"));
+                } catch (IOException | IllegalStateException e) {
+                    removeEmitter(entry.getKey(), emitter);
+                }
+            }
+        }
+    }
+
+    // =========================
+    // 내부 유틸
+    // =========================
+
+    private void push(String userId, int count) {
+        CopyOnWriteArrayList<SseEmitter> list = emitters.get(userId);
+        if (list == null) return;
+
+        for (SseEmitter emitter : list) {
+            send(userId, emitter, count);
+        }
+    }
+
+    private void send(String userId, SseEmitter emitter, int count) {
+        try {
+            emitter.send(SseEmitter.event()
+                    .name(EVENT_NAME)
+                    .data(Map.of("count", count)));
+        } catch (IOException | IllegalStateException e) {
+            log.debug("sse send failed. userId={} msg={}", userId, e.getMessage());
+            removeEmitter(userId, emitter);
+        }
+    }
+
+    private void removeEmitter(String userId, SseEmitter emitter) {
+        emitters.computeIfPresent(userId, (id, list) -> {
+            list.remove(emitter);
+            if (!list.isEmpty()) return list;
+
+            // 마지막 연결이 끊기면 카운터도 정리
+            unreadCounts.remove(id);
+            return null;
+        });
+    }
+
+    /** 트랜잭션 안이라면 커밋 이후에, 아니면 즉시 실행 (롤백된 알림이 카운트되지 않도록) */
+    private void afterCommit(Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+            return;
+        }
+        task.run();
+    }
+}
@@ -19,15 +19,19 @@ import java.util.Map;
 public class NotificationService {
     private final NotificationMapper mapper;
     private final NotificationRepository repo;
+    private final NotificationPushService pushService;
 
-    // 새로운 알림 카운트
+    // 새로운 알림 카운트 (SSE 연결 중이면 메모리 카운터 사용)
     public int findNewNotification(String userId) {
-        return mapper.getUnread(userId);
+        return pushService.getUnread(userId);
     }
 
     // 알림 발생
     public void saveNotification(NotificationEntity notE) {
         repo.save(notE);
+        if (notE.isUnread()) {
+            pushService.increase(notE.getUserId());
+        }
     }
 
     // 알림 단건 읽음 처리
@@ -38,6 +42,7 @@ public class NotificationService {
 
         if (noti.isUnread()) {
             noti.markRead();
+            pushService.decrease(userId, 1);
         }
     }
 
@@ -48,21 +53,18 @@ public class NotificationService {
         NotiTab tabParam = NotiTab.valueOf(tab.toUpperCase());
         List<String> targetTypes = tabParam.getTargetTypes();
 
-        // 2) 대상 엔티티 조회 (읽지 않은 것만)
-        List<NotificationEntity> targets;
+        // 2) 읽지 않은 것만 한 번의 UPDATE로 읽음 처리
+        int updated;
         if (tabParam == NotiTab.ALL || tabParam == NotiTab.UNREAD) {
-            targets = repo.findByUserIdAndCheckYn(userId, 'N');
+            updated = repo.markAllRead(userId);
         } else {
-            targets = repo.findByUserIdAndCheckYnAndTargetTypeIn(userId, 'N', targetTypes);
+            updated = repo.markAllReadByTargetTypes(userId, targetTypes);
         }
 
-        // 3) 변경 감지 업데이트
-        for (NotificationEntity n : targets) {
-            n.markRead();
-        }
+        pushService.decrease(userId, updated);
 
         // update된 target 개수 리턴
-        return targets.size();
+        return updated;
     }
 
     public int notiCnt(String userId, String tab, Character checkYn) {
@@ -78,6 +80,7 @@ public class NotificationService {
     }
 
     // 선택한 탭 별로 알림 가져오기
+    // - cursor(createdAt, notiId)가 있으면 keyset 페이징, 없으면 페이지 번호(offset) 페이징
     public List<NotificationDTO> findNotifications(NotificationQueryParam nqp, String userId, String tab, int page, int size) {
         NotiTab tabParam = NotiTab.valueOf(tab.toUpperCase());
         List<String> targetTypes = tabParam.getTargetTypes();
@@ -85,7 +88,7 @@ public class NotificationService {
         nqp.setUserId(userId);
         nqp.setTargetTypes(targetTypes);
         nqp.setLimit(size);
-        nqp.setOffset(page * size);
+        nqp.setOffset(nqp.hasCursor() ? 0 : page * size);
 
         return mapper.getNotifications(nqp);
     }
@@ -1,5 +1,6 @@
 package com.booknara.booknaraPrj.report.service;
 
+import com.booknara.booknaraPrj.common.supportinbox.SupportInboxService;
 import com.booknara.booknaraPrj.report.dto.ReportCreateDTO;
 import com.booknara.booknaraPrj.report.mapper.ReportMapper;
 import lombok.RequiredArgsConstructor;
@@ -21,6 +22,7 @@ import java.time.format.DateTimeFormatter;
 public class ReportService {
 
     private final ReportMapper reportMapper;
+    private final SupportInboxService supportInboxService;
 
     /** [조회] 특정 유저가 해당 피드를 이미 신고했는지 확인 */
     @Transactional(readOnly = true)
@@ -63,6 +65,9 @@ public class ReportService {
             // DB의 Unique 제약조건(User+Feed)을 통해 최종적으로 중복 저장을 막습니다.
             throw new IllegalStateException("이미 신고 처리 중인 리뷰입니다.");
         }
+
+        // 관리자 통합 수신함 반영
+        supportInboxService.syncReport(reportId);
     }
 
     /**
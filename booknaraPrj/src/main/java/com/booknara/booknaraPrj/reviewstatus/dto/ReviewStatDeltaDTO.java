@@ -0,0 +1,50 @@
+package com.booknara.booknaraPrj.reviewstatus.dto;
+
+import lombok.Data;
+
+/**
+ * [ReviewStatDeltaDTO]
+ * 리뷰 1건의 작성/수정/삭제가 REVIEW_STAT에 반영될 증감분입니다.
+ * - 작성: (null → 새 별점), 수정: (이전 별점 → 새 별점), 삭제/블라인드: (이전 별점 → null)
+ */
+@Data
+public class ReviewStatDeltaDTO {
+    private String isbn13;
+
+    private int cntDelta;
+    private int sumDelta;
+
+    private int rate1Delta;
+    private int rate2Delta;
+    private int rate3Delta;
+    private int rate4Delta;
+    private int rate5Delta;
+
+    public static ReviewStatDeltaDTO of(String isbn13, Integer removedRate, Integer addedRate) {
+        ReviewStatDeltaDTO delta = new ReviewStatDeltaDTO();
+        delta.setIsbn13(isbn13);
+        if (removedRate != null) delta.add(removedRate, -1);
+        if (addedRate != null) delta.add(addedRate, 1);
+        return delta;
+    }
+
+    /** 변화가 없는 경우 (같은 별점으로 수정) */
+    public boolean isEmpty() {
+        return cntDelta == 0 && sumDelta == 0
+                && rate1Delta == 0 && rate2Delta == 0 && rate3Delta == 0
+                && rate4Delta == 0 && rate5Delta == 0;
+    }
+
+    private void add(int rate, int sign) {
+        cntDelta += sign;
+        sumDelta += sign * rate;
+        switch (rate) {
+            case 1 -> rate1Delta += sign;
+            case 2 -> rate2Delta += sign;
+            case 3 -> rate3Delta += sign;
+            case 4 -> rate4Delta += sign;
+            case 5 -> rate5Delta += sign;
+            default -> throw new IllegalArgumentException("평점은 1~5점 사이여야 합니다.");
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.booknara.booknaraPrj.reviewstatus.mapper;
 
+import com.booknara.booknaraPrj.reviewstatus.dto.ReviewStatDeltaDTO;
 import com.booknara.booknaraPrj.reviewstatus.dto.ReviewStatusDTO;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
@@ -8,14 +9,15 @@ import java.util.List;
 
 /**
  * [ReviewStatusMapper]
- * 도서별 리뷰 통계(평균 별점, 리뷰 개수)를 DB에서 집계하여 조회하는 매퍼입니다.
+ * 도서별 리뷰 통계(평균 별점, 리뷰 개수)를 REVIEW_STAT에서 조회/갱신하는 매퍼입니다.
+ * - 리뷰 쓰기 트랜잭션 안에서 증분(applyDelta)으로 갱신하고, 주기적으로 전체 재집계(reconcileAll)합니다.
  */
 @Mapper
 public interface ReviewStatusMapper {
 
     /**
      * [단건 조회] 도서 상세 페이지용
-     * - 특정 도서의 평균 별점과 총 리뷰 수를 실시간 집계합니다.
+     * - 특정 도서의 평균 별점과 총 리뷰 수를 조회합니다.
      */
     ReviewStatusDTO selectByIsbn(@Param("isbn13") String isbn13);
 
@@ -25,4 +27,13 @@ public interface ReviewStatusMapper {
      * - MyBatis의 <foreach> 태그를 통해 SQL의 'IN' 절로 변환됩니다.
      */
     List<ReviewStatusDTO> selectByIsbns(@Param("isbns") List<String> isbns);
+
+    /** [증분 갱신] 리뷰 1건의 작성/수정/삭제를 합계·개수·별점 분포에 반영 (행이 없으면 생성) */
+    int applyDelta(ReviewStatDeltaDTO delta);
+
+    /** [재집계] FEEDS ⨝ REVIEW_DETAIL 기준으로 전체 통계를 다시 계산해 덮어씀 */
+    int reconcileAll();
+
+    /** [재집계] 노출 리뷰가 모두 사라진 도서의 통계를 0으로 초기화 */
+    int resetWithoutReviews();
 }
\ No newline at end of file
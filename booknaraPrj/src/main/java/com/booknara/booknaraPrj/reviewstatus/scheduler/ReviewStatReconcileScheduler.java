@@ -0,0 +1,30 @@
+package com.booknara.booknaraPrj.reviewstatus.scheduler;
+
+import com.booknara.booknaraPrj.reviewstatus.mapper.ReviewStatusMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * [ReviewStatReconcileScheduler]
+ * 증분 갱신되는 REVIEW_STAT을 원본(FEEDS ⨝ REVIEW_DETAIL)과 주기적으로 맞추는 재집계 스케줄러입니다.
+ * DB에서 직접 수행한 블라인드/삭제 처리처럼 애플리케이션을 거치지 않은 변경도 여기서 반영됩니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ReviewStatReconcileScheduler {
+
+    private final ReviewStatusMapper reviewStatusMapper;
+
+    // 매일 04:30 (Asia/Seoul)
+    @Scheduled(cron = "0 30 4 * * *", zone = "Asia/Seoul")
+    @Transactional
+    public void reconcile() {
+        int upserted = reviewStatusMapper.reconcileAll();
+        int reset = reviewStatusMapper.resetWithoutReviews();
+        log.info("review stat reconciled. upserted={} reset={}", upserted, reset);
+    }
+}
@@ -1,5 +1,6 @@
 package com.booknara.booknaraPrj.reviewstatus.service;
 
+import com.booknara.booknaraPrj.reviewstatus.dto.ReviewStatDeltaDTO;
 import com.booknara.booknaraPrj.reviewstatus.dto.ReviewStatusDTO;
 import com.booknara.booknaraPrj.reviewstatus.mapper.ReviewStatusMapper;
 import lombok.RequiredArgsConstructor;
@@ -45,4 +46,17 @@ public class ReviewStatusService {
         // 매퍼를 통해 단 한 번의 쿼리로 다건 데이터를 효율적으로 조회 (Batch Fetching)
         return reviewStatusMapper.selectByIsbns(isbns);
     }
+
+    /**
+     * [리뷰 변경 반영]
+     * - 리뷰 저장/수정/삭제 트랜잭션 안에서 호출되어 REVIEW_STAT을 같은 트랜잭션으로 갱신합니다.
+     * @param removedRate 빠지는 별점 (신규 작성이면 null)
+     * @param addedRate   더해지는 별점 (삭제/블라인드면 null)
+     */
+    public void applyReviewChange(String isbn13, Integer removedRate, Integer addedRate) {
+        ReviewStatDeltaDTO delta = ReviewStatDeltaDTO.of(isbn13, removedRate, addedRate);
+        if (delta.isEmpty()) return;
+
+        reviewStatusMapper.applyDelta(delta);
+    }
 }
\ No newline at end of file
@@ -14,6 +14,7 @@ import org.springframework.security.config.annotation.web.configuration.EnableWe
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.expression.WebExpressionAuthorizationManager;
 import org.springframework.security.web.authentication.HttpStatusEntryPoint;
 import org.springframework.security.web.util.matcher.RequestMatcher;
 
@@ -37,6 +38,12 @@ public class SecurityConfig {
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers("/admin/**").hasRole("ADMIN")
 
+                        // 모니터링: health 는 공개, prometheus 는 로컬 수집기 또는 관리자만
+                        .requestMatchers("/actuator/health").permitAll()
+                        .requestMatchers("/actuator/prometheus").access(new WebExpressionAuthorizationManager(
+                                "hasIpAddress('127.0.0.1') or hasIpAddress('::1') or hasRole('ADMIN')"))
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
+
                         .requestMatchers(HttpMethod.GET,
                                 "/book/review/list",
                                 "/book/cart/*/status"
@@ -97,6 +104,7 @@ public class SecurityConfig {
                                 "/css/**",
                                 "/js/**",
                                 "/images/**",
+                                "/covers/**",
                                 "/favicon.ico",
                                 "/error/*",
                                 "/404",
@@ -1,5 +1,6 @@
 package com.booknara.booknaraPrj.security.oauth;
 
+import com.booknara.booknaraPrj.admin.statistics.demographics.UserDemographicCounter;
 import com.booknara.booknaraPrj.login_signup.*;
 import com.booknara.booknaraPrj.login_signup.dto.SocialAccount;
 import com.booknara.booknaraPrj.login_signup.mapper.SocialAccountMapper;
@@ -28,6 +29,7 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
     private final SocialAccountMapper socialAccountMapper;
     private final UserMapper userMapper;
     private final UserMallangMapper userMallangMapper;
+    private final UserDemographicCounter demographicCounter;
 
     private static final String SOCIAL_PASSWORD = "{noop}SOCIAL_LOGIN";
 
@@ -128,6 +130,7 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
 
                 userMapper.insertUser(user);
                 userMallangMapper.insertRandomMallang(user.getUserId());
+                demographicCounter.userAdded(user.getBirthday(), user.getGender(), user.getUserState());
 
                 // 4️⃣ social_account 연동 insert
                 SocialAccount newSocial = SocialAccount.builder()
@@ -0,0 +1,15 @@
+-- 관리자 도서 목록 (AdminBookCatalogMapper) 키셋 페이징용 인덱스
+-- 상태/ISBN 은 BOOK_ID, 제목/저자는 ISBN13 만 인덱스로 뽑은 뒤(최대 101건), 화면 컬럼은 IN (...) 로 따로 채웁니다.
+-- InnoDB 보조 인덱스에는 PK(BOOK_ID)가 포함되므로 아래 인덱스만으로 키 조회가 끝납니다(covering).
+
+-- 상태 필터: WHERE BOOK_STATE = ? AND BOOK_ID > ? ORDER BY BOOK_ID
+CREATE INDEX IDX_BOOKS_STATE_ID ON BOOKS (BOOK_STATE, BOOK_ID);
+
+-- ISBN 완전일치 / 제목·저자 검색 ISBN 의 복본 존재 확인(EXISTS)·복본 조회
+CREATE INDEX IDX_BOOKS_ISBN_STATE ON BOOKS (ISBN13, BOOK_STATE);
+
+-- 제목/저자 앞글자 검색 (검색 구분으로 하나만 실행): LIKE '키워드%' + (정렬 키, ISBN13) 키셋
+-- WHERE BOOK_TITLE LIKE ? AND (BOOK_TITLE, ISBN13) > (?, ?) ORDER BY BOOK_TITLE, ISBN13 LIMIT 101
+-- 인덱스 순서대로 읽다가 LIMIT 에서 멈추므로 일치 건수와 무관 (정렬 키가 BOOK_ISBN 에 있으므로 BOOK_ID 대신 ISBN13 으로 동순위 구분)
+CREATE INDEX IDX_BOOK_ISBN_TITLE_ISBN ON BOOK_ISBN (BOOK_TITLE, ISBN13);
+CREATE INDEX IDX_BOOK_ISBN_AUTHORS_ISBN ON BOOK_ISBN (AUTHORS, ISBN13);
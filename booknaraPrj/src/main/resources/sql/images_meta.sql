@@ -0,0 +1,7 @@
+-- 업로드 메타 컬럼 (UploadStorageService / MainEventService.createEvent)
+-- 업로드 시점에 계산한 타입/크기/해시와 생성된 배너 축소본 폭을 기록합니다.
+ALTER TABLE IMAGES
+    ADD COLUMN CONTENT_TYPE   VARCHAR(50) NULL,
+    ADD COLUMN FILE_SIZE      BIGINT      NULL,
+    ADD COLUMN FILE_HASH      CHAR(64)    NULL,
+    ADD COLUMN VARIANT_WIDTHS VARCHAR(50) NULL;
@@ -0,0 +1,19 @@
+-- 대출 통계 일별 롤업 (LendStatsRecorder / LendStatsCompactionScheduler / StatisticsService)
+-- 관리자 통계 화면이 LENDS 전체를 여러 번 스캔하지 않도록 일자별 합계만 보관합니다.
+-- - LEND_CNT / EXTENDED_CNT      : 대출일(LEND_DATE) 기준
+-- - RETURN_CNT ~ OVERDUE_DAYS_SUM : 반납일(RETURN_DONE_AT) 기준
+CREATE TABLE LEND_STATS_DAILY (
+    STAT_DATE        DATE   NOT NULL,
+    LEND_CNT         INT    NOT NULL DEFAULT 0, -- 대출 건수
+    EXTENDED_CNT     INT    NOT NULL DEFAULT 0, -- 그날 대출된 건 중 연장된 건수
+    RETURN_CNT       INT    NOT NULL DEFAULT 0, -- 반납 건수
+    LEND_DAYS_SUM    BIGINT NOT NULL DEFAULT 0, -- 반납 건의 대여 일수 합 (DATEDIFF(RETURN_DONE_AT, LEND_DATE))
+    LATE_RETURN_CNT  INT    NOT NULL DEFAULT 0, -- 반납 예정일을 넘겨 반납된 건수
+    OVERDUE_DAYS_SUM BIGINT NOT NULL DEFAULT 0, -- 연체 반납 건의 연체 일수 합
+    PRIMARY KEY (STAT_DATE)
+);
+
+-- 현재 대출 중 / 현재 연체 중 건수는 실시간 조회 (미반납 건만 인덱스 범위로 읽음)
+CREATE INDEX IDX_LENDS_OPEN_DUE ON LENDS (RETURN_DONE_AT, RETURN_DUE_DATE);
+
+-- 최초 채우기는 LendStatsCompactionScheduler 가 테이블이 비어 있으면 전체 기간으로 수행합니다.
@@ -0,0 +1,20 @@
+-- 발송 메일 outbox (MailOutboxService)
+-- 요청 스레드는 이 테이블에 INSERT 만 하고 바로 응답하며, 실제 SMTP 발송은 워커 스레드가 재시도/백오프와 함께 처리합니다.
+CREATE TABLE MAIL_OUTBOX (
+    MAIL_ID         BIGINT       NOT NULL AUTO_INCREMENT,
+    TO_ADDR         VARCHAR(320) NOT NULL,
+    SUBJECT         VARCHAR(200) NOT NULL,
+    BODY            TEXT         NULL,                       -- 발송 완료/최종 실패/만료 시 NULL 로 지움 (인증코드 평문 보관 방지)
+    STATUS          VARCHAR(10)  NOT NULL DEFAULT 'PENDING', -- PENDING / SENDING / SENT / FAILED / EXPIRED
+    ATTEMPTS        INT          NOT NULL DEFAULT 0,
+    NEXT_ATTEMPT_AT DATETIME     NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    EXPIRES_AT      DATETIME     NULL,                       -- 이 시각 이후에는 발송하지 않음 (인증코드 유효시간), NULL 이면 무기한
+    LAST_ERROR      VARCHAR(500) NULL,
+    CREATED_AT      DATETIME     NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    UPDATED_AT      DATETIME     NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    SENT_AT         DATETIME     NULL,
+    PRIMARY KEY (MAIL_ID)
+);
+
+-- 재시도 대상 폴링 (STATUS='PENDING' AND NEXT_ATTEMPT_AT <= NOW())
+CREATE INDEX IDX_MAIL_OUTBOX_DUE ON MAIL_OUTBOX (STATUS, NEXT_ATTEMPT_AT);
@@ -0,0 +1,8 @@
+-- 알림 목록 keyset 페이징 / 모두 읽음 처리용 인덱스 (NotificationMapper.selectNotifications / NotificationRepository)
+-- CREATED_AT 은 DB 기본값으로 채워지고 엔티티에는 매핑되지 않으므로 @Index 대신 여기서 생성합니다.
+
+-- WHERE USER_ID = ? ORDER BY CREATED_AT DESC, NOTI_ID DESC (+ 커서 조건)
+CREATE INDEX IDX_NOTI_USER_CREATED ON NOTIFICATION (USER_ID, CREATED_AT, NOTI_ID);
+
+-- 탭별 안 읽은 알림 일괄 UPDATE: WHERE USER_ID = ? AND CHECK_YN = 'N' AND TARGET_TYPE IN (...)
+CREATE INDEX IDX_NOTI_USER_CHECK_TYPE ON NOTIFICATION (USER_ID, CHECK_YN, TARGET_TYPE);
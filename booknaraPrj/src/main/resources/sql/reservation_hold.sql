@@ -0,0 +1,9 @@
+-- 예약 대기열 홀드 전환용 컬럼 (ReservationQueueManager / BookCommandService)
+-- HOLD 상태 예약에 확보된 실물 도서와 수령 기한을 기록합니다.
+ALTER TABLE RESERVATIONS
+    ADD COLUMN HOLD_BOOK_ID    BIGINT   NULL,
+    ADD COLUMN HOLD_EXPIRES_AT DATETIME NULL;
+
+-- 대출 가능 도서 조회 시 홀드 도서 제외 / 만료 홀드 조회
+CREATE INDEX IDX_RSV_HOLD_BOOK ON RESERVATIONS (HOLD_BOOK_ID, RSV_STATUS);
+CREATE INDEX IDX_RSV_STATUS_EXPIRES ON RESERVATIONS (RSV_STATUS, HOLD_EXPIRES_AT);
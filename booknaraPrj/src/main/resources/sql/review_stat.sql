@@ -0,0 +1,59 @@
+-- 리뷰 통계 증분 갱신용 컬럼 (ReviewStatusService.applyReviewChange / ReviewStatReconcileScheduler)
+-- 평균은 합계/개수로 다시 계산하므로 RATING_SUM 과 별점별 분포를 함께 보관합니다.
+ALTER TABLE REVIEW_STAT
+    ADD COLUMN RATING_SUM INT NOT NULL DEFAULT 0,
+    ADD COLUMN RATE1_CNT  INT NOT NULL DEFAULT 0,
+    ADD COLUMN RATE2_CNT  INT NOT NULL DEFAULT 0,
+    ADD COLUMN RATE3_CNT  INT NOT NULL DEFAULT 0,
+    ADD COLUMN RATE4_CNT  INT NOT NULL DEFAULT 0,
+    ADD COLUMN RATE5_CNT  INT NOT NULL DEFAULT 0;
+
+-- 최초 채우기: 새 컬럼이 0인 상태로 applyDelta가 실행되면 RATING_AVG가 0 합계로 다시 계산되므로,
+-- 애플리케이션 배포 전에 재집계 스케줄러(ReviewStatusMapper.reconcileAll)와 같은 쿼리로 현재 값을 채웁니다.
+INSERT INTO REVIEW_STAT (
+    ISBN13, REVIEW_CNT, RATING_SUM, RATING_AVG,
+    RATE1_CNT, RATE2_CNT, RATE3_CNT, RATE4_CNT, RATE5_CNT
+)
+SELECT
+    F.ISBN13,
+    COUNT(*),
+    SUM(RD.RATE),
+    ROUND(AVG(RD.RATE), 1),
+    SUM(RD.RATE = 1), SUM(RD.RATE = 2), SUM(RD.RATE = 3),
+    SUM(RD.RATE = 4), SUM(RD.RATE = 5)
+FROM FEEDS F
+         JOIN REVIEW_DETAIL RD ON RD.FEED_ID = F.FEED_ID
+WHERE F.FEED_CATEGORY = 'REVIEW'
+  AND F.IS_DELETED = 'N'
+  AND F.IS_BLIND   = 'N'
+GROUP BY F.ISBN13
+ON DUPLICATE KEY UPDATE
+    REVIEW_CNT = VALUES(REVIEW_CNT),
+    RATING_SUM = VALUES(RATING_SUM),
+    RATING_AVG = VALUES(RATING_AVG),
+    RATE1_CNT  = VALUES(RATE1_CNT),
+    RATE2_CNT  = VALUES(RATE2_CNT),
+    RATE3_CNT  = VALUES(RATE3_CNT),
+    RATE4_CNT  = VALUES(RATE4_CNT),
+    RATE5_CNT  = VALUES(RATE5_CNT);
+
+-- 노출 리뷰가 하나도 남지 않은 기존 행 정리 (ReviewStatusMapper.resetWithoutReviews)
+UPDATE REVIEW_STAT S
+SET S.REVIEW_CNT = 0,
+    S.RATING_SUM = 0,
+    S.RATING_AVG = NULL,
+    S.RATE1_CNT  = 0,
+    S.RATE2_CNT  = 0,
+    S.RATE3_CNT  = 0,
+    S.RATE4_CNT  = 0,
+    S.RATE5_CNT  = 0
+WHERE S.REVIEW_CNT <> 0
+  AND NOT EXISTS (
+      SELECT 1
+      FROM FEEDS F
+               JOIN REVIEW_DETAIL RD ON RD.FEED_ID = F.FEED_ID
+      WHERE F.ISBN13 = S.ISBN13
+        AND F.FEED_CATEGORY = 'REVIEW'
+        AND F.IS_DELETED = 'N'
+        AND F.IS_BLIND   = 'N'
+  );
@@ -0,0 +1,63 @@
+-- 관리자 문의/신고 통합 수신함 (SupportInboxService / SupportInboxMapper)
+-- 기존 VIEW_COMBINED_SUPPORT(INQUIRY UNION REPORT) 대신 쓰기 시점에 한 행씩 반영하는 실제 테이블입니다.
+-- - 컬럼명은 기존 뷰와 같게 유지 (AdminCombinedSupport 매핑 그대로)
+-- - STATE : 'N'(대기) / 'Y'(완료) 로 통일 (문의 RESP_STATE, 신고 RESOLVED → 'Y')
+CREATE TABLE SUPPORT_INBOX (
+    TOTAL_ID     VARCHAR(50)  NOT NULL,          -- 'I-' + INQ_ID / 'R-' + REPORT_ID
+    ORIGINAL_ID  VARCHAR(30)  NOT NULL,
+    TYPE         VARCHAR(10)  NOT NULL,          -- INQUIRY / REPORT
+    SUB_TYPE     VARCHAR(20),                    -- 문의 유형명 / 신고 유형
+    TITLE        VARCHAR(300),
+    USER_ID      VARCHAR(50),
+    STATE        CHAR(1)      NOT NULL,
+    REG_DATE     DATETIME,
+    RESOLVED_AT  DATETIME,
+    CONTENT      TEXT,
+    ANSWER       TEXT,
+    FILE_PATH_1  VARCHAR(500),
+    FILE_PATH_2  VARCHAR(500),
+    FILE_PATH_3  VARCHAR(500),
+    PRIMARY KEY (TOTAL_ID)
+);
+
+-- 목록: (유형, 상태) 필터 × (등록일 / 처리일) 정렬 조합을 인덱스 순서로 읽음
+CREATE INDEX IDX_INBOX_REG            ON SUPPORT_INBOX (REG_DATE);
+CREATE INDEX IDX_INBOX_TYPE_REG       ON SUPPORT_INBOX (TYPE, REG_DATE);
+CREATE INDEX IDX_INBOX_STATE_REG      ON SUPPORT_INBOX (STATE, REG_DATE);
+CREATE INDEX IDX_INBOX_TYPE_STATE_REG ON SUPPORT_INBOX (TYPE, STATE, REG_DATE);
+CREATE INDEX IDX_INBOX_RESOLVED       ON SUPPORT_INBOX (RESOLVED_AT);
+CREATE INDEX IDX_INBOX_TYPE_RESOLVED  ON SUPPORT_INBOX (TYPE, RESOLVED_AT);
+-- 작성자 검색 (앞글자 일치)
+CREATE INDEX IDX_INBOX_USER_REG       ON SUPPORT_INBOX (USER_ID, REG_DATE);
+
+-- (유형, 상태)별 건수: 상단 카드 / 목록 전체 건수
+CREATE TABLE SUPPORT_INBOX_COUNT (
+    TYPE   VARCHAR(10) NOT NULL,
+    STATE  CHAR(1)     NOT NULL,
+    CNT    BIGINT      NOT NULL DEFAULT 0,
+    PRIMARY KEY (TYPE, STATE)
+);
+
+-- 기존 데이터 채우기
+INSERT INTO SUPPORT_INBOX (TOTAL_ID, ORIGINAL_ID, TYPE, SUB_TYPE, TITLE, USER_ID, STATE, REG_DATE, RESOLVED_AT,
+                           CONTENT, ANSWER, FILE_PATH_1, FILE_PATH_2, FILE_PATH_3)
+SELECT CONCAT('I-', I.INQ_ID), I.INQ_ID, 'INQUIRY',
+       CASE I.INQ_TYPE WHEN 1 THEN '도서관리' WHEN 2 THEN '대여/반납' WHEN 3 THEN '시스템' WHEN 4 THEN '계정' ELSE '기타' END,
+       I.INQ_TITLE, I.USER_ID,
+       CASE WHEN I.RESP_STATE = 'Y' THEN 'Y' ELSE 'N' END,
+       I.CREATED_AT, I.RESP_AT, I.INQ_CONTENT, I.RESP_CONTENT, I.FILE_PATH_1, I.FILE_PATH_2, I.FILE_PATH_3
+FROM INQUIRY I;
+
+INSERT INTO SUPPORT_INBOX (TOTAL_ID, ORIGINAL_ID, TYPE, SUB_TYPE, TITLE, USER_ID, STATE, REG_DATE, RESOLVED_AT,
+                           CONTENT, ANSWER)
+SELECT CONCAT('R-', R.REPORT_ID), R.REPORT_ID, 'REPORT', R.REPORT_TYPE,
+       LEFT(R.REPORT_CONTENT, 50), R.USER_ID,
+       CASE WHEN R.REPORT_STATE = 'RESOLVED' THEN 'Y' ELSE 'N' END,
+       R.REPORTED_AT, R.RESOLVED_AT, R.REPORT_CONTENT, R.RESOLVED_CONTENT
+FROM REPORT R;
+
+INSERT INTO SUPPORT_INBOX_COUNT (TYPE, STATE, CNT)
+SELECT TYPE, STATE, COUNT(*) FROM SUPPORT_INBOX GROUP BY TYPE, STATE;
+
+-- 이관 확인 후 제거
+-- DROP VIEW VIEW_COMBINED_SUPPORT;
@@ -243,11 +243,48 @@ async function poll() {
 
 function startNotificationPolling() {
   if (pollingTimer) return;
+
+  // SSE 지원 브라우저는 서버 push로 카운트 갱신, 실패 시 폴링으로 전환
+  if (window.EventSource && startNotificationStream()) return;
+
   poll();
   pollingTimer = setInterval(poll, 30000); // 30초
 }
 
+// 서버 push(SSE)로 미읽음 카운트 받기
+let notiStream = null;
+
+function startNotificationStream() {
+  if (notiStream) return true;
+
+  try {
+    notiStream = new EventSource('/notifications/unread/stream');
+  } catch (e) {
+    console.error('알림 스트림 연결 실패', e);
+    return false;
+  }
+
+  notiStream.addEventListener('unread', (e) => {
+    const data = JSON.parse(e.data);
+    updateAlarmCnt(data.count);
+  });
+
+  notiStream.onerror = () => {
+    // 일시적 끊김은 브라우저가 자동 재연결, 완전히 닫힌 경우만 폴링으로 전환
+    if (notiStream.readyState === EventSource.CLOSED) {
+      notiStream = null;
+      poll();
+      pollingTimer = setInterval(poll, 30000);
+    }
+  };
+  return true;
+}
+
 function stopNotificationPolling() {
+  if (notiStream) {
+    notiStream.close();
+    notiStream = null;
+  }
   if (pollingTimer) {
     clearInterval(pollingTimer);
     pollingTimer = null;
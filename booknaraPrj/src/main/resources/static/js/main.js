@@ -16,7 +16,7 @@ document.addEventListener("DOMContentLoaded", () => {
       events.forEach((e, idx) => {
         track.insertAdjacentHTML("beforeend", `
           <div class="banner-slide" data-event-id="${e.eventId}">
-            <img src="${e.imgUrl}" alt="${e.eventTitle}">
+            <img src="${e.imgUrl}" ${bannerSrcset(e)} alt="${e.eventTitle}">
           </div>
         `);
 
@@ -30,6 +30,14 @@ document.addEventListener("DOMContentLoaded", () => {
     .catch(err => console.error("이벤트 배너 로딩 실패", err));
 });
 
+/* 업로드 시 생성된 배너 축소본(/uploads/{hash}_w{width}.jpg)으로 srcset 구성 */
+function bannerSrcset(e) {
+  if (!e.variantWidths) return "";
+  const base = e.imgUrl.replace(/\.[^./]+$/, "");
+  const set = e.variantWidths.split(",").map(w => `${base}_w${w}.jpg ${w}w`);
+  return `srcset="${set.join(", ")}" sizes="100vw"`;
+}
+
 function initBannerSlider() {
   const track = document.querySelector(".banner-track");
   const slides = document.querySelectorAll(".banner-slide");
@@ -0,0 +1,196 @@
+package com.booknara.booknaraPrj.admin.statistics.demographics;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * [UserDemographicCounterTest]
+ * (출생연도, 성별, 상태) 카운터의 스냅샷 집계, 커밋 후 ±1 반영, 재집계 중 경합 처리를 확인합니다.
+ */
+class UserDemographicCounterTest {
+
+    private static final int THIS_YEAR = LocalDate.now(ZoneId.of("Asia/Seoul")).getYear();
+
+    private DemographicMapper mapper;
+    private UserDemographicCounter counter;
+
+    @BeforeEach
+    void setUp() {
+        mapper = mock(DemographicMapper.class);
+        counter = new UserDemographicCounter(mapper);
+        when(mapper.selectCounts()).thenReturn(initialRows());
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("스냅샷은 최초 1회만 집계하고 성별/상태/연령대 합계를 계산한다")
+    void snapshotAggregates() {
+        UserDemographicCounter.Snapshot s = counter.snapshot();
+        counter.snapshot();
+
+        verify(mapper, times(1)).selectCounts();
+        assertThat(s.total()).isEqualTo(10);
+        assertThat(s.countByGender("M")).isEqualTo(7);
+        assertThat(s.countByState("BLOCKED")).isEqualTo(1);
+        assertThat(s.genderCounts()).containsExactly(Map.entry("M", 7L), Map.entry("F", 3L));
+        // 생일 미입력은 '50대 이상'
+        assertThat(s.ageCounts(null)).containsExactly(1, 3, 2, 0, 4);
+        assertThat(s.ageCounts("F")).containsExactly(1, 0, 2, 0, 0);
+    }
+
+    @Test
+    @DisplayName("가입/상태 변경은 해당 칸만 ±1 하고, 0 이 된 칸은 사라진다")
+    void incrementalChanges() {
+        counter.snapshot();
+
+        counter.userAdded(LocalDate.of(THIS_YEAR - 45, 1, 1), "F", "ACTIVE");
+        counter.stateChanged(LocalDate.of(THIS_YEAR - 15, 6, 1), "F", "BLOCKED", "ACTIVE");
+
+        UserDemographicCounter.Snapshot s = counter.snapshot();
+        assertThat(s.total()).isEqualTo(11);
+        assertThat(s.countByState("BLOCKED")).isZero();
+        assertThat(s.countByState("ACTIVE")).isEqualTo(11);
+        assertThat(s.ageCounts("F")).containsExactly(1, 0, 2, 1, 0);
+    }
+
+    @Test
+    @DisplayName("UPDATE 직전 조회한 현재 행 기준으로 상태를 옮긴다 (같은 상태면 무시)")
+    void stateChangingUsesCurrentRow() {
+        counter.snapshot();
+        when(mapper.selectUserKey("u1")).thenReturn(row(THIS_YEAR - 25, "M", "ACTIVE", 1));
+
+        counter.stateChanging("u1", "ACTIVE");
+        counter.stateChanging("u1", "WITHDRAWN");
+
+        UserDemographicCounter.Snapshot s = counter.snapshot();
+        assertThat(s.countByState("WITHDRAWN")).isEqualTo(1);
+        assertThat(s.countByState("ACTIVE")).isEqualTo(8);
+        assertThat(s.total()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안의 변경은 커밋 후에만 반영되고 롤백되면 버려진다")
+    void appliesAfterCommitOnly() {
+        counter.snapshot();
+
+        TransactionSynchronizationManager.initSynchronization();
+        counter.userAdded(null, "M", "ACTIVE");
+        assertThat(counter.snapshot().total()).isEqualTo(10);
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+        assertThat(counter.snapshot().total()).isEqualTo(10);
+
+        TransactionSynchronizationManager.initSynchronization();
+        counter.userAdded(null, "M", "ACTIVE");
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+        assertThat(counter.snapshot().total()).isEqualTo(11);
+    }
+
+    @Test
+    @DisplayName("재집계 도중 ±1 이 반영되면 집계 결과를 버리고 다시 집계한다 (증분 유실 방지)")
+    void resyncRetriesWhenWriteLandsDuringAggregation() {
+        counter.snapshot();
+
+        // 집계 SELECT 가 가입 커밋 전 상태(10명)를 읽는 사이 +1 이 반영된 상황
+        // → 그대로 교체하면 1명이 유실되므로 버리고 다시 집계해야 함
+        List<DemographicCountDTO> after = List.of(
+                row(THIS_YEAR - 25, "M", "ACTIVE", 4),
+                row(THIS_YEAR - 35, "F", "ACTIVE", 2),
+                row(THIS_YEAR - 15, "F", "BLOCKED", 1),
+                row(null, "M", "ACTIVE", 4));
+        when(mapper.selectCounts())
+                .thenAnswer(inv -> {
+                    counter.userAdded(LocalDate.of(THIS_YEAR - 25, 1, 1), "M", "ACTIVE");
+                    return initialRows();
+                })
+                .thenReturn(after);
+
+        counter.resync();
+
+        assertThat(counter.snapshot().total()).isEqualTo(11);
+        assertThat(counter.snapshot().countByGender("M")).isEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("커밋 중(beforeCommit ~ afterCompletion)인 변경이 있으면 재집계 결과로 교체하지 않는다")
+    void resyncSkipsWhileCommitInFlight() {
+        counter.snapshot();
+
+        TransactionSynchronizationManager.initSynchronization();
+        counter.userAdded(null, "F", "ACTIVE");
+        List<TransactionSynchronization> syncs = TransactionSynchronizationManager.getSynchronizations();
+        syncs.forEach(s -> s.beforeCommit(false));
+
+        // 이 시점에 DB 는 커밋되어 11명이 보이지만 카운터에는 아직 반영 전
+        when(mapper.selectCounts()).thenReturn(List.of(row(null, "M", "ACTIVE", 11)));
+        counter.resync();
+        assertThat(counter.snapshot().countByGender("F")).isEqualTo(3);
+
+        // 반영이 끝나면 정상 재집계
+        TransactionSynchronizationManager.clearSynchronization();
+        syncs.forEach(s -> {
+            s.afterCommit();
+            s.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+        });
+        assertThat(counter.snapshot().countByGender("F")).isEqualTo(4);
+
+        counter.resync();
+        assertThat(counter.snapshot().countByGender("F")).isZero();
+        assertThat(counter.snapshot().total()).isEqualTo(11);
+    }
+
+    // =========================
+    // 내부 유틸
+    // =========================
+
+    /** 초기 회원 10명: 20대 남 3, 30대 여 2, 10대 여(차단) 1, 생일 미입력 남 4 */
+    private static List<DemographicCountDTO> initialRows() {
+        return List.of(
+                row(THIS_YEAR - 25, "M", "ACTIVE", 3),
+                row(THIS_YEAR - 35, "F", "ACTIVE", 2),
+                row(THIS_YEAR - 15, "F", "BLOCKED", 1),
+                row(null, "M", "ACTIVE", 4));
+    }
+
+    private static DemographicCountDTO row(Integer birthYear, String gender, String state, long cnt) {
+        DemographicCountDTO dto = new DemographicCountDTO();
+        dto.setBirthYear(birthYear);
+        dto.setGender(gender);
+        dto.setUserState(state);
+        dto.setCnt(cnt);
+        return dto;
+    }
+
+    /** 트랜잭션 종료 흉내: 등록된 동기화 콜백 실행 후 정리 */
+    private static void complete(int status) {
+        List<TransactionSynchronization> syncs = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        for (TransactionSynchronization s : syncs) {
+            if (status == TransactionSynchronization.STATUS_COMMITTED) {
+                s.beforeCommit(false);
+                s.afterCommit();
+            }
+            s.afterCompletion(status);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.booknara.booknaraPrj.admin.statistics.rollup;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * [LendStatsRecorderTest]
+ * 대출/연장/반납 이벤트가 업무 트랜잭션 커밋 후 별도 트랜잭션으로 롤업에 반영되는지 확인합니다.
+ */
+class LendStatsRecorderTest {
+
+    private static final String LEND_ID = "0123456789abcdef0123456789abcdef";
+
+    private LendStatsMapper mapper;
+    private PlatformTransactionManager txManager;
+    private LendStatsRecorder recorder;
+
+    @BeforeEach
+    void setUp() {
+        mapper = mock(LendStatsMapper.class);
+        txManager = mock(PlatformTransactionManager.class);
+        recorder = new LendStatsRecorder(mapper, txManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("이벤트마다 해당 칸만 증분 반영한다")
+    void eachEventHitsItsColumn() {
+        recorder.lent(LEND_ID);
+        verify(mapper).addLend(LEND_ID);
+        verify(mapper, never()).addExtend(anyString());
+        verify(mapper, never()).addReturn(anyString());
+
+        recorder.extended(LEND_ID);
+        verify(mapper).addExtend(LEND_ID);
+
+        recorder.returned(LEND_ID);
+        verify(mapper).addReturn(LEND_ID);
+    }
+
+    @Test
+    @DisplayName("업무 트랜잭션 안에서는 롤업 행을 건드리지 않고, 커밋 후 REQUIRES_NEW 로 반영한다")
+    void appliesAfterCommitInNewTransaction() {
+        TransactionSynchronizationManager.initSynchronization();
+        recorder.lent(LEND_ID);
+        verify(mapper, never()).addLend(anyString());
+
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+
+        verify(mapper).addLend(LEND_ID);
+        ArgumentCaptor<TransactionDefinition> def = ArgumentCaptor.forClass(TransactionDefinition.class);
+        verify(txManager).getTransaction(def.capture());
+        assertThat(def.getValue().getPropagationBehavior()).isEqualTo(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Test
+    @DisplayName("롤백된 대출은 집계하지 않는다")
+    void rolledBackLendIsNotCounted() {
+        TransactionSynchronizationManager.initSynchronization();
+        recorder.lent(LEND_ID);
+        recorder.returned(LEND_ID);
+
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        verify(mapper, never()).addLend(anyString());
+        verify(mapper, never()).addReturn(anyString());
+        verify(txManager, never()).getTransaction(any());
+    }
+
+    @Test
+    @DisplayName("커밋 후 롤업 반영이 실패해도 이미 커밋된 대출에는 영향이 없다 (야간 재집계가 보정)")
+    void failureAfterCommitIsLoggedOnly() {
+        when(mapper.addLend(LEND_ID)).thenThrow(new QueryTimeoutException("lock wait timeout"));
+
+        TransactionSynchronizationManager.initSynchronization();
+        assertThatCode(() -> recorder.lent(LEND_ID)).doesNotThrowAnyException();
+        verify(mapper, never()).addLend(anyString());
+
+        assertThatCode(() -> complete(TransactionSynchronization.STATUS_COMMITTED)).doesNotThrowAnyException();
+        verify(mapper).addLend(LEND_ID);
+        verify(txManager).rollback(any());
+    }
+
+    @Test
+    @DisplayName("DB 오류가 아닌 예외(프로그램 오류)는 그대로 전파한다")
+    void otherErrorsPropagate() {
+        when(mapper.addExtend(LEND_ID)).thenThrow(new IllegalStateException("bug"));
+
+        assertThatThrownBy(() -> recorder.extended(LEND_ID)).isInstanceOf(IllegalStateException.class);
+    }
+
+    /** 트랜잭션 종료 흉내: 등록된 동기화 콜백 실행 후 정리 */
+    private static void complete(int status) {
+        List<TransactionSynchronization> syncs = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        for (TransactionSynchronization s : syncs) {
+            if (status == TransactionSynchronization.STATUS_COMMITTED) s.afterCommit();
+            s.afterCompletion(status);
+        }
+    }
+}
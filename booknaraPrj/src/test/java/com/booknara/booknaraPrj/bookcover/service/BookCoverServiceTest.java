@@ -0,0 +1,269 @@
+package com.booknara.booknaraPrj.bookcover.service;
+
+import com.booknara.booknaraPrj.bookcover.mapper.BookCoverMapper;
+import com.booknara.booknaraPrj.common.concurrent.ExecutionMode;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * [BookCoverServiceTest]
+ * 로컬 HTTP 서버로 내려주는 fixture 이미지로 축소본 생성(ensureVariants/resize), 해시 경로 규칙,
+ * 원본 URL 제한(http/https)과 디스크 캐시 용량 제한(prune)을 확인합니다.
+ */
+class BookCoverServiceTest {
+
+    private static final String ISBN = "9788901234567";
+
+    @TempDir
+    Path tempDir;
+
+    private BookCoverMapper mapper;
+    private BookCoverService service;
+    private Path cacheDir;
+    private HttpServer server;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        mapper = mock(BookCoverMapper.class);
+        cacheDir = tempDir.resolve("covers");
+        service = newService(DataSize.ofMegabytes(100));
+
+        // tempDir 의 파일을 /{파일명} 으로 내려주는 원본 서버
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", exchange -> {
+            Path file = tempDir.resolve(exchange.getRequestURI().getPath().substring(1));
+            if (!Files.isRegularFile(file)) {
+                exchange.sendResponseHeaders(404, -1);
+                exchange.close();
+                return;
+            }
+            byte[] body = Files.readAllBytes(file);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("축소본은 가로폭에 맞춰 비율을 유지하고 {isbn13}/{hash}/{variant}.jpg 에 저장된다")
+    void resolveWritesAllVariantsUnderHashPath() throws IOException {
+        String source = fixture("cover.png", 600, 900);
+        String hash = BookCoverService.sourceHash(source);
+        when(mapper.selectCoverSource(ISBN)).thenReturn(source);
+
+        BookCoverService.CoverResult result = service.resolve(ISBN, hash, "card");
+
+        assertThat(result).isNotNull();
+        assertThat(result.redirectUrl()).isNull();
+        assertThat(result.file()).isEqualTo(cacheDir.toAbsolutePath().resolve(ISBN).resolve(hash).resolve("card.jpg"));
+
+        assertSize(ISBN, hash, BookCoverService.Variant.LIST, 120, 180);
+        assertSize(ISBN, hash, BookCoverService.Variant.CARD, 240, 360);
+        assertSize(ISBN, hash, BookCoverService.Variant.DETAIL, 480, 720);
+    }
+
+    @Test
+    @DisplayName("원본보다 큰 축소본은 늘리지 않는다")
+    void resizeDoesNotUpscale() throws IOException {
+        String source = fixture("small.png", 200, 300);
+        String hash = BookCoverService.sourceHash(source);
+        when(mapper.selectCoverSource(ISBN)).thenReturn(source);
+
+        service.resolve(ISBN, hash, "list");
+
+        assertSize(ISBN, hash, BookCoverService.Variant.LIST, 120, 180);
+        assertSize(ISBN, hash, BookCoverService.Variant.CARD, 200, 300);
+        assertSize(ISBN, hash, BookCoverService.Variant.DETAIL, 200, 300);
+    }
+
+    @Test
+    @DisplayName("이미 만들어진 축소본은 DB 조회 없이 반환한다")
+    void existingVariantSkipsLookup() throws IOException {
+        String source = fixture("cover.png", 600, 900);
+        String hash = BookCoverService.sourceHash(source);
+        when(mapper.selectCoverSource(ISBN)).thenReturn(source);
+
+        service.resolve(ISBN, hash, "detail");
+        BookCoverService.CoverResult again = service.resolve(ISBN, hash, "list");
+
+        assertThat(again.file()).isRegularFile();
+        verify(mapper, times(1)).selectCoverSource(ISBN);
+    }
+
+    @Test
+    @DisplayName("원본이 바뀌면 새 해시 경로로 이동시킨다")
+    void changedSourceRedirectsToNewHash() throws IOException {
+        String oldSource = fixture("old.png", 300, 450);
+        String newSource = fixture("new.png", 300, 450);
+        when(mapper.selectCoverSource(ISBN)).thenReturn(newSource);
+
+        BookCoverService.CoverResult result = service.resolve(ISBN, BookCoverService.sourceHash(oldSource), "card");
+
+        assertThat(result.file()).isNull();
+        assertThat(result.redirectUrl())
+                .isEqualTo("/covers/" + ISBN + "/" + BookCoverService.sourceHash(newSource) + "/card");
+        assertThat(cacheDir.resolve(ISBN)).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("잘못된 요청은 조회하지 않고 null(404)을 반환한다")
+    void invalidRequestReturnsNull() {
+        assertThat(service.resolve(ISBN, "0123456789ab", "huge")).isNull();
+        assertThat(service.resolve("../etc", "0123456789ab", "list")).isNull();
+        assertThat(service.resolve(ISBN, "../../passwd", "list")).isNull();
+        verify(mapper, never()).selectCoverSource(anyString());
+    }
+
+    @Test
+    @DisplayName("이미지가 아닌 원본은 축소본 없이 원본 URL로 이동시킨다")
+    void unreadableSourceRedirectsToOriginal() throws IOException {
+        Files.writeString(tempDir.resolve("broken.png"), "not an image");
+        String source = url("broken.png");
+        when(mapper.selectCoverSource(ISBN)).thenReturn(source);
+
+        BookCoverService.CoverResult result = service.resolve(ISBN, BookCoverService.sourceHash(source), "list");
+
+        assertThat(result.file()).isNull();
+        assertThat(result.redirectUrl()).isEqualTo(source);
+    }
+
+    @Test
+    @DisplayName("http(s)가 아닌 원본(file:, classpath:)은 읽지 않고 null(404)을 반환한다")
+    void nonHttpSourceIsRejected() throws IOException {
+        fixture("local.png", 300, 450);
+        for (String source : new String[]{tempDir.resolve("local.png").toUri().toString(), "classpath:application.properties"}) {
+            when(mapper.selectCoverSource(ISBN)).thenReturn(source);
+
+            assertThat(service.resolve(ISBN, BookCoverService.sourceHash(source), "list")).isNull();
+        }
+        assertThat(cacheDir.resolve(ISBN)).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("디스크 캐시가 한도를 넘으면 오래 전에 만든 표지부터 지운다")
+    void pruneEvictsOldestCoversOverLimit() throws IOException {
+        String oldIsbn = "9788900000001";
+        String newIsbn = "9788900000002";
+        String oldSource = fixture("old.png", 600, 900);
+        String newSource = fixture("new.png", 300, 450);
+        when(mapper.selectCoverSource(oldIsbn)).thenReturn(oldSource);
+        when(mapper.selectCoverSource(newIsbn)).thenReturn(newSource);
+
+        service.resolve(oldIsbn, BookCoverService.sourceHash(oldSource), "list");
+        service.resolve(newIsbn, BookCoverService.sourceHash(newSource), "list");
+        Path oldDir = cacheDir.resolve(oldIsbn).resolve(BookCoverService.sourceHash(oldSource));
+        Path newDir = cacheDir.resolve(newIsbn).resolve(BookCoverService.sourceHash(newSource));
+        try (Stream<Path> files = Files.list(oldDir)) {
+            for (Path f : files.toList()) Files.setLastModifiedTime(f, FileTime.fromMillis(0));
+        }
+
+        // 새 표지만 남으면 한도의 90% 이내가 되는 한도
+        service.shutdown();
+        service = newService(DataSize.ofBytes(dirSize(newDir) * 10 / 9 + 10));
+        service.prune();
+
+        assertThat(cacheDir.resolve(oldIsbn)).doesNotExist();
+        assertThat(newDir.resolve(BookCoverService.Variant.LIST.fileName())).isRegularFile();
+    }
+
+    @Test
+    @DisplayName("한도 이내면 아무것도 지우지 않는다")
+    void pruneKeepsCoversUnderLimit() throws IOException {
+        String source = fixture("cover.png", 600, 900);
+        String hash = BookCoverService.sourceHash(source);
+        when(mapper.selectCoverSource(ISBN)).thenReturn(source);
+        service.resolve(ISBN, hash, "list");
+
+        service.prune();
+
+        assertThat(cacheDir.resolve(ISBN).resolve(hash).resolve(BookCoverService.Variant.DETAIL.fileName())).isRegularFile();
+    }
+
+    @Test
+    @DisplayName("해시는 원본 URL SHA1 hex 앞 12자리다")
+    void sourceHashIsSha1Prefix() {
+        // echo -n "https://example.com/a.jpg" | sha1sum
+        assertThat(BookCoverService.sourceHash("https://example.com/a.jpg")).isEqualTo("c8cad51b5df2");
+    }
+
+    // =========================
+    // 내부 유틸
+    // =========================
+
+    private BookCoverService newService(DataSize cacheMaxSize) {
+        return new BookCoverService(mapper, new ExecutionMode(false, new SimpleMeterRegistry()),
+                cacheDir.toString(), cacheMaxSize);
+    }
+
+    private String url(String name) {
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort() + "/" + name;
+    }
+
+    private static long dirSize(Path dir) throws IOException {
+        long size = 0;
+        try (Stream<Path> files = Files.list(dir)) {
+            for (Path f : files.toList()) size += Files.size(f);
+        }
+        return size;
+    }
+
+    /** 가로 width × 세로 height 투명 배경 PNG fixture 를 만들고 원본 서버 URL 을 반환 */
+    private String fixture(String name, int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = image.createGraphics();
+        try {
+            g.setColor(Color.BLUE);
+            g.fillRect(0, 0, width / 2, height / 2);
+        } finally {
+            g.dispose();
+        }
+        Path file = tempDir.resolve(name);
+        ImageIO.write(image, "png", file.toFile());
+        return url(name);
+    }
+
+    private void assertSize(String isbn13, String hash, BookCoverService.Variant variant, int width, int height)
+            throws IOException {
+        Path file = cacheDir.resolve(isbn13).resolve(hash).resolve(variant.fileName());
+        assertThat(file).isRegularFile();
+
+        BufferedImage image = ImageIO.read(file.toFile());
+        assertThat(image.getWidth()).isEqualTo(width);
+        assertThat(image.getHeight()).isEqualTo(height);
+    }
+}
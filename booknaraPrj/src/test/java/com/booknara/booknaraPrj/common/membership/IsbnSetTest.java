@@ -0,0 +1,79 @@
+package com.booknara.booknaraPrj.common.membership;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * [IsbnSetTest]
+ * 숫자 ISBN(long[]) / 예외 식별자(String[]) 두 저장소에 걸친 포함 판정과 copy-on-write 변경을 확인합니다.
+ */
+class IsbnSetTest {
+
+    @Test
+    @DisplayName("숫자 ISBN 과 전자책(_e) 등 숫자가 아닌 식별자를 모두 포함 판정한다")
+    void containsNumericAndOthers() {
+        IsbnSet set = IsbnSet.of(List.of("9788901234567", "9788901234567_e", "9791100000001"));
+
+        assertThat(set.contains("9788901234567")).isTrue();
+        assertThat(set.contains("9788901234567_e")).isTrue();
+        assertThat(set.contains("9791100000001")).isTrue();
+        assertThat(set.contains("9791100000002")).isFalse();
+        assertThat(set.contains("9791100000001_e")).isFalse();
+        assertThat(set.contains(null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("앞자리 0 이 있는 값은 숫자 값이 같은 다른 식별자와 구분된다")
+    void leadingZeroIsNotNumeric() {
+        IsbnSet set = IsbnSet.of(List.of("0123"));
+
+        assertThat(set.contains("0123")).isTrue();
+        assertThat(set.contains("123")).isFalse();
+    }
+
+    @Test
+    @DisplayName("중복·null 이 섞인 입력도 한 번씩만 담긴다")
+    void dedupesAndSkipsNull() {
+        IsbnSet set = IsbnSet.of(Arrays.asList("9788901234567", null, "9788901234567"));
+
+        assertThat(set.contains("9788901234567")).isTrue();
+        assertThat(set.without("9788901234567").contains("9788901234567")).isFalse();
+    }
+
+    @Test
+    @DisplayName("with/without 은 새 집합을 돌려주고 원래 집합은 바뀌지 않는다")
+    void copyOnWrite() {
+        IsbnSet base = IsbnSet.of(List.of("9788900000003", "9788900000001"));
+
+        IsbnSet added = base.with("9788900000002").with("X_e");
+        assertThat(added.contains("9788900000001")).isTrue();
+        assertThat(added.contains("9788900000002")).isTrue();
+        assertThat(added.contains("9788900000003")).isTrue();
+        assertThat(added.contains("X_e")).isTrue();
+        assertThat(base.contains("9788900000002")).isFalse();
+        assertThat(base.contains("X_e")).isFalse();
+
+        IsbnSet removed = added.without("9788900000001").without("X_e");
+        assertThat(removed.contains("9788900000001")).isFalse();
+        assertThat(removed.contains("X_e")).isFalse();
+        assertThat(removed.contains("9788900000002")).isTrue();
+        assertThat(added.contains("9788900000001")).isTrue();
+    }
+
+    @Test
+    @DisplayName("이미 있는 값 추가 / 없는 값 삭제는 같은 인스턴스를 돌려준다")
+    void noopChangesReturnSameInstance() {
+        IsbnSet set = IsbnSet.of(List.of("9788901234567", "A_e"));
+
+        assertThat(set.with("9788901234567")).isSameAs(set);
+        assertThat(set.with("A_e")).isSameAs(set);
+        assertThat(set.without("9788900000000")).isSameAs(set);
+        assertThat(set.without("B_e")).isSameAs(set);
+        assertThat(IsbnSet.of(List.of())).isSameAs(IsbnSet.EMPTY);
+    }
+}
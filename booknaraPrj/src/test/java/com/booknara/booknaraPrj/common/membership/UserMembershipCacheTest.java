@@ -0,0 +1,139 @@
+package com.booknara.booknaraPrj.common.membership;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * [UserMembershipCacheTest]
+ * 사용자별 북마크/장바구니 집합의 lazy 로딩, 커밋 후 write-through, 로딩 중 변경 시 결과 폐기를 확인합니다.
+ */
+class UserMembershipCacheTest {
+
+    private static final String USER = "user01";
+    private static final String ISBN_A = "9788900000001";
+    private static final String ISBN_B = "9788900000002";
+
+    private UserMembershipMapper mapper;
+    private UserMembershipCache cache;
+
+    @BeforeEach
+    void setUp() {
+        mapper = mock(UserMembershipMapper.class);
+        cache = new UserMembershipCache(mapper);
+        when(mapper.selectBookmarkedIsbns(USER)).thenReturn(List.of(ISBN_A));
+        when(mapper.selectCartIsbns(USER)).thenReturn(List.of(ISBN_B));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("첫 조회 때 한 번만 로딩하고 이후에는 캐시에서 판정한다")
+    void loadsOnce() {
+        assertThat(cache.isBookmarked(USER, ISBN_A)).isTrue();
+        assertThat(cache.isInCart(USER, ISBN_B)).isTrue();
+        assertThat(cache.isInCart(USER, ISBN_A)).isFalse();
+
+        verify(mapper, times(1)).selectBookmarkedIsbns(USER);
+        verify(mapper, times(1)).selectCartIsbns(USER);
+    }
+
+    @Test
+    @DisplayName("비로그인은 DB 조회 없이 빈 상태")
+    void anonymousIsEmpty() {
+        assertThat(cache.isBookmarked(null, ISBN_A)).isFalse();
+        assertThat(cache.isInCart(" ", ISBN_B)).isFalse();
+
+        verify(mapper, never()).selectBookmarkedIsbns(anyString());
+    }
+
+    @Test
+    @DisplayName("북마크/장바구니 변경은 캐시된 집합을 직접 갱신한다")
+    void writeThrough() {
+        cache.get(USER);
+
+        cache.bookmarkChanged(USER, ISBN_B, true);
+        cache.bookmarkChanged(USER, ISBN_A, false);
+        cache.cartChanged(USER, ISBN_A, true);
+
+        assertThat(cache.isBookmarked(USER, ISBN_A)).isFalse();
+        assertThat(cache.isBookmarked(USER, ISBN_B)).isTrue();
+        assertThat(cache.isInCart(USER, ISBN_A)).isTrue();
+
+        cache.cartCleared(USER);
+        assertThat(cache.isInCart(USER, ISBN_A)).isFalse();
+        assertThat(cache.isInCart(USER, ISBN_B)).isFalse();
+
+        verify(mapper, times(1)).selectBookmarkedIsbns(USER);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안의 변경은 커밋 후에만 반영되고, 롤백되면 반영되지 않는다")
+    void appliesAfterCommitOnly() {
+        cache.get(USER);
+
+        TransactionSynchronizationManager.initSynchronization();
+        cache.cartChanged(USER, ISBN_A, true);
+        assertThat(cache.isInCart(USER, ISBN_A)).isFalse();
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+        assertThat(cache.isInCart(USER, ISBN_A)).isFalse();
+
+        TransactionSynchronizationManager.initSynchronization();
+        cache.cartChanged(USER, ISBN_A, true);
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+        assertThat(cache.isInCart(USER, ISBN_A)).isTrue();
+    }
+
+    @Test
+    @DisplayName("evict 후에는 다음 조회에서 다시 로딩한다")
+    void evictReloads() {
+        cache.get(USER);
+        cache.evict(USER);
+        cache.get(USER);
+
+        verify(mapper, times(2)).selectBookmarkedIsbns(USER);
+    }
+
+    @Test
+    @DisplayName("로딩 도중 같은 사용자의 변경이 커밋되면 로딩 결과를 캐시에 넣지 않는다")
+    void discardsLoadRacingWithWrite() {
+        // 북마크 목록을 읽은 직후(장바구니 조회 전) 다른 요청의 장바구니 담기가 커밋된 상황
+        when(mapper.selectBookmarkedIsbns(USER)).thenAnswer(inv -> {
+            cache.cartChanged(USER, ISBN_A, true);
+            return List.of(ISBN_A);
+        });
+
+        cache.get(USER);
+        cache.get(USER);
+
+        verify(mapper, times(2)).selectCartIsbns(USER);
+    }
+
+    /** 트랜잭션 종료 흉내: 등록된 동기화 콜백 실행 후 정리 */
+    private static void complete(int status) {
+        List<TransactionSynchronization> syncs = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        for (TransactionSynchronization s : syncs) {
+            if (status == TransactionSynchronization.STATUS_COMMITTED) s.afterCommit();
+            s.afterCompletion(status);
+        }
+    }
+}
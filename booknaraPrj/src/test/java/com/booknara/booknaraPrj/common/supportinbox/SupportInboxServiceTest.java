@@ -0,0 +1,97 @@
+package com.booknara.booknaraPrj.common.supportinbox;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * [SupportInboxServiceTest]
+ * 문의/신고 upsert 전후 상태 비교로 SUPPORT_INBOX_COUNT 를 ±1 하는 규칙을 확인합니다.
+ */
+class SupportInboxServiceTest {
+
+    private SupportInboxMapper mapper;
+    private SupportInboxService service;
+
+    @BeforeEach
+    void setUp() {
+        mapper = mock(SupportInboxMapper.class);
+        service = new SupportInboxService(mapper);
+    }
+
+    @Test
+    @DisplayName("신규 문의: 락 조회 → upsert → 새 상태 칸 +1")
+    void newInquiry() {
+        when(mapper.selectStateForUpdate("I-10")).thenReturn(null);
+        when(mapper.selectState("I-10")).thenReturn("N");
+
+        service.syncInquiry("10");
+
+        InOrder order = inOrder(mapper);
+        order.verify(mapper).selectStateForUpdate("I-10");
+        order.verify(mapper).upsertInquiry("10");
+        order.verify(mapper).selectState("I-10");
+        order.verify(mapper).addCount(SupportInboxService.TYPE_INQUIRY, "N", 1);
+        verify(mapper, never()).addCount(anyString(), anyString(), eq(-1));
+    }
+
+    @Test
+    @DisplayName("답변 완료(N → Y): 이전 상태 칸 -1, 새 상태 칸 +1")
+    void answeredInquiry() {
+        when(mapper.selectStateForUpdate("I-10")).thenReturn("N");
+        when(mapper.selectState("I-10")).thenReturn("Y");
+
+        service.syncInquiry("10");
+
+        verify(mapper).addCount(SupportInboxService.TYPE_INQUIRY, "N", -1);
+        verify(mapper).addCount(SupportInboxService.TYPE_INQUIRY, "Y", 1);
+    }
+
+    @Test
+    @DisplayName("상태가 그대로인 변경(파일 첨부 등)은 건수를 건드리지 않는다")
+    void sameStateKeepsCount() {
+        when(mapper.selectStateForUpdate("I-10")).thenReturn("N");
+        when(mapper.selectState("I-10")).thenReturn("N");
+
+        service.syncInquiry("10");
+
+        verify(mapper).upsertInquiry("10");
+        verify(mapper, never()).addCount(anyString(), anyString(), anyInt());
+    }
+
+    @Test
+    @DisplayName("신고 처리(N → Y)는 R- 접두어와 REPORT 유형으로 집계한다")
+    void reportUsesOwnKeyAndType() {
+        when(mapper.selectStateForUpdate("R-7")).thenReturn("N");
+        when(mapper.selectState("R-7")).thenReturn("Y");
+
+        service.syncReport("7");
+
+        verify(mapper).upsertReport("7");
+        verify(mapper).addCount(SupportInboxService.TYPE_REPORT, "N", -1);
+        verify(mapper).addCount(SupportInboxService.TYPE_REPORT, "Y", 1);
+        verify(mapper, never()).upsertInquiry(anyString());
+    }
+
+    @Test
+    @DisplayName("신규 신고: 미처리(N) 칸 +1")
+    void newReport() {
+        when(mapper.selectStateForUpdate("R-7")).thenReturn(null);
+        when(mapper.selectState("R-7")).thenReturn("N");
+
+        service.syncReport("7");
+
+        verify(mapper).addCount(SupportInboxService.TYPE_REPORT, "N", 1);
+        verify(mapper, never()).addCount(anyString(), anyString(), eq(-1));
+    }
+}
@@ -0,0 +1,96 @@
+package com.booknara.booknaraPrj.reviewstatus.service;
+
+import com.booknara.booknaraPrj.reviewstatus.dto.ReviewStatDeltaDTO;
+import com.booknara.booknaraPrj.reviewstatus.mapper.ReviewStatusMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * [ReviewStatusServiceTest]
+ * 리뷰 작성/수정/삭제가 REVIEW_STAT 증감분(건수, 합계, 별점 분포)으로 바뀌는 규칙을 확인합니다.
+ */
+class ReviewStatusServiceTest {
+
+    private static final String ISBN = "9788901234567";
+
+    private ReviewStatusMapper mapper;
+    private ReviewStatusService service;
+
+    @BeforeEach
+    void setUp() {
+        mapper = mock(ReviewStatusMapper.class);
+        service = new ReviewStatusService(mapper);
+    }
+
+    @Test
+    @DisplayName("작성: 건수 +1, 합계 +별점, 해당 별점 칸 +1")
+    void addReview() {
+        ReviewStatDeltaDTO delta = applied(null, 4);
+
+        assertThat(delta.getIsbn13()).isEqualTo(ISBN);
+        assertThat(delta.getCntDelta()).isEqualTo(1);
+        assertThat(delta.getSumDelta()).isEqualTo(4);
+        assertThat(distribution(delta)).containsExactly(0, 0, 0, 1, 0);
+    }
+
+    @Test
+    @DisplayName("수정: 건수 그대로, 합계는 차이만큼, 이전 칸 -1 / 새 칸 +1")
+    void changeRate() {
+        ReviewStatDeltaDTO delta = applied(2, 5);
+
+        assertThat(delta.getCntDelta()).isZero();
+        assertThat(delta.getSumDelta()).isEqualTo(3);
+        assertThat(distribution(delta)).containsExactly(0, -1, 0, 0, 1);
+    }
+
+    @Test
+    @DisplayName("삭제/블라인드: 건수 -1, 합계 -별점, 해당 별점 칸 -1")
+    void removeReview() {
+        ReviewStatDeltaDTO delta = applied(3, null);
+
+        assertThat(delta.getCntDelta()).isEqualTo(-1);
+        assertThat(delta.getSumDelta()).isEqualTo(-3);
+        assertThat(distribution(delta)).containsExactly(0, 0, -1, 0, 0);
+    }
+
+    @Test
+    @DisplayName("같은 별점으로 수정하면 REVIEW_STAT 을 건드리지 않는다")
+    void sameRateIsNoop() {
+        service.applyReviewChange(ISBN, 3, 3);
+
+        verify(mapper, never()).applyDelta(any());
+    }
+
+    @Test
+    @DisplayName("1~5 밖의 별점은 거부한다")
+    void rejectOutOfRange() {
+        assertThatThrownBy(() -> service.applyReviewChange(ISBN, null, 6))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(mapper, never()).applyDelta(any());
+    }
+
+    // =========================
+    // 내부 유틸
+    // =========================
+
+    private ReviewStatDeltaDTO applied(Integer removedRate, Integer addedRate) {
+        service.applyReviewChange(ISBN, removedRate, addedRate);
+
+        ArgumentCaptor<ReviewStatDeltaDTO> captor = ArgumentCaptor.forClass(ReviewStatDeltaDTO.class);
+        verify(mapper).applyDelta(captor.capture());
+        return captor.getValue();
+    }
+
+    private static int[] distribution(ReviewStatDeltaDTO d) {
+        return new int[]{d.getRate1Delta(), d.getRate2Delta(), d.getRate3Delta(), d.getRate4Delta(), d.getRate5Delta()};
+    }
+}